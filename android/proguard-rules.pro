@@ -23,6 +23,11 @@
 
 -dontwarn com.badlogic.gdx.backends.android.AndroidFragmentApplication
 
+# The Flight Recorder and JMX probes of the core module are only installed on the desktop and terminal platforms
+-dontwarn jdk.jfr.**
+-dontwarn javax.management.**
+-dontwarn java.lang.management.**
+
 # Required if using Gdx-Controllers extension
 -keep class com.badlogic.gdx.controllers.android.AndroidControllers
 
@@ -0,0 +1,94 @@
+package it.units.sdm.project.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the basic {@link Board} operations, for each implementation, board size and fill level.
+ * Every call works on a different {@link Position}, taken in random order, so that the results are not biased by a
+ * single cached cell.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmarks {
+    private static final long SEED = 42;
+
+    @Param({BoardFixtures.MAP_BOARD, BoardFixtures.ARRAY_BOARD})
+    private String implementation;
+
+    @Param({"4", "8", "16", "26"})
+    private int boardSize;
+
+    @Param({"0", "50", "100"})
+    private int fillPercentage;
+
+    private Board<Piece> board;
+    private Position[] positions;
+    private Piece[] pieces;
+    private Position[] adjacencyPositions;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.createBoard(implementation, boardSize, fillPercentage, SEED);
+        positions = BoardFixtures.getShuffledPositions(board, SEED).toArray(new Position[0]);
+        pieces = new Piece[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            Piece piece = board.getPiece(positions[i]);
+            pieces[i] = piece != null ? piece : new Stone(Color.WHITE);
+        }
+        adjacencyPositions = BoardFixtures.getAdjacencyTestPositions(board).toArray(new Position[0]);
+    }
+
+    @Benchmark
+    public Piece getPiece() {
+        return board.getPiece(positions[nextIndex(positions.length)]);
+    }
+
+    /**
+     * Puts a {@link Piece} in a cell, and clears the cell again if it was free, so that the fill level doesn't change
+     */
+    @Benchmark
+    public void putPiece() {
+        int i = nextIndex(positions.length);
+        boolean free = board.getPiece(positions[i]) == null;
+        board.putPiece(pieces[i], positions[i]);
+        if (free) board.clearCell(positions[i]);
+    }
+
+    @Benchmark
+    public Set<Position> getAdjacentPositions() {
+        return board.getAdjacentPositions(adjacencyPositions[nextIndex(adjacencyPositions.length)]);
+    }
+
+    @Benchmark
+    public long getNumberOfFreeCells() {
+        return board.getNumberOfFreeCells();
+    }
+
+    private int nextIndex(int length) {
+        index = index + 1 < length ? index + 1 : 0;
+        return index;
+    }
+}
@@ -0,0 +1,100 @@
+package it.units.sdm.project.benchmarks;
+
+import board.providers.BoardProviders;
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.MapBoard;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class builds the {@link Board}s and the {@link Position}s the benchmarks run on, starting from the fixtures
+ * of {@link BoardProviders}.
+ */
+public final class BoardFixtures {
+    /**
+     * Name of the {@link MapBoard} implementation
+     */
+    public static final String MAP_BOARD = "MapBoard";
+    /**
+     * Name of the {@link ArrayBoard} implementation
+     */
+    public static final String ARRAY_BOARD = "ArrayBoard";
+    private static final int FULL_BOARD_PERCENTAGE = 100;
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Creates a {@link Board} filled up to the given percentage of its cells, with alternating white and black
+     * {@link Stone}s in random cells. Full boards are filled by {@link BoardProviders#fillBoardWithWhiteStones(Board)},
+     * like in the tests
+     * @param implementation The name of the {@link Board} implementation
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @param fillPercentage The percentage of occupied cells, between 0 and 100
+     * @param seed The seed choosing the occupied cells
+     * @return The new {@link Board}
+     * @throws IllegalArgumentException In case the implementation is unknown or the percentage is out of range
+     */
+    public static @NotNull Board<Piece> createBoard(@NotNull String implementation, int boardSize, int fillPercentage, long seed)
+            throws IllegalArgumentException {
+        if (fillPercentage < 0 || fillPercentage > FULL_BOARD_PERCENTAGE) {
+            throw new IllegalArgumentException("The fill percentage must be between 0 and 100");
+        }
+        Board<Piece> board;
+        if (MAP_BOARD.equals(implementation)) {
+            board = new MapBoard<>(boardSize);
+        } else if (ARRAY_BOARD.equals(implementation)) {
+            board = new ArrayBoard<>(boardSize);
+        } else {
+            throw new IllegalArgumentException("Unknown board implementation: " + implementation);
+        }
+        if (fillPercentage == FULL_BOARD_PERCENTAGE) {
+            BoardProviders.fillBoardWithWhiteStones(board);
+            return board;
+        }
+        List<Position> positions = getShuffledPositions(board, seed);
+        int numberOfStones = positions.size() * fillPercentage / FULL_BOARD_PERCENTAGE;
+        for (int i = 0; i < numberOfStones; i++) {
+            board.putPiece(new Stone(i % 2 == 0 ? Color.WHITE : Color.BLACK), positions.get(i));
+        }
+        return board;
+    }
+
+    /**
+     * Returns all the {@link Position}s of a {@link Board} in random order, so that the benchmarks don't depend on
+     * the iteration order of the implementation
+     * @param board The {@link Board}
+     * @param seed The seed of the shuffle
+     * @return The shuffled {@link Position}s
+     */
+    public static @NotNull List<Position> getShuffledPositions(@NotNull Board<?> board, long seed) {
+        List<Position> positions = new ArrayList<>(board.getPositions());
+        Collections.sort(positions);
+        Collections.shuffle(positions, new Random(seed));
+        return positions;
+    }
+
+    /**
+     * Returns the corner, side and center {@link Position}s whose adjacent {@link Position}s are checked by the tests,
+     * restricted to the ones inside the {@link Board}
+     * @param board The {@link Board}
+     * @return The {@link Position}s, at least one
+     */
+    public static @NotNull List<Position> getAdjacencyTestPositions(@NotNull Board<?> board) {
+        List<Position> positions = new ArrayList<>();
+        BoardProviders.provideStartingPositionAndAdjacent8x8BoardPositionsWithExceptionsForInvalidStartingPosition()
+                .map(arguments -> (Position) arguments.get()[0])
+                .filter(board::isPositionValidForTheBoard)
+                .forEach(positions::add);
+        return positions;
+    }
+}
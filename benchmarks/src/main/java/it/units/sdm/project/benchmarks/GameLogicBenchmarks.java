@@ -0,0 +1,77 @@
+package it.units.sdm.project.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.FreedomBoardStatusObserver;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Freedom rules evaluated after each {@link Move}: the scoring of {@link FreedomPointsCounter} and
+ * the status evaluation of {@link FreedomBoardStatusObserver}, for each board size and fill level.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameLogicBenchmarks {
+    private static final long SEED = 42;
+
+    @Param({BoardFixtures.MAP_BOARD, BoardFixtures.ARRAY_BOARD})
+    private String implementation;
+
+    @Param({"4", "8", "16", "26"})
+    private int boardSize;
+
+    @Param({"0", "50", "100"})
+    private int fillPercentage;
+
+    private FreedomPointsCounter pointsCounter;
+    private FreedomBoardStatusObserver statusObserver;
+    private Move[] lastMoves;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Board<Piece> board = BoardFixtures.createBoard(implementation, boardSize, fillPercentage, SEED);
+        pointsCounter = new FreedomPointsCounter(board);
+        statusObserver = new FreedomBoardStatusObserver(board);
+        Player player = new Player(Color.WHITE, "white");
+        List<Position> positions = BoardFixtures.getAdjacencyTestPositions(board);
+        lastMoves = new Move[positions.size()];
+        for (int i = 0; i < lastMoves.length; i++) {
+            lastMoves[i] = new Move(player, positions.get(i));
+        }
+    }
+
+    @Benchmark
+    public int getPlayerScore() {
+        return pointsCounter.getPlayerScore(Color.WHITE);
+    }
+
+    @Benchmark
+    public GameStatus getCurrentGameStatus() {
+        index = index + 1 < lastMoves.length ? index + 1 : 0;
+        return statusObserver.getCurrentGameStatus(lastMoves[index]);
+    }
+}
@@ -0,0 +1,124 @@
+package it.units.sdm.project.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.kotcrab.vis.ui.VisUI;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.gui.GuiBoard;
+import it.units.sdm.project.board.gui.GuiStone;
+import it.units.sdm.project.game.gui.FreedomCellHighlighter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static board.gui.providers.GuiBoardProviders.fillBoardWithWhiteGuiStones;
+
+/**
+ * Benchmarks of the {@link GuiBoard} operations and of the {@link FreedomCellHighlighter}, on the board sizes
+ * allowed by the GUI. Every call works on a different {@link Position}, taken in random order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Mockito, which mocks the OpenGL context of the headless application, needs reflective access on newer JVMs
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+@State(Scope.Thread)
+public class GuiBoardBenchmarks {
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_HIGHLIGHT_SETS = 16;
+    // The most cells highlighted at once, when a stone in the middle of the board has all its neighbours free
+    private static final int MAX_NUMBER_OF_HIGHLIGHTED_CELLS = 8;
+
+    @Param({"4", "8", "12"})
+    private int boardSize;
+
+    @Param({"0", "100"})
+    private int fillPercentage;
+
+    private GuiBoard<GuiStone> board;
+    private FreedomCellHighlighter cellHighlighter;
+    private Position[] positions;
+    private GuiStone[] stones;
+    private List<Set<Position>> highlightSets;
+    private int index;
+
+    @Setup
+    public void setUp(HeadlessApplicationState applicationState) {
+        board = new GuiBoard<>(boardSize);
+        if (fillPercentage == 100) fillBoardWithWhiteGuiStones(board, VisUI.getSkin().getRegion("white_checker"));
+        cellHighlighter = new FreedomCellHighlighter(board);
+        List<Position> shuffledPositions = BoardFixtures.getShuffledPositions(board, SEED);
+        positions = shuffledPositions.toArray(new Position[0]);
+        stones = new GuiStone[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            GuiStone stone = board.getPiece(positions[i]);
+            stones[i] = stone != null ? stone : applicationState.createStone(i % 2 == 0 ? Color.WHITE : Color.BLACK);
+        }
+        Random random = new Random(SEED);
+        highlightSets = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_HIGHLIGHT_SETS; i++) {
+            Set<Position> highlightSet = new HashSet<>();
+            while (highlightSet.size() < Math.min(MAX_NUMBER_OF_HIGHLIGHTED_CELLS, positions.length)) {
+                highlightSet.add(positions[random.nextInt(positions.length)]);
+            }
+            highlightSets.add(highlightSet);
+        }
+    }
+
+    @Benchmark
+    public GuiStone getPiece() {
+        return board.getPiece(positions[nextIndex(positions.length)]);
+    }
+
+    /**
+     * Puts a {@link GuiStone} in a cell, and clears the cell again if it was free, so that the fill level doesn't change
+     */
+    @Benchmark
+    public void putPiece() {
+        int i = nextIndex(positions.length);
+        boolean free = board.getPiece(positions[i]) == null;
+        board.putPiece(stones[i], positions[i]);
+        if (free) board.clearCell(positions[i]);
+    }
+
+    /**
+     * Clears a cell, and puts its {@link GuiStone} back if it was occupied, so that the fill level doesn't change
+     */
+    @Benchmark
+    public void clearCell() {
+        int i = nextIndex(positions.length);
+        GuiStone stone = board.getPiece(positions[i]);
+        board.clearCell(positions[i]);
+        if (stone != null) board.putPiece(stone, positions[i]);
+    }
+
+    /**
+     * Highlights the legal {@link Position}s after a {@link it.units.sdm.project.game.Move}, and resets them before
+     * the next one, like the GUI does
+     */
+    @Benchmark
+    public void highlightPositions() {
+        cellHighlighter.resetCurrentlyHighlightedCellsIfAny();
+        cellHighlighter.highlightPositions(highlightSets.get(nextIndex(highlightSets.size())));
+    }
+
+    private int nextIndex(int length) {
+        index = index + 1 < length ? index + 1 : 0;
+        return index;
+    }
+}
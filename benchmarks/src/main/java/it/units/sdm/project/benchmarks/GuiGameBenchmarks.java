@@ -0,0 +1,75 @@
+package it.units.sdm.project.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.gui.GuiBoard;
+import it.units.sdm.project.board.gui.GuiStone;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.gui.FreedomCellHighlighter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static utility.FreedomRandomMovesUtils.playRandomMove;
+
+/**
+ * Benchmark of a whole game played on a {@link GuiBoard}, doing the same work as
+ * {@link it.units.sdm.project.game.gui.FreedomGame} for each {@link it.units.sdm.project.game.Move}: the previous
+ * highlighting is reset, the {@link it.units.sdm.project.game.Move} is played by the {@link FreedomEngine}, and the
+ * legal {@link Position}s are highlighted when the next {@link Player} has no freedom. The {@link Position}s are
+ * chosen at random among the legal ones, and the game is reset at the beginning of each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Mockito, which mocks the OpenGL context of the headless application, needs reflective access on newer JVMs
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+@State(Scope.Thread)
+public class GuiGameBenchmarks {
+    private static final long SEED = 42;
+
+    @Param({"4", "8", "12"})
+    private int boardSize;
+
+    private FreedomEngine<GuiStone> engine;
+    private FreedomCellHighlighter cellHighlighter;
+    private Random random;
+
+    @Setup
+    public void setUp(HeadlessApplicationState applicationState) {
+        GuiBoard<GuiStone> board = new GuiBoard<>(boardSize);
+        engine = new FreedomEngine<>(board, new Player(Color.WHITE, "player_one"), new Player(Color.BLACK, "player_two"),
+                applicationState::createStone);
+        cellHighlighter = new FreedomCellHighlighter(board);
+        random = new Random(SEED);
+    }
+
+    @Benchmark
+    public int playGame() {
+        engine.reset();
+        cellHighlighter.resetCurrentlyHighlightedCellsIfAny();
+        while (engine.getGameStatus() != GameStatus.GAME_OVER) {
+            cellHighlighter.resetCurrentlyHighlightedCellsIfAny();
+            playRandomMove(engine, random);
+            GameStatus gameStatus = engine.getGameStatus();
+            if (gameStatus == GameStatus.NO_FREEDOM || gameStatus == GameStatus.LAST_MOVE) {
+                cellHighlighter.highlightPositions(engine.getLegalPositions());
+            }
+        }
+        return engine.getNumberOfMoves();
+    }
+}
@@ -0,0 +1,46 @@
+package it.units.sdm.project.benchmarks;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.graphics.Color;
+import com.kotcrab.vis.ui.VisUI;
+import it.units.sdm.project.board.gui.GuiStone;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static utility.FreedomHeadlessApplicationUtils.initHeadlessApplication;
+
+/**
+ * The libGDX headless application the GUI benchmarks run in, booted like in the GUI tests by
+ * {@link utility.FreedomHeadlessApplicationUtils#initHeadlessApplication(String)}, so that the
+ * {@link com.badlogic.gdx.scenes.scene2d} widgets can be created without a display. The atlas is read from the
+ * working directory, so the benchmarks must be run from the {@code assets} directory.
+ */
+@State(Scope.Benchmark)
+public class HeadlessApplicationState {
+    private static final String ATLAS_FILE_PATH = "freedom.atlas";
+    private HeadlessApplication application;
+
+    @Setup
+    public void setUp() {
+        application = initHeadlessApplication(ATLAS_FILE_PATH);
+    }
+
+    @TearDown
+    public void tearDown() {
+        VisUI.dispose();
+        application.exit();
+    }
+
+    /**
+     * Creates a new {@link GuiStone} with the texture of the game
+     * @param color The {@link Color} of the {@link GuiStone}
+     * @return The new {@link GuiStone}
+     */
+    public @NotNull GuiStone createStone(@NotNull Color color) {
+        String region = color == Color.WHITE ? "white_checker" : "black_checker";
+        return new GuiStone(color, VisUI.getSkin().getRegion(region));
+    }
+}
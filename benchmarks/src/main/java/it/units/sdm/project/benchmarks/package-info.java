@@ -0,0 +1,5 @@
+/**
+ * Contains the <a href="https://github.com/openjdk/jmh">JMH</a> benchmarks of the hot paths of the core module.
+ * The boards are built from the same fixtures the core tests use, so the results reflect the tested cases.
+ */
+package it.units.sdm.project.benchmarks;
@@ -0,0 +1,148 @@
+package it.units.sdm.project.board;
+
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class holds the precomputed adjacency information for all the cells of a square {@link Board} of a given size.
+ * Cells are identified by their index in row-major order, that is {@code row * boardSize + column}.
+ * Tables are immutable, built only once for each {@link Board} size and shared by all the {@link Board}s of that size,
+ * so iterating over the neighbours of a cell doesn't allocate any object:
+ * <pre>{@code
+ * AdjacencyTable table = board.getAdjacencyTable();
+ * int cellIndex = table.toCellIndex(position);
+ * for (int i = 0; i < table.getNumberOfAdjacentCells(cellIndex); i++) {
+ *     Position adjacentPosition = table.getAdjacentPosition(cellIndex, i);
+ * }
+ * }</pre>
+ */
+public final class AdjacencyTable {
+
+    private static final BoardSizeCache<AdjacencyTable> TABLES = new BoardSizeCache<>(AdjacencyTable::new);
+    private final int boardSize;
+    @NotNull
+    private final int[] firstAdjacentCellOffsets;
+    @NotNull
+    private final int[] adjacentCells;
+    @NotNull
+    private final Position[] adjacentPositions;
+
+    private AdjacencyTable(int boardSize) {
+        this.boardSize = boardSize;
+        int numberOfCells = boardSize * boardSize;
+        firstAdjacentCellOffsets = new int[numberOfCells + 1];
+        int[] cells = new int[numberOfCells * 8];
+        int numberOfAdjacentCells = 0;
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            firstAdjacentCellOffsets[cellIndex] = numberOfAdjacentCells;
+            int row = cellIndex / boardSize;
+            int column = cellIndex % boardSize;
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    if ((i != 0 || j != 0) && isInside(row + i, column + j)) {
+                        cells[numberOfAdjacentCells++] = (row + i) * boardSize + column + j;
+                    }
+                }
+            }
+        }
+        firstAdjacentCellOffsets[numberOfCells] = numberOfAdjacentCells;
+        adjacentCells = new int[numberOfAdjacentCells];
+        adjacentPositions = new Position[numberOfAdjacentCells];
+        for (int i = 0; i < numberOfAdjacentCells; i++) {
+            adjacentCells[i] = cells[i];
+            adjacentPositions[i] = toPosition(cells[i]);
+        }
+    }
+
+    /**
+     * Returns the {@link AdjacencyTable} for {@link Board}s of the chosen size.
+     * The table is built the first time it's requested, and then the same instance is returned.
+     *
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @return The shared {@link AdjacencyTable} instance
+     * @throws InvalidBoardSizeException In case the size is outside the allowed range of [2, 26]
+     */
+    public static @NotNull AdjacencyTable forBoardSize(int boardSize) throws InvalidBoardSizeException {
+        return TABLES.get(boardSize);
+    }
+
+    private boolean isInside(int row, int column) {
+        return row >= 0 && column >= 0 && row < boardSize && column < boardSize;
+    }
+
+    /**
+     * Returns the number of rows and columns of the {@link Board}s this table refers to
+     *
+     * @return The {@link Board} size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns the number of cells of the {@link Board}s this table refers to
+     *
+     * @return The number of cells
+     */
+    public int getNumberOfCells() {
+        return boardSize * boardSize;
+    }
+
+    /**
+     * Converts a {@link Position} to the index of the corresponding cell
+     *
+     * @param position The {@link Position} to convert
+     * @return The cell index, in row-major order
+     * @throws InvalidPositionException In case the {@link Position} is outside of {@link Board} bounds
+     */
+    public int toCellIndex(@NotNull Position position) throws InvalidPositionException {
+        if (!isInside(position.getRow(), position.getColumn())) {
+            throw new InvalidPositionException("Invalid board position!");
+        }
+        return position.getRow() * boardSize + position.getColumn();
+    }
+
+    /**
+     * Converts a cell index to the corresponding {@link Position}
+     *
+     * @param cellIndex The cell index, in row-major order
+     * @return The {@link Position} of the cell
+     */
+    public @NotNull Position toPosition(int cellIndex) {
+        return Position.fromCoordinates(cellIndex / boardSize, cellIndex % boardSize);
+    }
+
+    /**
+     * Returns the number of cells adjacent to the chosen cell, which is 3 for corner cells,
+     * 5 for cells on the {@link Board} sides and 8 otherwise
+     *
+     * @param cellIndex The cell index
+     * @return The number of adjacent cells
+     */
+    public int getNumberOfAdjacentCells(int cellIndex) {
+        return firstAdjacentCellOffsets[cellIndex + 1] - firstAdjacentCellOffsets[cellIndex];
+    }
+
+    /**
+     * Returns the index of the n-th cell adjacent to the chosen cell
+     *
+     * @param cellIndex The cell index
+     * @param n         The adjacent cell number, between 0 and {@link AdjacencyTable#getNumberOfAdjacentCells(int)} excluded
+     * @return The index of the adjacent cell
+     */
+    public int getAdjacentCell(int cellIndex, int n) {
+        return adjacentCells[firstAdjacentCellOffsets[cellIndex] + n];
+    }
+
+    /**
+     * Returns the {@link Position} of the n-th cell adjacent to the chosen cell
+     *
+     * @param cellIndex The cell index
+     * @param n         The adjacent cell number, between 0 and {@link AdjacencyTable#getNumberOfAdjacentCells(int)} excluded
+     * @return The {@link Position} of the adjacent cell
+     */
+    public @NotNull Position getAdjacentPosition(int cellIndex, int n) {
+        return adjacentPositions[firstAdjacentCellOffsets[cellIndex] + n];
+    }
+}
@@ -0,0 +1,167 @@
+package it.units.sdm.project.board;
+
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * This class represents an implementation of the {@link Board} interface using a flat array to hold
+ * information about the pieces {@link P} that are on this {@link Board}. The cells are stored in row-major order,
+ * so the piece on a {@link Position} is found at index {@code row * boardSize + column}.
+ * Compared to {@link MapBoard}, every cell access is a constant-time array lookup, which makes this implementation
+ * better suited for simulations where the same {@link Board} is queried many times.
+ *
+ * @param <P> The type of piece to be put on this {@link Board}.
+ */
+public class ArrayBoard<P extends Piece> implements Board<P> {
+
+    private static final String INVALID_BOARD_POSITION_MESSAGE = "Invalid board position";
+    @NotNull
+    private final Object[] cells;
+    @NotNull
+    private final SortedSet<Position> positions;
+    private final int boardSize;
+    private int numberOfOccupiedCells;
+    private long modificationCount;
+    private long zobristHash;
+    @NotNull
+    private final ZobristKeys zobristKeys;
+
+    /**
+     * Creates a new {@link Board} instance with a flat array implementation.
+     * This implementation allows only square {@link Board}s, with the maximum and minimum size limits specified by the
+     * {@link Board#MIN_BOARD_SIZE} and {@link Board#MAX_BOARD_SIZE} fields.
+     *
+     * @param boardSize The number of rows and columns on the {@link Board}
+     * @throws InvalidBoardSizeException In case the {@link Board} size is outside the allowed range of [2, 26]
+     */
+    public ArrayBoard(int boardSize) throws InvalidBoardSizeException {
+        if (!isBoardSizeValid(boardSize)) {
+            throw new InvalidBoardSizeException(
+                    "The size of the board must be at least " + Board.MIN_BOARD_SIZE + "x" + Board.MIN_BOARD_SIZE
+                            + " and at most " + Board.MAX_BOARD_SIZE + "x" + Board.MAX_BOARD_SIZE);
+        }
+        this.boardSize = boardSize;
+        this.cells = new Object[boardSize * boardSize];
+        this.zobristKeys = ZobristKeys.forBoardSize(boardSize);
+        this.positions = Collections.unmodifiableSortedSet(initPositions());
+    }
+
+    private @NotNull SortedSet<Position> initPositions() {
+        SortedSet<Position> boardPositions = new TreeSet<>();
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                boardPositions.add(Position.fromCoordinates(i, j));
+            }
+        }
+        return boardPositions;
+    }
+
+    private int toCellIndex(@NotNull Position position) throws InvalidPositionException {
+        int row = position.getRow();
+        int column = position.getColumn();
+        if (row >= boardSize || column >= boardSize) {
+            throw new InvalidPositionException(INVALID_BOARD_POSITION_MESSAGE);
+        }
+        return row * boardSize + column;
+    }
+
+    @Override
+    public void clearCell(@NotNull Position position) throws InvalidPositionException {
+        int cellIndex = toCellIndex(position);
+        if (cells[cellIndex] != null) {
+            numberOfOccupiedCells--;
+            zobristHash ^= getZobristKey(cellIndex);
+        }
+        cells[cellIndex] = null;
+        modificationCount++;
+    }
+
+    @Override
+    public void putPiece(@NotNull P piece, @NotNull Position position) throws InvalidPositionException {
+        int cellIndex = toCellIndex(position);
+        if (cells[cellIndex] == null) {
+            numberOfOccupiedCells++;
+        } else {
+            zobristHash ^= getZobristKey(cellIndex);
+        }
+        cells[cellIndex] = piece;
+        zobristHash ^= getZobristKey(cellIndex);
+        modificationCount++;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public P getPiece(@NotNull Position position) throws InvalidPositionException {
+        return (P) cells[toCellIndex(position)];
+    }
+
+    @Override
+    public void clearBoard() {
+        Arrays.fill(cells, null);
+        numberOfOccupiedCells = 0;
+        zobristHash = 0;
+        modificationCount++;
+    }
+
+    private long getZobristKey(int cellIndex) {
+        return zobristKeys.getStoneKey(((Piece) cells[cellIndex]).getPieceColor(), cellIndex);
+    }
+
+    /**
+     * Returns the number of unoccupied cells. The number of occupied cells is updated every time a piece {@link P}
+     * is put on or removed from {@code this} {@link Board}, so this method runs in constant time
+     *
+     * @return The number of unoccupied cells
+     */
+    @Override
+    public long getNumberOfFreeCells() {
+        return (long) cells.length - numberOfOccupiedCells;
+    }
+
+    @Override
+    public int getSize() {
+        return boardSize;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Generates a {@link String} representation of the {@link Board}, identical to the one of a {@link MapBoard}
+     * with the same pieces. The {@link Piece}s used must have a single character string representation
+     * by overriding the {@link Object#toString()}.
+     *
+     * @return The {@link Board}'s {@link String} representation
+     */
+    @Override
+    public String toString() {
+        return BoardPrinter.print(this, boardSize);
+    }
+
+    /**
+     * Returns all the {@link Position}s on this {@link Board}, ordered according to the {@link Position} ordering
+     *
+     * @return An unmodifiable {@link Set} of all the {@link Board} {@link Position}s
+     */
+    @NotNull
+    @Override
+    public Set<Position> getPositions() {
+        return positions;
+    }
+}
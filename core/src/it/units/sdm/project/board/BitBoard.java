@@ -0,0 +1,400 @@
+package it.units.sdm.project.board;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * This class represents an implementation of the {@link Board} interface for two-colour {@link Stone}s, where
+ * the {@link Color#WHITE} and {@link Color#BLACK} stones are each stored in a bitset. The cells are numbered in
+ * row-major order, so the cell on a {@link Position} has index {@code row * boardSize + column}, and every bitset
+ * is a {@code long[]} where cell {@code i} is bit {@code i % 64} of word {@code i / 64}.
+ * Besides the {@link Board} interface, this class provides a primitive API working on cell indexes and bitmasks,
+ * so that occupancy tests, free cell counts and neighbour masks can be computed with word-wide bit operations.
+ * The bitmasks accepted and returned by this API must have a length of at least {@link BitBoard#getNumberOfWords()}.
+ */
+public class BitBoard implements Board<Stone> {
+
+    private static final String INVALID_BOARD_POSITION_MESSAGE = "Invalid board position";
+    private static final Stone WHITE_STONE = new Stone(Color.WHITE);
+    private static final Stone BLACK_STONE = new Stone(Color.BLACK);
+    private static final int BITS_PER_WORD = 64;
+    private final int boardSize;
+    private final int numberOfCells;
+    private long modificationCount;
+    private long zobristHash;
+    @NotNull
+    private final ZobristKeys zobristKeys;
+    @NotNull
+    private final long[] whiteStones;
+    @NotNull
+    private final long[] blackStones;
+    @NotNull
+    private final long[] boardCells;
+    @NotNull
+    private final long[] cellsNotInFirstColumn;
+    @NotNull
+    private final long[] cellsNotInLastColumn;
+    @NotNull
+    private final long[] dilatedCells;
+    @NotNull
+    private final SortedSet<Position> positions;
+
+    /**
+     * Creates a new {@link Board} instance with a bitset implementation.
+     * This implementation allows only square {@link Board}s, with the maximum and minimum size limits specified by the
+     * {@link Board#MIN_BOARD_SIZE} and {@link Board#MAX_BOARD_SIZE} fields.
+     *
+     * @param boardSize The number of rows and columns on the {@link Board}
+     * @throws InvalidBoardSizeException In case the {@link Board} size is outside the allowed range of [2, 26]
+     */
+    public BitBoard(int boardSize) throws InvalidBoardSizeException {
+        if (!isBoardSizeValid(boardSize)) {
+            throw new InvalidBoardSizeException(
+                    "The size of the board must be at least " + Board.MIN_BOARD_SIZE + "x" + Board.MIN_BOARD_SIZE
+                            + " and at most " + Board.MAX_BOARD_SIZE + "x" + Board.MAX_BOARD_SIZE);
+        }
+        this.boardSize = boardSize;
+        this.numberOfCells = boardSize * boardSize;
+        this.zobristKeys = ZobristKeys.forBoardSize(boardSize);
+        int numberOfWords = (numberOfCells + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        whiteStones = new long[numberOfWords];
+        blackStones = new long[numberOfWords];
+        boardCells = new long[numberOfWords];
+        cellsNotInFirstColumn = new long[numberOfWords];
+        cellsNotInLastColumn = new long[numberOfWords];
+        dilatedCells = new long[numberOfWords];
+        initCellMasks();
+        positions = Collections.unmodifiableSortedSet(initPositions());
+    }
+
+    private void initCellMasks() {
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            setBit(boardCells, cellIndex);
+            int column = cellIndex % boardSize;
+            if (column != 0) setBit(cellsNotInFirstColumn, cellIndex);
+            if (column != boardSize - 1) setBit(cellsNotInLastColumn, cellIndex);
+        }
+    }
+
+    private @NotNull SortedSet<Position> initPositions() {
+        SortedSet<Position> boardPositions = new TreeSet<>();
+        for (int i = 0; i < boardSize; i++) {
+            for (int j = 0; j < boardSize; j++) {
+                boardPositions.add(Position.fromCoordinates(i, j));
+            }
+        }
+        return boardPositions;
+    }
+
+    /**
+     * Returns the number of {@code long} words used by every bitmask of {@code this} {@link BitBoard}
+     *
+     * @return The number of words of a bitmask
+     */
+    public int getNumberOfWords() {
+        return boardCells.length;
+    }
+
+    /**
+     * Returns the number of cells on {@code this} {@link BitBoard}
+     *
+     * @return The number of cells, equal to the square of the {@link Board} size
+     */
+    public int getNumberOfCells() {
+        return numberOfCells;
+    }
+
+    /**
+     * Converts a {@link Position} to the index of the corresponding cell
+     *
+     * @param position The {@link Position} to convert
+     * @return The cell index, in row-major order
+     * @throws InvalidPositionException In case the {@link Position} is outside of {@link Board} bounds
+     */
+    public int toCellIndex(@NotNull Position position) throws InvalidPositionException {
+        int row = position.getRow();
+        int column = position.getColumn();
+        if (row >= boardSize || column >= boardSize) {
+            throw new InvalidPositionException(INVALID_BOARD_POSITION_MESSAGE);
+        }
+        return row * boardSize + column;
+    }
+
+    /**
+     * Converts a cell index to the corresponding {@link Position}
+     *
+     * @param cellIndex The cell index, in row-major order
+     * @return The {@link Position} of the cell
+     */
+    public @NotNull Position toPosition(int cellIndex) {
+        return Position.fromCoordinates(cellIndex / boardSize, cellIndex % boardSize);
+    }
+
+    @Override
+    public void clearCell(@NotNull Position position) throws InvalidPositionException {
+        clearCell(toCellIndex(position));
+    }
+
+    /**
+     * Removes the {@link Stone} from the chosen cell, if any
+     *
+     * @param cellIndex The index of the cell to clear
+     */
+    public void clearCell(int cellIndex) {
+        Color color = getStoneColor(cellIndex);
+        if (color != null) zobristHash ^= zobristKeys.getStoneKey(color, cellIndex);
+        clearBit(whiteStones, cellIndex);
+        clearBit(blackStones, cellIndex);
+        modificationCount++;
+    }
+
+    @Override
+    public void putPiece(@NotNull Stone piece, @NotNull Position position) throws InvalidPositionException {
+        putStone(piece.getPieceColor(), toCellIndex(position));
+    }
+
+    /**
+     * Puts a {@link Stone} of the chosen {@link Color} on the chosen cell, replacing the previous one if any
+     *
+     * @param color     The {@link Stone}'s {@link Color}, either {@link Color#WHITE} or {@link Color#BLACK}
+     * @param cellIndex The index of the cell
+     */
+    public void putStone(@NotNull Color color, int cellIndex) {
+        Color previousColor = getStoneColor(cellIndex);
+        if (previousColor != null) zobristHash ^= zobristKeys.getStoneKey(previousColor, cellIndex);
+        zobristHash ^= zobristKeys.getStoneKey(color, cellIndex);
+        if (color == Color.WHITE) {
+            clearBit(blackStones, cellIndex);
+            setBit(whiteStones, cellIndex);
+        } else {
+            clearBit(whiteStones, cellIndex);
+            setBit(blackStones, cellIndex);
+        }
+        modificationCount++;
+    }
+
+    @Override
+    public @Nullable Stone getPiece(@NotNull Position position) throws InvalidPositionException {
+        Color color = getStoneColor(toCellIndex(position));
+        if (color == null) return null;
+        return color == Color.WHITE ? WHITE_STONE : BLACK_STONE;
+    }
+
+    /**
+     * Returns the {@link Color} of the {@link Stone} on the chosen cell
+     *
+     * @param cellIndex The index of the cell
+     * @return The {@link Stone}'s {@link Color}, or {@code null} if the cell is free
+     */
+    public @Nullable Color getStoneColor(int cellIndex) {
+        if (isBitSet(whiteStones, cellIndex)) return Color.WHITE;
+        if (isBitSet(blackStones, cellIndex)) return Color.BLACK;
+        return null;
+    }
+
+    /**
+     * Checks whether the chosen cell is occupied
+     *
+     * @param cellIndex The index of the cell
+     * @return {@code true} if the cell is occupied, {@code false} otherwise
+     */
+    public boolean isCellOccupied(int cellIndex) {
+        return isBitSet(whiteStones, cellIndex) || isBitSet(blackStones, cellIndex);
+    }
+
+    @Override
+    public boolean isCellOccupied(@NotNull Position position) throws InvalidPositionException {
+        return isCellOccupied(toCellIndex(position));
+    }
+
+    @Override
+    public void clearBoard() {
+        Arrays.fill(whiteStones, 0L);
+        Arrays.fill(blackStones, 0L);
+        zobristHash = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the {@link Stone}s of this {@link BitBoard} with the {@link Piece}s of another {@link Board},
+     * keeping only their {@link Color}
+     *
+     * @param sourceBoard The {@link Board} whose {@link Piece}s are copied
+     * @throws InvalidBoardSizeException In case the {@link Board} has a different size
+     */
+    public void copyPieces(@NotNull Board<? extends Piece> sourceBoard) throws InvalidBoardSizeException {
+        if (sourceBoard.getSize() != boardSize) {
+            throw new InvalidBoardSizeException("The board must be " + boardSize + "x" + boardSize);
+        }
+        clearBoard();
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            Piece piece = sourceBoard.getPiece(toPosition(cellIndex));
+            if (piece != null) putStone(piece.getPieceColor(), cellIndex);
+        }
+    }
+
+    @Override
+    public long getNumberOfFreeCells() {
+        int occupiedCells = 0;
+        for (int i = 0; i < boardCells.length; i++) {
+            occupiedCells += Long.bitCount(whiteStones[i] | blackStones[i]);
+        }
+        return (long) numberOfCells - occupiedCells;
+    }
+
+    @Override
+    public boolean areAdjacentCellsOccupied(@NotNull Position position) throws InvalidPositionException {
+        int cellIndex = toCellIndex(position);
+        int row = cellIndex / boardSize;
+        int column = cellIndex % boardSize;
+        for (int i = Math.max(row - 1, 0); i <= Math.min(row + 1, boardSize - 1); i++) {
+            for (int j = Math.max(column - 1, 0); j <= Math.min(column + 1, boardSize - 1); j++) {
+                int adjacentCellIndex = i * boardSize + j;
+                if (adjacentCellIndex != cellIndex && !isCellOccupied(adjacentCellIndex)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the bitmask of the occupied cells into the destination bitmask
+     *
+     * @param destination The bitmask where the occupied cells will be copied
+     */
+    public void copyOccupiedCells(@NotNull long[] destination) {
+        for (int i = 0; i < boardCells.length; i++) {
+            destination[i] = whiteStones[i] | blackStones[i];
+        }
+    }
+
+    /**
+     * Copies the bitmask of the free cells into the destination bitmask
+     *
+     * @param destination The bitmask where the free cells will be copied
+     */
+    public void copyFreeCells(@NotNull long[] destination) {
+        for (int i = 0; i < boardCells.length; i++) {
+            destination[i] = boardCells[i] & ~(whiteStones[i] | blackStones[i]);
+        }
+    }
+
+    /**
+     * Copies the bitmask of the cells occupied by the {@link Stone}s of the chosen {@link Color}
+     * into the destination bitmask
+     *
+     * @param color       The {@link Stone}s' {@link Color}, either {@link Color#WHITE} or {@link Color#BLACK}
+     * @param destination The bitmask where the cells will be copied
+     */
+    public void copyStones(@NotNull Color color, @NotNull long[] destination) {
+        long[] stones = color == Color.WHITE ? whiteStones : blackStones;
+        System.arraycopy(stones, 0, destination, 0, boardCells.length);
+    }
+
+    /**
+     * Computes the bitmask of the cells adjacent to the chosen cell
+     *
+     * @param cellIndex   The index of the cell
+     * @param destination The bitmask where the adjacent cells will be stored
+     */
+    public void copyAdjacentCells(int cellIndex, @NotNull long[] destination) {
+        Arrays.fill(destination, 0, boardCells.length, 0L);
+        setBit(destination, cellIndex);
+        dilate(destination, destination);
+        clearBit(destination, cellIndex);
+    }
+
+    /**
+     * Computes the bitmask of all the cells that are adjacent to at least one of the cells in the source bitmask,
+     * by shifting the whole source bitmask in each of the 8 directions.
+     * The result may contain cells of the source bitmask as well, if they're adjacent to each other.
+     * The source and destination bitmasks may be the same array.
+     *
+     * @param source      The bitmask of the starting cells
+     * @param destination The bitmask where the adjacent cells will be stored
+     */
+    public void dilate(@NotNull long[] source, @NotNull long[] destination) {
+        Arrays.fill(dilatedCells, 0L);
+        // the same row
+        addShiftedCells(source, 1, cellsNotInFirstColumn);
+        addShiftedCells(source, -1, cellsNotInLastColumn);
+        // the row above
+        addShiftedCells(source, boardSize, boardCells);
+        addShiftedCells(source, boardSize + 1, cellsNotInFirstColumn);
+        addShiftedCells(source, boardSize - 1, cellsNotInLastColumn);
+        // the row below
+        addShiftedCells(source, -boardSize, boardCells);
+        addShiftedCells(source, -boardSize - 1, cellsNotInLastColumn);
+        addShiftedCells(source, -boardSize + 1, cellsNotInFirstColumn);
+        System.arraycopy(dilatedCells, 0, destination, 0, dilatedCells.length);
+    }
+
+    /**
+     * Shifts the source bitmask by the chosen amount of cells, keeps only the cells of the allowed bitmask,
+     * which filters out the bits that wrapped around a row, and adds the result to {@link BitBoard#dilatedCells}.
+     * A positive shift moves every cell towards higher cell indexes.
+     */
+    private void addShiftedCells(@NotNull long[] source, int shift, @NotNull long[] allowedCells) {
+        int numberOfWords = dilatedCells.length;
+        if (shift > 0) {
+            for (int i = numberOfWords - 1; i >= 0; i--) {
+                long lowerWord = i > 0 ? source[i - 1] : 0L;
+                long shiftedWord = (source[i] << shift) | (lowerWord >>> (BITS_PER_WORD - shift));
+                dilatedCells[i] |= shiftedWord & allowedCells[i];
+            }
+        } else {
+            int amount = -shift;
+            for (int i = 0; i < numberOfWords; i++) {
+                long higherWord = i < numberOfWords - 1 ? source[i + 1] : 0L;
+                long shiftedWord = (source[i] >>> amount) | (higherWord << (BITS_PER_WORD - amount));
+                dilatedCells[i] |= shiftedWord & allowedCells[i];
+            }
+        }
+    }
+
+    private static void setBit(@NotNull long[] bitmask, int bitIndex) {
+        bitmask[bitIndex / BITS_PER_WORD] |= 1L << (bitIndex % BITS_PER_WORD);
+    }
+
+    private static void clearBit(@NotNull long[] bitmask, int bitIndex) {
+        bitmask[bitIndex / BITS_PER_WORD] &= ~(1L << (bitIndex % BITS_PER_WORD));
+    }
+
+    private static boolean isBitSet(@NotNull long[] bitmask, int bitIndex) {
+        return (bitmask[bitIndex / BITS_PER_WORD] & (1L << (bitIndex % BITS_PER_WORD))) != 0;
+    }
+
+    @Override
+    public int getSize() {
+        return boardSize;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    @Override
+    public String toString() {
+        return BoardPrinter.print(this, boardSize);
+    }
+
+    @NotNull
+    @Override
+    public Set<Position> getPositions() {
+        return positions;
+    }
+}
@@ -50,6 +50,34 @@ public interface Board<P extends Piece> {
      */
     @Nullable P getPiece(@NotNull Position position) throws InvalidPositionException;
 
+    /**
+     * Returns the number of rows and columns of this {@link Board}
+     *
+     * @return The {@link Board} size
+     */
+    int getSize();
+
+    /**
+     * Returns the number of times the content of this {@link Board} was modified, that is how many times a piece {@link P}
+     * was put on or removed from it, or the {@link Board} was cleared. As long as the returned value doesn't change,
+     * the {@link Board} is unchanged, so any information derived from it can be safely cached
+     *
+     * @return The number of modifications made to this {@link Board}
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the Zobrist hash of the pieces on this {@link Board}, that is the XOR of the {@link ZobristKeys} of each
+     * piece {@link P}'s {@link com.badlogic.gdx.graphics.Color} and cell. The hash is updated in constant time every
+     * time a piece {@link P} is put on or removed from this {@link Board}, and two {@link Board}s of the same size
+     * holding pieces of the same {@link com.badlogic.gdx.graphics.Color}s on the same cells have the same hash,
+     * whatever their implementation
+     *
+     * @return The Zobrist hash of the pieces, or 0 if this {@link Board} is empty
+     * @see ZobristKeys#getPositionHash(long, int, boolean, boolean)
+     */
+    long getZobristHash();
+
     /**
      * Returns all the {@link Position}s on this {@link Board}
      *
@@ -96,48 +124,66 @@ public interface Board<P extends Piece> {
      * @throws InvalidPositionException In the case the chosen {@link Position} is outside of {@link Board} bounds
      */
     default boolean areAdjacentCellsOccupied(@NotNull Position position) throws InvalidPositionException {
-        return getAdjacentPositions(position).stream()
-                .allMatch(this::isCellOccupied);
+        AdjacencyTable adjacencyTable = getAdjacencyTable();
+        int cellIndex = adjacencyTable.toCellIndex(position);
+        for (int i = 0; i < adjacencyTable.getNumberOfAdjacentCells(cellIndex); i++) {
+            if (!isCellOccupied(adjacencyTable.getAdjacentPosition(cellIndex, i))) return false;
+        }
+        return true;
     }
 
     /**
-     * Gets the {@link Position}s which are adjacent to the chosen {@link Position}
+     * Gets the {@link Position}s which are adjacent to the chosen {@link Position}.
+     * A new {@link Set} is built on every invocation: when iterating over the adjacent {@link Position}s
+     * in performance-sensitive code, the {@link AdjacencyTable} returned by {@link Board#getAdjacencyTable()}
+     * should be used instead.
      *
      * @param position The chosen {@link Position}
      * @return A {@link Set} of all the adjacent {@link Position}s
      * @throws InvalidPositionException In the case the chosen {@link Position} is out of {@link Board} bounds
      */
     default @NotNull Set<Position> getAdjacentPositions(@NotNull Position position) throws InvalidPositionException {
+        AdjacencyTable adjacencyTable = getAdjacencyTable();
+        int cellIndex = adjacencyTable.toCellIndex(position);
         Set<Position> adjacentPositions = new HashSet<>(8);
-        if (!isPositionValidForTheBoard(position)) throw new InvalidPositionException("Invalid board position!");
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                try {
-                    Position adjacentPosition = Position.fromCoordinates(position.getRow() + i, position.getColumn() + j);
-                    if (adjacentPosition.equals(position)) continue;
-                    if (isPositionValidForTheBoard(adjacentPosition)) adjacentPositions.add(adjacentPosition);
-                } catch (InvalidPositionException ignored) {
-                    // The current adjacent position is placed outside the board
-                }
-            }
+        for (int i = 0; i < adjacencyTable.getNumberOfAdjacentCells(cellIndex); i++) {
+            adjacentPositions.add(adjacencyTable.getAdjacentPosition(cellIndex, i));
         }
         return adjacentPositions;
     }
 
     /**
-     * Checks whether a {@link Position} is inside of {@link Board} bounds and unoccupied.
+     * Returns the precomputed {@link AdjacencyTable} shared by all the {@link Board}s with the same size as {@code this} one
+     *
+     * @return The {@link AdjacencyTable} for {@code this} {@link Board}'s size
+     */
+    default @NotNull AdjacencyTable getAdjacencyTable() {
+        return AdjacencyTable.forBoardSize(getSize());
+    }
+
+    /**
+     * Checks whether a {@link Position} is inside of {@link Board} bounds.
      * This method needs to be {@code default} in order for the GWT compiler to work, since the
      * {@code private} modifier is not allowed
      * @param position The chosen {@link Position}
      * @return {@code true} if the {@link Position} meets the above-mentioned criteria, {@code false} otherwise
      */
     default boolean isPositionValidForTheBoard(@NotNull Position position) {
-        try {
-            getPiece(position);
-            return true;
-        } catch (InvalidPositionException exception) {
-            return false;
-        }
+        return contains(position.getRow(), position.getColumn());
+    }
+
+    /**
+     * Checks whether the chosen coordinates are inside of {@link Board} bounds.
+     * Unlike the methods accepting a {@link Position}, this check never throws an {@link InvalidPositionException},
+     * so it can be used with coordinates that may be negative or too big, for example when looking for the
+     * neighbours of a {@link Position} on the {@link Board} sides.
+     * @param row The row coordinate, starting from index 0
+     * @param column The column coordinate, starting from index 0
+     * @return {@code true} if the coordinates are inside of {@link Board} bounds, {@code false} otherwise
+     */
+    default boolean contains(int row, int column) {
+        int size = getSize();
+        return row >= 0 && column >= 0 && row < size && column < size;
     }
 
     /**
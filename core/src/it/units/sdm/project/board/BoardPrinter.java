@@ -0,0 +1,74 @@
+package it.units.sdm.project.board;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Helper class that generates the chess-board-like {@link String} representation shared by the
+ * text-based {@link Board} implementations.
+ */
+final class BoardPrinter {
+
+    private BoardPrinter() {
+    }
+
+    /**
+     * Generates a {@link String} representation of the {@link Board}. The {@link Board} is displayed here as a chess board,
+     * with letters indicating columns and numbers indicating rows. Free cells are marked with a - character,
+     * while cells occupied are displayed with {@link Object#toString()}.
+     *
+     * @param board     The {@link Board} to print
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @return The {@link Board}'s {@link String} representation
+     */
+    static @NotNull String print(@NotNull Board<?> board, int boardSize) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = boardSize - 1; i >= 0; i--) {
+            for (int j = 0; j < boardSize; j++) {
+                Position currentPosition = Position.fromCoordinates(i, j);
+                if (isFirstColumn(j)) {
+                    sb.append(currentRowLabel(i));
+                }
+                Piece piece = board.getPiece(currentPosition);
+                if (piece != null) {
+                    sb.append(piece);
+                } else {
+                    sb.append("-");
+                }
+                if (j < boardSize - 1) {
+                    sb.append("  ");
+                } else {
+                    sb.append("\n");
+                }
+            }
+        }
+        sb.append(columnLabels(boardSize));
+        return sb.toString();
+    }
+
+    private static @NotNull String columnLabels(int boardSize) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(" ");
+        for (int columnIndex = 0; columnIndex < boardSize; columnIndex++) {
+            sb.append("  ").append((char) ('A' + columnIndex));
+        }
+        return sb.toString();
+    }
+
+    private static @NotNull String currentRowLabel(int rowIndex) {
+        StringBuilder sb = new StringBuilder();
+        if (hasRowNumberOnlyOneDigit(rowIndex + 1)) {
+            sb.append(" ").append(rowIndex + 1).append(" ");
+        } else {
+            sb.append(rowIndex + 1).append(" ");
+        }
+        return sb.toString();
+    }
+
+    private static boolean hasRowNumberOnlyOneDigit(int rowNumber) {
+        return rowNumber < 10;
+    }
+
+    private static boolean isFirstColumn(int j) {
+        return j == 0;
+    }
+}
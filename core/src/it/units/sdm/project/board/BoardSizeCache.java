@@ -0,0 +1,56 @@
+package it.units.sdm.project.board;
+
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntFunction;
+
+/**
+ * A cache of the immutable tables shared by all the {@link Board}s of the same size, each built the first time
+ * its size is requested.
+ * <p>
+ * The cache isn't synchronized, so two threads requesting a new size at the same time may both build a table, and
+ * either one is kept. This is safe as long as the cached classes only have {@code final} fields, like
+ * {@link AdjacencyTable}, {@link ZobristKeys} and {@link DihedralSymmetry}: the Java memory model guarantees that
+ * a thread reading the reference of such an instance, even through a data race, sees its fields and the arrays
+ * they point to fully initialized. The tables built for the same size are equal, so callers can't tell which
+ * one they got.
+ *
+ * @param <T> The type of the cached tables
+ */
+final class BoardSizeCache<T> {
+    @NotNull
+    private final Object[] tables = new Object[Board.MAX_BOARD_SIZE + 1];
+    @NotNull
+    private final IntFunction<T> factory;
+
+    /**
+     * Creates a new empty {@link BoardSizeCache}
+     *
+     * @param factory The function building the table of a given {@link Board} size
+     */
+    BoardSizeCache(@NotNull IntFunction<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the table for {@link Board}s of the chosen size, building it if it's the first time it's requested
+     *
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @return The shared table
+     * @throws InvalidBoardSizeException In case the size is outside the allowed range of [2, 26]
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull T get(int boardSize) throws InvalidBoardSizeException {
+        if (boardSize < Board.MIN_BOARD_SIZE || boardSize > Board.MAX_BOARD_SIZE) {
+            throw new InvalidBoardSizeException("The size of the board must be at least " + Board.MIN_BOARD_SIZE
+                    + "x" + Board.MIN_BOARD_SIZE + " and at most " + Board.MAX_BOARD_SIZE + "x" + Board.MAX_BOARD_SIZE);
+        }
+        Object table = tables[boardSize];
+        if (table == null) {
+            table = factory.apply(boardSize);
+            tables[boardSize] = table;
+        }
+        return (T) table;
+    }
+}
@@ -0,0 +1,149 @@
+package it.units.sdm.project.board;
+
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the 8 symmetries of a square {@link Board} of a given size, that is the 4 rotations and the
+ * 4 reflections of the dihedral group D4, as precomputed cell permutations. Cells are identified by their index in
+ * row-major order, that is {@code row * boardSize + column}, like in {@link AdjacencyTable}.
+ * <p>
+ * Symmetries are numbered from 0 to {@link DihedralSymmetry#NUMBER_OF_SYMMETRIES} excluded, where
+ * {@link DihedralSymmetry#IDENTITY} leaves every cell where it is, 1 to 3 are the clockwise rotations by 90, 180 and
+ * 270 degrees, and 4 to 7 are the reflections across the vertical axis, the main diagonal, the horizontal axis and
+ * the anti-diagonal. Like {@link AdjacencyTable}s, the tables are immutable and shared by all the {@link Board}s of
+ * the same size, so transforming cells and bitmasks doesn't allocate any object.
+ */
+public final class DihedralSymmetry {
+    /**
+     * Number of symmetries of a square {@link Board}
+     */
+    public static final int NUMBER_OF_SYMMETRIES = 8;
+    /**
+     * The symmetry which leaves every cell where it is
+     */
+    public static final int IDENTITY = 0;
+    private static final int BITS_PER_WORD = 64;
+    private static final int[] INVERSES = {0, 3, 2, 1, 4, 5, 6, 7};
+    private static final BoardSizeCache<DihedralSymmetry> SYMMETRIES = new BoardSizeCache<>(DihedralSymmetry::new);
+    private final int boardSize;
+    @NotNull
+    private final int[][] transformedCells;
+
+    private DihedralSymmetry(int boardSize) {
+        this.boardSize = boardSize;
+        int numberOfCells = boardSize * boardSize;
+        int last = boardSize - 1;
+        transformedCells = new int[NUMBER_OF_SYMMETRIES][numberOfCells];
+        for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) {
+            int row = cellIndex / boardSize;
+            int column = cellIndex % boardSize;
+            transformedCells[0][cellIndex] = row * boardSize + column;
+            transformedCells[1][cellIndex] = column * boardSize + last - row;
+            transformedCells[2][cellIndex] = (last - row) * boardSize + last - column;
+            transformedCells[3][cellIndex] = (last - column) * boardSize + row;
+            transformedCells[4][cellIndex] = row * boardSize + last - column;
+            transformedCells[5][cellIndex] = column * boardSize + row;
+            transformedCells[6][cellIndex] = (last - row) * boardSize + column;
+            transformedCells[7][cellIndex] = (last - column) * boardSize + last - row;
+        }
+    }
+
+    /**
+     * Returns the {@link DihedralSymmetry} for {@link Board}s of the chosen size.
+     * The tables are built the first time they're requested, and then the same instance is returned.
+     *
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @return The shared {@link DihedralSymmetry} instance
+     * @throws InvalidBoardSizeException In case the size is outside the allowed range of [2, 26]
+     */
+    public static @NotNull DihedralSymmetry forBoardSize(int boardSize) throws InvalidBoardSizeException {
+        return SYMMETRIES.get(boardSize);
+    }
+
+    /**
+     * Returns the number of rows and columns of the {@link Board}s these symmetries refer to
+     *
+     * @return The {@link Board} size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns the symmetry undoing the chosen one, so that transforming a cell with both gives the cell back
+     *
+     * @param symmetry The symmetry number
+     * @return The number of the inverse symmetry
+     */
+    public static int getInverse(int symmetry) {
+        return INVERSES[symmetry];
+    }
+
+    /**
+     * Returns the index of the cell a cell is moved to by the chosen symmetry
+     *
+     * @param symmetry  The symmetry number
+     * @param cellIndex The cell index
+     * @return The index of the transformed cell
+     */
+    public int transformCell(int symmetry, int cellIndex) {
+        return transformedCells[symmetry][cellIndex];
+    }
+
+    /**
+     * Returns the {@link Position} a {@link Position} is moved to by the chosen symmetry
+     *
+     * @param symmetry The symmetry number
+     * @param position The {@link Position} to transform
+     * @return The transformed {@link Position}
+     * @throws it.units.sdm.project.exceptions.InvalidPositionException In case the {@link Position} is outside of
+     *                                                                  {@link Board} bounds
+     */
+    public @NotNull Position transformPosition(int symmetry, @NotNull Position position) {
+        AdjacencyTable adjacencyTable = AdjacencyTable.forBoardSize(boardSize);
+        return adjacencyTable.toPosition(transformCell(symmetry, adjacencyTable.toCellIndex(position)));
+    }
+
+    /**
+     * Transforms a bitmask of cells of a {@link Board} with at most 64 cells, where the cell with index {@code i}
+     * is the bit {@code i}
+     *
+     * @param symmetry The symmetry number
+     * @param cells    The bitmask of the cells to transform
+     * @return The bitmask of the transformed cells
+     */
+    public long transformCells(int symmetry, long cells) {
+        int[] symmetryCells = transformedCells[symmetry];
+        long transformed = 0;
+        while (cells != 0) {
+            transformed |= 1L << symmetryCells[Long.numberOfTrailingZeros(cells)];
+            cells &= cells - 1;
+        }
+        return transformed;
+    }
+
+    /**
+     * Transforms a bitmask of cells, where the cell with index {@code i} is the bit {@code i % 64} of the
+     * word {@code i / 64}, like the ones of {@link BitBoard}
+     *
+     * @param symmetry    The symmetry number
+     * @param source      The bitmask of the cells to transform
+     * @param destination The bitmask where the transformed cells will be stored, which must not be the source one
+     */
+    public void transformCells(int symmetry, @NotNull long[] source, @NotNull long[] destination) {
+        int[] symmetryCells = transformedCells[symmetry];
+        int numberOfWords = (boardSize * boardSize + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        Arrays.fill(destination, 0, numberOfWords, 0L);
+        for (int i = 0; i < numberOfWords; i++) {
+            long word = source[i];
+            while (word != 0) {
+                int transformedCell = symmetryCells[i * BITS_PER_WORD + Long.numberOfTrailingZeros(word)];
+                destination[transformedCell / BITS_PER_WORD] |= 1L << (transformedCell % BITS_PER_WORD);
+                word &= word - 1;
+            }
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.IntStream;
 
 /**
  * This class represents an implementation of the {@link Board} interface using a {@link TreeMap} to hold
@@ -22,6 +21,11 @@ public class MapBoard<P extends Piece> implements Board<P> {
     private static final String INVALID_BOARD_POSITION_MESSAGE = "Invalid board position";
     private final Map<Position, Cell<P>> cells = new TreeMap<>();
     private final int boardSize;
+    private int numberOfOccupiedCells;
+    private long modificationCount;
+    private long zobristHash;
+    @NotNull
+    private final ZobristKeys zobristKeys;
 
     /**
      * Creates a new {@link Board} instance with a {@link TreeMap} implementation.
@@ -39,6 +43,7 @@ public class MapBoard<P extends Piece> implements Board<P> {
                             + " and at most " + Board.MAX_BOARD_SIZE + "x" + Board.MAX_BOARD_SIZE);
         }
         this.boardSize = boardSize;
+        this.zobristKeys = ZobristKeys.forBoardSize(boardSize);
         initBoardWithEmptyCells();
     }
 
@@ -54,14 +59,26 @@ public class MapBoard<P extends Piece> implements Board<P> {
     public void clearCell(@NotNull Position position) {
         Cell<P> cell = cells.get(position);
         if (cell == null) throw new InvalidPositionException(INVALID_BOARD_POSITION_MESSAGE);
+        if (cell.getPiece() != null) {
+            numberOfOccupiedCells--;
+            zobristHash ^= getZobristKey(cell.getPiece(), position);
+        }
         cell.clear();
+        modificationCount++;
     }
 
     @Override
     public void putPiece(@NotNull P piece, @NotNull Position position) throws InvalidPositionException {
         Cell<P> cell = cells.get(position);
         if (cell == null) throw new InvalidPositionException(INVALID_BOARD_POSITION_MESSAGE);
+        if (cell.getPiece() == null) {
+            numberOfOccupiedCells++;
+        } else {
+            zobristHash ^= getZobristKey(cell.getPiece(), position);
+        }
+        zobristHash ^= getZobristKey(piece, position);
         cell.putPiece(piece);
+        modificationCount++;
     }
 
     @Override
@@ -72,67 +89,58 @@ public class MapBoard<P extends Piece> implements Board<P> {
         return cell.getPiece();
     }
 
-    /**
-     * Generates a {@link String} representation of the {@link Board}. The {@link Board} is displayed here as a chess board,
-     * with letters indicating columns and numbers indicating rows. Free cells are marked with a - character,
-     * while cells occupied are displayed with {@link Object#toString()}. In order to properly visualize
-     * the {@link Board}, the {@link Piece}s used must have a single character string representation by overriding
-     * the {@link Object#toString()}.
-     *
-     * @return The {@link Board}'s {@link String} representation
-     */
     @Override
-    public String toString() {
-        StringBuilder sb = new StringBuilder();
-        for (int i = boardSize - 1; i >= 0; i--) {
-            for (int j = 0; j < boardSize; j++) {
-                Position currentPosition = Position.fromCoordinates(i, j);
-                if (isFirstColumn(j)) {
-                    sb.append(currentRowLabel(i));
-                }
-                if (isCellOccupied(currentPosition)) {
-                    sb.append(getPiece(currentPosition));
-                } else {
-                    sb.append("-");
-                }
-                if (isNotLastColumn(j)) {
-                    sb.append("  ");
-                } else {
-                    sb.append("\n");
-                }
-            }
+    public void clearBoard() {
+        for (Cell<P> cell : cells.values()) {
+            cell.clear();
         }
-        sb.append(columnLabels());
-        return sb.toString();
+        numberOfOccupiedCells = 0;
+        zobristHash = 0;
+        modificationCount++;
+    }
+
+    private long getZobristKey(@NotNull P piece, @NotNull Position position) {
+        return zobristKeys.getStoneKey(piece.getPieceColor(), position.getRow() * boardSize + position.getColumn());
     }
 
-    private @NotNull String columnLabels() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(" ");
-        IntStream.range(0, boardSize).forEach(columnIndex -> sb.append("  ").append((char) ('A' + columnIndex)));
-        return sb.toString();
+    /**
+     * Returns the number of unoccupied cells. The number of occupied cells is updated every time a piece {@link P}
+     * is put on or removed from {@code this} {@link Board}, so this method runs in constant time
+     *
+     * @return The number of unoccupied cells
+     */
+    @Override
+    public long getNumberOfFreeCells() {
+        return (long) boardSize * boardSize - numberOfOccupiedCells;
     }
 
-    private boolean isNotLastColumn(int j) {
-        return j < boardSize - 1;
+    @Override
+    public int getSize() {
+        return boardSize;
     }
 
-    private static @NotNull String currentRowLabel(int rowIndex) {
-        StringBuilder sb = new StringBuilder();
-        if (hasRowNumberOnlyOneDigit(rowIndex + 1)) {
-            sb.append(" ").append(rowIndex + 1).append(" ");
-        } else {
-            sb.append(rowIndex + 1).append(" ");
-        }
-        return sb.toString();
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
     }
 
-    private static boolean hasRowNumberOnlyOneDigit(int rowNumber) {
-        return rowNumber < 10;
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
     }
 
-    private static boolean isFirstColumn(int j) {
-        return j == 0;
+    /**
+     * Generates a {@link String} representation of the {@link Board}. The {@link Board} is displayed here as a chess board,
+     * with letters indicating columns and numbers indicating rows. Free cells are marked with a - character,
+     * while cells occupied are displayed with {@link Object#toString()}. In order to properly visualize
+     * the {@link Board}, the {@link Piece}s used must have a single character string representation by overriding
+     * the {@link Object#toString()}.
+     *
+     * @return The {@link Board}'s {@link String} representation
+     */
+    @Override
+    public String toString() {
+        return BoardPrinter.print(this, boardSize);
     }
 
     @NotNull
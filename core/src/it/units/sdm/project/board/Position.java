@@ -3,11 +3,12 @@ package it.units.sdm.project.board;
 import it.units.sdm.project.exceptions.InvalidPositionException;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
-
 /**
  * Representation of a {@link Board} position. The {@link Position} is composed by two coordinates:
  * a row index and a column index. Both of them must be a positive integer number.
+ * {@link Position}s are immutable, and all the {@link Position}s that fit on a {@link Board} of the maximum allowed size
+ * are created only once: {@link Position#fromCoordinates(int, int)} returns the same cached instance every time
+ * it's invoked with the same coordinates, so that they can be compared by identity as well.
  */
 public class Position implements Comparable<Position> {
 
@@ -17,8 +18,12 @@ public class Position implements Comparable<Position> {
      * this limit is set to the size of the English alphabet - 1 to prevent incorrect string conversion
      */
     static final int MAXIMUM_COLUMN_INDEX = 25;
+    private static final int CACHED_ROWS_AND_COLUMNS = MAXIMUM_COLUMN_INDEX + 1;
+    private static final Position[] CACHED_POSITIONS = initCachedPositions();
     private final int row;
     private final int column;
+    private final int ordinal;
+    private final int hashCode;
 
     private Position(int row, int column) throws InvalidPositionException {
         if (!areCoordinatesWithinAllowedRange(row, column)) {
@@ -26,6 +31,18 @@ public class Position implements Comparable<Position> {
         }
         this.row = row;
         this.column = column;
+        this.ordinal = row < CACHED_ROWS_AND_COLUMNS ? row * CACHED_ROWS_AND_COLUMNS + column : -1;
+        this.hashCode = 31 * (31 + row) + column;
+    }
+
+    private static @NotNull Position[] initCachedPositions() {
+        Position[] positions = new Position[CACHED_ROWS_AND_COLUMNS * CACHED_ROWS_AND_COLUMNS];
+        for (int i = 0; i < CACHED_ROWS_AND_COLUMNS; i++) {
+            for (int j = 0; j < CACHED_ROWS_AND_COLUMNS; j++) {
+                positions[i * CACHED_ROWS_AND_COLUMNS + j] = new Position(i, j);
+            }
+        }
+        return positions;
     }
 
     private static boolean isACoordinateNegative(int row, int column) {
@@ -52,6 +69,15 @@ public class Position implements Comparable<Position> {
         return column;
     }
 
+    /**
+     * Returns this {@link Position}'s index in row-major order on a {@link Board} of size {@link Board#MAX_BOARD_SIZE},
+     * that is {@code row * Board.MAX_BOARD_SIZE + column}
+     * @return This {@link Position}'s ordinal, or -1 if the {@link Position} doesn't fit on a {@link Board}
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     /**
      * Two {@link Position}s are equal if they have the same coordinates
      * @param o The object to compare with
@@ -65,9 +91,14 @@ public class Position implements Comparable<Position> {
         return row == position.row && column == position.column;
     }
 
+    /**
+     * Returns the precomputed hash code of this {@link Position}, which is the same value returned by
+     * {@code Objects.hash(row, column)}
+     * @return The hash code of this {@link Position}
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(row, column);
+        return hashCode;
     }
 
     /**
@@ -113,14 +144,19 @@ public class Position implements Comparable<Position> {
     }
 
     /**
-     * Creates a new {@link Board} {@link Position} instance from the given coordinates
+     * Returns the {@link Board} {@link Position} instance with the given coordinates.
+     * If the {@link Position} fits on a {@link Board} of the maximum allowed size, the cached instance is returned,
+     * otherwise a new instance is created
      * @param row The row coordinate, starting from index 0
      * @param column The column coordinate, starting from index 0
-     * @return The new {@link Position} instance
+     * @return The {@link Position} instance
      * @throws InvalidPositionException In case the indexes are negative
      */
     @NotNull
     public static Position fromCoordinates(int row, int column) throws InvalidPositionException {
+        if (row >= 0 && row < CACHED_ROWS_AND_COLUMNS && column >= 0 && column < CACHED_ROWS_AND_COLUMNS) {
+            return CACHED_POSITIONS[row * CACHED_ROWS_AND_COLUMNS + column];
+        }
         return new Position(row, column);
     }
 
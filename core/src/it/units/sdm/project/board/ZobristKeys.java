@@ -0,0 +1,137 @@
+package it.units.sdm.project.board;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class holds the random 64-bit keys used for the Zobrist hashing of the positions on a {@link Board} of a given
+ * size. The hash of a set of {@link Piece}s is the XOR of the keys of each {@link Piece}'s {@link Color} and cell, so it
+ * can be updated in constant time whenever a {@link Piece} is put on or removed from a cell, just by XOR-ing its key
+ * again. Cells are identified by their index in row-major order, that is {@code row * boardSize + column}.
+ * <p>
+ * Besides the {@link Piece}s, the keys cover the rest of the state a game position may depend on: the last played cell,
+ * the player to move and whether the last move was skipped, which are combined by
+ * {@link ZobristKeys#getPositionHash(long, int, boolean, boolean)}.
+ * The keys are generated from a fixed seed with a SplitMix64 generator, so the hashes are the same on every platform and
+ * every run, and they can be safely stored on disk.
+ */
+public final class ZobristKeys {
+    /**
+     * Cell index used to represent the absence of a last played cell
+     */
+    public static final int NO_LAST_CELL = -1;
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final BoardSizeCache<ZobristKeys> KEYS_BY_BOARD_SIZE = new BoardSizeCache<>(ZobristKeys::new);
+    private final int numberOfCells;
+    @NotNull
+    private final long[] whiteStoneKeys;
+    @NotNull
+    private final long[] blackStoneKeys;
+    @NotNull
+    private final long[] lastCellKeys;
+    private final long blackToMoveKey;
+    private final long passKey;
+
+    private ZobristKeys(int boardSize) {
+        this.numberOfCells = boardSize * boardSize;
+        this.whiteStoneKeys = generateKeys(boardSize, 0, numberOfCells);
+        this.blackStoneKeys = generateKeys(boardSize, numberOfCells, numberOfCells);
+        this.lastCellKeys = generateKeys(boardSize, 2 * numberOfCells, numberOfCells + 1);
+        this.blackToMoveKey = generateKey(boardSize, 3 * numberOfCells + 1);
+        this.passKey = generateKey(boardSize, 3 * numberOfCells + 2);
+    }
+
+    /**
+     * Returns the {@link ZobristKeys} for {@link Board}s of the chosen size.
+     * The keys are generated the first time they're requested, and then the same instance is returned.
+     *
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @return The shared {@link ZobristKeys} instance
+     * @throws InvalidBoardSizeException In case the size is outside the allowed range of [2, 26]
+     */
+    public static @NotNull ZobristKeys forBoardSize(int boardSize) throws InvalidBoardSizeException {
+        return KEYS_BY_BOARD_SIZE.get(boardSize);
+    }
+
+    /**
+     * Returns the number of cells covered by these keys
+     *
+     * @return The number of cells
+     */
+    public int getNumberOfCells() {
+        return numberOfCells;
+    }
+
+    /**
+     * Returns the key of a {@link Piece} of the chosen {@link Color} on the chosen cell
+     *
+     * @param color     The {@link Piece}'s {@link Color}: {@link Color#WHITE}, or any other {@link Color} for the black pieces
+     * @param cellIndex The index of the cell
+     * @return The key of the {@link Piece}
+     */
+    public long getStoneKey(@NotNull Color color, int cellIndex) {
+        return color == Color.WHITE ? whiteStoneKeys[cellIndex] : blackStoneKeys[cellIndex];
+    }
+
+    /**
+     * Returns the key of the last played cell
+     *
+     * @param cellIndex The index of the last played cell, or {@link ZobristKeys#NO_LAST_CELL}
+     * @return The key of the last played cell
+     */
+    public long getLastCellKey(int cellIndex) {
+        return lastCellKeys[cellIndex + 1];
+    }
+
+    /**
+     * Returns the key XOR-ed into the hash when the {@link Color#BLACK} player is the next to move
+     *
+     * @return The key of the side to move
+     */
+    public long getBlackToMoveKey() {
+        return blackToMoveKey;
+    }
+
+    /**
+     * Returns the key XOR-ed into the hash when the last move was skipped
+     *
+     * @return The key of the skipped last move
+     */
+    public long getPassKey() {
+        return passKey;
+    }
+
+    /**
+     * Combines the hash of the {@link Piece}s on a {@link Board} with the rest of the state of a game position
+     *
+     * @param stonesHash       The hash of the {@link Piece}s, as returned by {@link Board#getZobristHash()}
+     * @param lastCellIndex    The index of the last played cell, or {@link ZobristKeys#NO_LAST_CELL}
+     * @param isBlackToMove    Whether the {@link Color#BLACK} player is the next to move
+     * @param isLastMovePassed Whether the last move was skipped
+     * @return The hash of the position
+     */
+    public long getPositionHash(long stonesHash, int lastCellIndex, boolean isBlackToMove, boolean isLastMovePassed) {
+        long positionHash = stonesHash ^ getLastCellKey(lastCellIndex);
+        if (isBlackToMove) positionHash ^= blackToMoveKey;
+        if (isLastMovePassed) positionHash ^= passKey;
+        return positionHash;
+    }
+
+    private static @NotNull long[] generateKeys(int boardSize, int firstKeyIndex, int numberOfKeys) {
+        long[] keys = new long[numberOfKeys];
+        for (int i = 0; i < numberOfKeys; i++) {
+            keys[i] = generateKey(boardSize, firstKeyIndex + i);
+        }
+        return keys;
+    }
+
+    // The keyIndex-th output of a SplitMix64 generator seeded for the chosen board size
+    private static long generateKey(int boardSize, int keyIndex) {
+        long key = SEED + boardSize + (keyIndex + 1) * GOLDEN_GAMMA;
+        key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+        key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+        return key ^ (key >>> 31);
+    }
+}
@@ -10,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.kotcrab.vis.ui.widget.VisTable;
 import it.units.sdm.project.board.Board;
 import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.ZobristKeys;
 import it.units.sdm.project.exceptions.InvalidBoardSizeException;
 import it.units.sdm.project.exceptions.InvalidPositionException;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +41,11 @@ public class GuiBoard<P extends GuiStone> extends VisTable implements Board<P> {
     public static final Color LIGHT_TILE = new Color(240 / 255f, 217 / 255f, 181 / 255f, 1);
     private static final String GUI_BOARD_TAG = "GUI_BOARD";
     private final int boardSize;
+    private int numberOfOccupiedCells;
+    private long modificationCount;
+    private long zobristHash;
+    @NotNull
+    private final ZobristKeys zobristKeys;
 
     /**
      * Creates a new {@link Board} instance to be used in a libGDX scene2d GUI.
@@ -53,6 +59,7 @@ public class GuiBoard<P extends GuiStone> extends VisTable implements Board<P> {
                     + " and at most " + MAX_BOARD_SIZE + "x" + MAX_BOARD_SIZE);
         }
         this.boardSize = boardSize;
+        this.zobristKeys = ZobristKeys.forBoardSize(boardSize);
         initBoard();
     }
 
@@ -116,7 +123,10 @@ public class GuiBoard<P extends GuiStone> extends VisTable implements Board<P> {
     public void clearCell(@NotNull Position position) throws InvalidPositionException {
         Group tileAndPiece = getTileAndPieceFromPosition(position);
         if (isCellOccupied(tileAndPiece)) {
+            zobristHash ^= getZobristKey((GuiStone) tileAndPiece.getChild(1), position);
             tileAndPiece.removeActorAt(1, false);
+            numberOfOccupiedCells--;
+            modificationCount++;
         } else {
             Gdx.app.debug(GUI_BOARD_TAG, "No piece at position " + position + ", already clear");
         }
@@ -124,6 +134,7 @@ public class GuiBoard<P extends GuiStone> extends VisTable implements Board<P> {
 
     @SuppressWarnings("unchecked")
     private @NotNull Group getTileAndPieceFromPosition(@NotNull Position position) throws InvalidPositionException {
+        if (!isPositionValidForTheBoard(position)) throw new InvalidPositionException(INVALID_BOARD_POSITION_MESSAGE);
         for (Cell<Actor> cell : getCells()) {
             Position currentPosition = fromTileCoordinatesToBoardPosition(cell.getRow(), cell.getColumn());
             if (currentPosition.equals(position)) return (Group) cell.getActor();
@@ -138,7 +149,26 @@ public class GuiBoard<P extends GuiStone> extends VisTable implements Board<P> {
     @Override
     public void putPiece(@NotNull P piece, @NotNull Position position) throws InvalidPositionException {
         Group tileAndPiece = getTileAndPieceFromPosition(position);
+        if (isCellOccupied(tileAndPiece)) {
+            zobristHash ^= getZobristKey((GuiStone) tileAndPiece.getChild(1), position);
+            tileAndPiece.removeActorAt(1, false);
+        } else {
+            numberOfOccupiedCells++;
+        }
         tileAndPiece.addActor(piece);
+        zobristHash ^= getZobristKey(piece, position);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of unoccupied cells. The number of occupied cells is updated every time a piece {@link P}
+     * is put on or removed from {@code this} {@link Board}, so this method runs in constant time
+     *
+     * @return The number of unoccupied cells
+     */
+    @Override
+    public long getNumberOfFreeCells() {
+        return (long) boardSize * boardSize - numberOfOccupiedCells;
     }
 
     @Override
@@ -152,6 +182,25 @@ public class GuiBoard<P extends GuiStone> extends VisTable implements Board<P> {
         }
     }
 
+    @Override
+    public int getSize() {
+        return boardSize;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    private long getZobristKey(@NotNull GuiStone stone, @NotNull Position position) {
+        return zobristKeys.getStoneKey(stone.getPieceColor(), position.getRow() * boardSize + position.getColumn());
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public @NotNull Set<Position> getPositions() {
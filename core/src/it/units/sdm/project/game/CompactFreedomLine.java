@@ -0,0 +1,244 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.FreedomLine.Direction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * This class represents a line of {@link Piece}s with the same {@link Color}, described only by its starting
+ * {@link Position}, its {@link Direction}, its length and its {@link Color}. These four values fit in a single {@code int},
+ * so a {@link FreedomLineScanner} can emit many lines into a primitive array without allocating any object:
+ * <pre>{@code
+ * int[] lines = new int[board.getSize() * board.getSize()];
+ * int numberOfLines = lineScanner.collectLines(lines);
+ * for (int i = 0; i < numberOfLines; i++) {
+ *     CompactFreedomLine line = CompactFreedomLine.unpack(lines[i]);
+ * }
+ * }</pre>
+ * The starting {@link Position} is the first one according to the {@link Position} ordering, and the following ones are
+ * obtained by moving along the {@link Direction}: right for {@link Direction#HORIZONTAL}, up for {@link Direction#VERTICAL},
+ * up and left for {@link Direction#DIAGONAL_LEFT} and up and right for {@link Direction#DIAGONAL_RIGHT}.
+ * The {@link Position}s are computed only when {@link CompactFreedomLine#getCellPositions()} is invoked.
+ */
+public class CompactFreedomLine {
+    private static final int COORDINATE_BITS = 5;
+    private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+    private static final int ROW_SHIFT = COORDINATE_BITS;
+    private static final int DIRECTION_SHIFT = 2 * COORDINATE_BITS;
+    private static final int LENGTH_SHIFT = DIRECTION_SHIFT + 2;
+    private static final int COLOR_SHIFT = LENGTH_SHIFT + COORDINATE_BITS;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private final int packedLine;
+    @Nullable
+    private SortedSet<Position> cellPositions;
+
+    private CompactFreedomLine(int packedLine) {
+        this.packedLine = packedLine;
+    }
+
+    /**
+     * Creates a {@link CompactFreedomLine} instance
+     *
+     * @param start     The first {@link Position} of the line
+     * @param direction The {@link Direction} of the line
+     * @param length    The number of {@link Piece}s in the line, between 1 and {@link Board#MAX_BOARD_SIZE}
+     * @param color     The {@link Color} of the line, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @throws IllegalArgumentException In case the line can't fit on a {@link Board} of the maximum allowed size,
+     *                                  or the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public CompactFreedomLine(@NotNull Position start, @NotNull Direction direction, int length, @NotNull Color color) throws IllegalArgumentException {
+        this(pack(start.getRow(), start.getColumn(), direction, length, color));
+    }
+
+    /**
+     * Packs the description of a line into a single {@code int}
+     *
+     * @param row       The row of the first {@link Position} of the line
+     * @param column    The column of the first {@link Position} of the line
+     * @param direction The {@link Direction} of the line
+     * @param length    The number of {@link Piece}s in the line, between 1 and {@link Board#MAX_BOARD_SIZE}
+     * @param color     The {@link Color} of the line, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @return The packed line
+     * @throws IllegalArgumentException In case the line can't fit on a {@link Board} of the maximum allowed size,
+     *                                  or the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public static int pack(int row, int column, @NotNull Direction direction, int length, @NotNull Color color) throws IllegalArgumentException {
+        if (row < 0 || column < 0 || row >= Board.MAX_BOARD_SIZE || column >= Board.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("The line must start on a board of at most " + Board.MAX_BOARD_SIZE
+                    + "x" + Board.MAX_BOARD_SIZE);
+        }
+        if (length < 1 || length > Board.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("The line length must be between 1 and " + Board.MAX_BOARD_SIZE);
+        }
+        int endRow = row + (length - 1) * getRowStep(direction);
+        int endColumn = column + (length - 1) * getColumnStep(direction);
+        if (endRow >= Board.MAX_BOARD_SIZE || endColumn < 0 || endColumn >= Board.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("The line must end on a board of at most " + Board.MAX_BOARD_SIZE
+                    + "x" + Board.MAX_BOARD_SIZE);
+        }
+        if (color != Color.WHITE && color != Color.BLACK) {
+            throw new IllegalArgumentException("Invalid line color, can be either black or white");
+        }
+        return column
+                | row << ROW_SHIFT
+                | direction.ordinal() << DIRECTION_SHIFT
+                | length << LENGTH_SHIFT
+                | (color == Color.BLACK ? 1 : 0) << COLOR_SHIFT;
+    }
+
+    /**
+     * Returns a view of a line packed with {@link CompactFreedomLine#pack(int, int, Direction, int, Color)}
+     *
+     * @param packedLine The packed line
+     * @return The {@link CompactFreedomLine} described by the packed line
+     */
+    public static @NotNull CompactFreedomLine unpack(int packedLine) {
+        return new CompactFreedomLine(packedLine);
+    }
+
+    /**
+     * Returns {@code this} line packed into a single {@code int}
+     *
+     * @return The packed line
+     */
+    public int getPackedLine() {
+        return packedLine;
+    }
+
+    /**
+     * Returns the first {@link Position} of {@code this} line, according to the {@link Position} ordering
+     *
+     * @return The first {@link Position} of the line
+     */
+    public @NotNull Position first() {
+        return Position.fromCoordinates(getStartRow(), getStartColumn());
+    }
+
+    /**
+     * Returns the last {@link Position} of {@code this} line, according to the {@link Position} ordering
+     *
+     * @return The last {@link Position} of the line
+     */
+    public @NotNull Position last() {
+        int steps = size() - 1;
+        return Position.fromCoordinates(getStartRow() + steps * getRowStep(), getStartColumn() + steps * getColumnStep());
+    }
+
+    /**
+     * Returns the {@link Direction} of {@code this} line
+     *
+     * @return The {@link Direction} of the line
+     */
+    public @NotNull Direction getDirection() {
+        return DIRECTIONS[(packedLine >>> DIRECTION_SHIFT) & 3];
+    }
+
+    /**
+     * Returns the number of {@link Piece}s in {@code this} line
+     *
+     * @return The size of the line
+     */
+    public int size() {
+        return (packedLine >>> LENGTH_SHIFT) & COORDINATE_MASK;
+    }
+
+    /**
+     * Returns the {@link Color} of {@code this} line
+     *
+     * @return Either {@link Color#WHITE} or {@link Color#BLACK}
+     */
+    public @NotNull Color getColor() {
+        return ((packedLine >>> COLOR_SHIFT) & 1) == 1 ? Color.BLACK : Color.WHITE;
+    }
+
+    /**
+     * Returns all {@code this} line's {@link Position}s. The {@link Position}s are computed the first time
+     * this method is invoked
+     *
+     * @return An unmodifiable {@link SortedSet} of the line's {@link Position}s
+     */
+    public @NotNull SortedSet<Position> getCellPositions() {
+        if (cellPositions == null) {
+            SortedSet<Position> positions = new TreeSet<>();
+            for (int i = 0; i < size(); i++) {
+                positions.add(Position.fromCoordinates(getStartRow() + i * getRowStep(), getStartColumn() + i * getColumnStep()));
+            }
+            cellPositions = Collections.unmodifiableSortedSet(positions);
+        }
+        return cellPositions;
+    }
+
+    private int getStartRow() {
+        return (packedLine >>> ROW_SHIFT) & COORDINATE_MASK;
+    }
+
+    private int getStartColumn() {
+        return packedLine & COORDINATE_MASK;
+    }
+
+    private int getRowStep() {
+        return getRowStep(getDirection());
+    }
+
+    private int getColumnStep() {
+        return getColumnStep(getDirection());
+    }
+
+    private static int getRowStep(@NotNull Direction direction) {
+        return direction == Direction.HORIZONTAL ? 0 : 1;
+    }
+
+    private static int getColumnStep(@NotNull Direction direction) {
+        switch (direction) {
+            case HORIZONTAL:
+            case DIAGONAL_RIGHT:
+                return 1;
+            case DIAGONAL_LEFT:
+                return -1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Two {@link CompactFreedomLine}s are equal if they have the same first {@link Position}, {@link Direction},
+     * size and {@link Color}
+     *
+     * @param o The {@link Object} to compare with
+     * @return {@code true} if the lines are equal, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompactFreedomLine that = (CompactFreedomLine) o;
+        return packedLine == that.packedLine;
+    }
+
+    @Override
+    public int hashCode() {
+        return packedLine;
+    }
+
+    /**
+     * {@link String} representation of the line
+     *
+     * @return A {@link String} composed by line {@link Color}, {@link Direction} and {@link Piece} {@link Position}s.
+     */
+    @Override
+    public String toString() {
+        return "CompactFreedomLine{" +
+                "color=" + getColor() +
+                ", direction=" + getDirection() +
+                ", cellPositions=" + getCellPositions() +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+package it.units.sdm.project.game;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link GameProbe} reporting every operation to two other {@link GameProbe}s, created by
+ * {@link GameProbes#combine(GameProbe, GameProbe)}
+ */
+final class CompositeGameProbe implements GameProbe {
+    @NotNull
+    private final GameProbe first;
+    @NotNull
+    private final GameProbe second;
+
+    CompositeGameProbe(@NotNull GameProbe first, @NotNull GameProbe second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public long startTimer() {
+        return first.startTimer();
+    }
+
+    @Override
+    public void onMoveApplied(int boardSize, long numberOfFreeCells, long startTime) {
+        first.onMoveApplied(boardSize, numberOfFreeCells, startTime);
+        second.onMoveApplied(boardSize, numberOfFreeCells, startTime);
+    }
+
+    @Override
+    public void onMoveRejected(int boardSize) {
+        first.onMoveRejected(boardSize);
+        second.onMoveRejected(boardSize);
+    }
+
+    @Override
+    public void onGameFinished(int boardSize) {
+        first.onGameFinished(boardSize);
+        second.onGameFinished(boardSize);
+    }
+
+    @Override
+    public void onStatusComputed(int boardSize, long numberOfFreeCells, long startTime) {
+        first.onStatusComputed(boardSize, numberOfFreeCells, startTime);
+        second.onStatusComputed(boardSize, numberOfFreeCells, startTime);
+    }
+
+    @Override
+    public void onScoreComputed(int boardSize, long numberOfFreeCells, long startTime) {
+        first.onScoreComputed(boardSize, numberOfFreeCells, startTime);
+        second.onScoreComputed(boardSize, numberOfFreeCells, startTime);
+    }
+
+    @Override
+    public void onSearchFinished(@NotNull String algorithm, int boardSize, long numberOfFreeCells, long numberOfNodes,
+                                 long startTime) {
+        first.onSearchFinished(algorithm, boardSize, numberOfFreeCells, numberOfNodes, startTime);
+        second.onSearchFinished(algorithm, boardSize, numberOfFreeCells, numberOfNodes, startTime);
+    }
+}
@@ -0,0 +1,31 @@
+package it.units.sdm.project.game;
+
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the move selection strategy of a {@link Player} controlled by the computer.
+ * Both the terminal and the GUI front-ends ask a {@link ComputerPlayer} for the next {@link Move} whenever it's the
+ * turn of the {@link Player} it controls, and then play the chosen {@link Move} on their own {@link BoardGame}.
+ */
+public interface ComputerPlayer {
+
+    /**
+     * Chooses the next {@link Move} for the {@link Player} who's going to play next in the {@link FreedomEngine}.
+     * The {@link FreedomEngine} is only read, it's up to the caller to play the chosen {@link Move}
+     * @param engine The {@link FreedomEngine} holding the current position
+     * @return The chosen {@link Position}, or {@code null} to skip the last {@link Move} in the
+     * {@link GameStatus#LAST_MOVE} state
+     * @throws IllegalStateException In case the game is already over
+     */
+    @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) throws IllegalStateException;
+
+    /**
+     * Releases the resources held by {@code this} {@link ComputerPlayer}, like its threads.
+     * By default, there's nothing to release
+     */
+    default void dispose() {
+    }
+}
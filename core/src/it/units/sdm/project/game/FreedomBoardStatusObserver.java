@@ -15,6 +15,11 @@ public class FreedomBoardStatusObserver {
 
     @NotNull
     Board<? extends Piece> board;
+    @NotNull
+    private final FreedomLineScanner lineScanner;
+    @Nullable
+    private FreedomScore currentScore;
+    private long currentScoreModificationCount;
 
     /**
      * Creates a new {@link GameStatus} observer.
@@ -22,6 +27,7 @@ public class FreedomBoardStatusObserver {
      */
     public FreedomBoardStatusObserver(@NotNull Board<? extends Piece> board) {
         this.board = board;
+        this.lineScanner = new FreedomLineScanner(board);
     }
 
     /**
@@ -30,24 +36,26 @@ public class FreedomBoardStatusObserver {
      */
     @Nullable
     public Color getCurrentWinner() {
-        int whiteScore = getCurrentScore(Color.WHITE);
-        int blackScore = getCurrentScore(Color.BLACK);
-        if (whiteScore > blackScore) {
-            return Color.WHITE;
-        } else if (blackScore > whiteScore) {
-            return Color.BLACK;
-        }
-        return null;
+        return getCurrentScore().getWinner();
     }
 
     /**
-     * Returns the {@link Player}'s current score
-     * @param playerColor The chosen {@link Player}
-     * @return The {@link Player}'s current score
+     * Returns both {@link Player}s' current scores. The scores are computed with a single traversal of the {@link Board},
+     * and then reused until the {@link Board}'s modification count changes, so repeated queries on an unchanged
+     * {@link Board} don't scan it again
+     * @return The current {@link FreedomScore}
      */
-    private int getCurrentScore(@NotNull Color playerColor) {
-        FreedomPointsCounter freedomPointsCounter = new FreedomPointsCounter(board);
-        return freedomPointsCounter.getPlayerScore(playerColor);
+    @NotNull
+    public FreedomScore getCurrentScore() {
+        long modificationCount = board.getModificationCount();
+        if (currentScore == null || currentScoreModificationCount != modificationCount) {
+            GameProbe probe = GameProbes.get();
+            long startTime = probe.startTimer();
+            currentScore = lineScanner.getScore();
+            currentScoreModificationCount = modificationCount;
+            probe.onScoreComputed(board.getSize(), board.getNumberOfFreeCells(), startTime);
+        }
+        return currentScore;
     }
 
     /**
@@ -57,6 +65,15 @@ public class FreedomBoardStatusObserver {
      */
     @NotNull
     public GameStatus getCurrentGameStatus(@Nullable Move lastMove) {
+        GameProbe probe = GameProbes.get();
+        long startTime = probe.startTimer();
+        GameStatus gameStatus = computeGameStatus(lastMove);
+        probe.onStatusComputed(board.getSize(), board.getNumberOfFreeCells(), startTime);
+        return gameStatus;
+    }
+
+    @NotNull
+    private GameStatus computeGameStatus(@Nullable Move lastMove) {
         long numberOfFreeCells = board.getNumberOfFreeCells();
         if (numberOfFreeCells > 1) {
             if (lastMove == null || board.areAdjacentCellsOccupied(lastMove.getPosition())) {
@@ -0,0 +1,364 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.ZobristKeys;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+
+/**
+ * This class implements the rules of the Freedom {@link BoardGame}, without any kind of input or output.
+ * It owns the {@link Board}, the list of the played {@link Move}s and the current {@link GameStatus}, and it's shared
+ * by the terminal and the GUI front-ends, which only have to read the {@link Player}s' choices and display the results.
+ * Since no I/O is performed, the same class can drive simulations and computer {@link Player}s in a tight loop:
+ * <pre>{@code
+ * FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(8), whitePlayer, blackPlayer, Stone::new);
+ * while (engine.getGameStatus() != GameStatus.GAME_OVER) {
+ *     engine.nextMove(chooseAPosition(engine.getLegalPositions()));
+ * }
+ * }</pre>
+ *
+ * @param <P> The type of piece put on the {@link Board} for each {@link Move}
+ */
+public class FreedomEngine<P extends Piece> implements BoardGame<P> {
+
+    @NotNull
+    private final Board<P> board;
+    @NotNull
+    private final Function<Color, P> pieceFactory;
+    @NotNull
+    private final FreedomBoardStatusObserver statusObserver;
+    @NotNull
+    private final FreedomMoveGenerator moveGenerator;
+    @NotNull
+    private final int[] legalMoves;
+    @NotNull
+    private final ZobristKeys zobristKeys;
+    @NotNull
+    private final List<Move> playersMovesHistory = new ArrayList<>();
+    @NotNull
+    private Player whitePlayer;
+    @NotNull
+    private Player blackPlayer;
+    @NotNull
+    private GameStatus gameStatus;
+    private boolean isLastMovePassed;
+
+    /**
+     * Creates a new {@link FreedomEngine}. The game starts from the {@link Piece}s already on the {@link Board}, if any,
+     * with no {@link Move}s played
+     *
+     * @param board        The {@link Board} used in the game
+     * @param whitePlayer  The {@link Player} who's going first
+     * @param blackPlayer  The {@link Player} who's going second
+     * @param pieceFactory Creates the piece {@link P} of the chosen {@link Color} to put on the {@link Board} for each {@link Move}
+     */
+    public FreedomEngine(@NotNull Board<P> board, @NotNull Player whitePlayer, @NotNull Player blackPlayer,
+                         @NotNull Function<Color, P> pieceFactory) {
+        this.board = board;
+        this.whitePlayer = whitePlayer;
+        this.blackPlayer = blackPlayer;
+        this.pieceFactory = pieceFactory;
+        this.statusObserver = new FreedomBoardStatusObserver(board);
+        this.moveGenerator = new FreedomMoveGenerator(board);
+        this.legalMoves = new int[moveGenerator.getMaxNumberOfMoves()];
+        this.zobristKeys = ZobristKeys.forBoardSize(board.getSize());
+        this.gameStatus = statusObserver.getCurrentGameStatus(null);
+    }
+
+    @Override
+    public @NotNull Board<P> getBoard() {
+        return board;
+    }
+
+    @Override
+    public @NotNull Player getWhitePlayer() {
+        return whitePlayer;
+    }
+
+    @Override
+    public @NotNull Player getBlackPlayer() {
+        return blackPlayer;
+    }
+
+    /**
+     * Sets the {@link Color#WHITE} {@link Player}
+     *
+     * @param whitePlayer The {@link Player} to be set as the {@link Color#WHITE} {@link Player}
+     */
+    public void setWhitePlayer(@NotNull Player whitePlayer) {
+        this.whitePlayer = whitePlayer;
+    }
+
+    /**
+     * Sets the {@link Color#BLACK} {@link Player}
+     *
+     * @param blackPlayer The {@link Player} to be set as the {@link Color#BLACK} {@link Player}
+     */
+    public void setBlackPlayer(@NotNull Player blackPlayer) {
+        this.blackPlayer = blackPlayer;
+    }
+
+    @Override
+    public @Nullable Move getLastMove() {
+        if (playersMovesHistory.isEmpty()) return null;
+        return playersMovesHistory.get(playersMovesHistory.size() - 1);
+    }
+
+    @Override
+    public @NotNull Player getNextPlayer() {
+        Move lastMove = getLastMove();
+        if (lastMove == null || lastMove.getPlayer().getColor() == Color.BLACK) return whitePlayer;
+        return blackPlayer;
+    }
+
+    /**
+     * Returns all the {@link Move}s played so far, from the first one to the last one
+     *
+     * @return An unmodifiable view of the played {@link Move}s
+     */
+    public @NotNull List<Move> getMoves() {
+        return Collections.unmodifiableList(playersMovesHistory);
+    }
+
+    /**
+     * Returns the number of {@link Move}s played so far
+     *
+     * @return The number of played {@link Move}s
+     */
+    public int getNumberOfMoves() {
+        return playersMovesHistory.size();
+    }
+
+    /**
+     * Returns the current {@link GameStatus}
+     *
+     * @return The current {@link GameStatus}
+     */
+    public @NotNull GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    /**
+     * Returns the {@link FreedomBoardStatusObserver} watching {@code this} engine's {@link Board}
+     *
+     * @return The {@link FreedomBoardStatusObserver} of the {@link Board}
+     */
+    public @NotNull FreedomBoardStatusObserver getStatusObserver() {
+        return statusObserver;
+    }
+
+    /**
+     * Returns the Zobrist hash of the current position, which combines the hash of the {@link Piece}s on the
+     * {@link Board} with the last played {@link Position}, the next {@link Player} and the skip of the last {@link Move}.
+     * Since the legal {@link Move}s in the {@link GameStatus#NO_FREEDOM} state depend on the last played
+     * {@link Position}, the same {@link Piece}s reached with different last {@link Move}s give different hashes.
+     * The hash is computed in constant time, so it can be used to key any cache of positions
+     *
+     * @return The 64-bit hash of the current position
+     * @see ZobristKeys#getPositionHash(long, int, boolean, boolean)
+     */
+    public long getPositionHash() {
+        Move lastMove = getLastMove();
+        int lastCellIndex = lastMove == null
+                ? ZobristKeys.NO_LAST_CELL
+                : board.getAdjacencyTable().toCellIndex(lastMove.getPosition());
+        boolean isBlackToMove = getNextPlayer().getColor() == Color.BLACK;
+        return zobristKeys.getPositionHash(board.getZobristHash(), lastCellIndex, isBlackToMove, isLastMovePassed);
+    }
+
+    /**
+     * Checks whether the next {@link Player} can put a {@link Piece} on the chosen {@link Position}.
+     * The {@link Position} must be on the {@link Board} and free, and in the {@link GameStatus#NO_FREEDOM} state
+     * it must also be adjacent to the last played {@link Position}. No {@link Position} is legal once the game is over
+     *
+     * @param position The chosen {@link Position}
+     * @return {@code true} if the {@link Position} can be played, {@code false} otherwise
+     */
+    public boolean isPositionLegal(@NotNull Position position) {
+        if (gameStatus == GAME_OVER) return false;
+        if (!board.contains(position.getRow(), position.getColumn()) || board.isCellOccupied(position)) return false;
+        if (gameStatus == NO_FREEDOM) {
+            Position lastPosition = getLastPlayedPosition();
+            return Math.abs(lastPosition.getRow() - position.getRow()) <= 1
+                    && Math.abs(lastPosition.getColumn() - position.getColumn()) <= 1;
+        }
+        return true;
+    }
+
+    /**
+     * Returns all the {@link Position}s the next {@link Player} can play
+     *
+     * @return The legal {@link Position}s, ordered according to the {@link Position} ordering
+     */
+    public @NotNull SortedSet<Position> getLegalPositions() {
+        SortedSet<Position> legalPositions = new TreeSet<>();
+        int numberOfLegalMoves = generateLegalMoves(legalMoves);
+        for (int i = 0; i < numberOfLegalMoves; i++) {
+            if (legalMoves[i] != FreedomMoveGenerator.PASS) {
+                legalPositions.add(moveGenerator.toPosition(legalMoves[i]));
+            }
+        }
+        return legalPositions;
+    }
+
+    /**
+     * Returns the {@link FreedomMoveGenerator} of {@code this} engine's {@link Board}, which can be used to convert
+     * the cell indexes returned by {@link FreedomEngine#generateLegalMoves(int[])} to {@link Position}s
+     *
+     * @return The {@link FreedomMoveGenerator} of the {@link Board}
+     */
+    public @NotNull FreedomMoveGenerator getMoveGenerator() {
+        return moveGenerator;
+    }
+
+    /**
+     * Stores the indexes of all the cells the next {@link Player} can play into the destination array,
+     * followed by {@link FreedomMoveGenerator#PASS} in the {@link GameStatus#LAST_MOVE} state.
+     * No {@link Move} is legal once the game is over
+     *
+     * @param destination The array where to store the legal {@link Move}s, at least
+     *                    {@link FreedomMoveGenerator#getMaxNumberOfMoves()} long
+     * @return The number of legal {@link Move}s stored in the array
+     * @see FreedomMoveGenerator#generateMoves(Move, int[])
+     */
+    public int generateLegalMoves(@NotNull int[] destination) {
+        if (gameStatus == GAME_OVER) return 0;
+        return moveGenerator.generateMoves(getLastMove(), destination);
+    }
+
+    /**
+     * Stores the bitmask of all the cells the next {@link Player} can play into the destination bitmask.
+     * No cell is legal once the game is over
+     *
+     * @param destination The bitmask where the legal cells will be stored, at least
+     *                    {@link FreedomMoveGenerator#getNumberOfWords()} long
+     * @return The number of legal cells
+     * @see FreedomMoveGenerator#generateMoves(Move, long[])
+     */
+    public int generateLegalMoves(@NotNull long[] destination) {
+        if (gameStatus == GAME_OVER) {
+            Arrays.fill(destination, 0, moveGenerator.getNumberOfWords(), 0L);
+            return 0;
+        }
+        return moveGenerator.generateMoves(getLastMove(), destination);
+    }
+
+    /**
+     * Plays the next {@link Move}, putting a piece {@link P} of the next {@link Player} on the chosen {@link Position}
+     *
+     * @param position The chosen {@link Position} for the next {@link Move}
+     * @throws InvalidPositionException In case the {@link Position} is not legal, according to
+     *                                  {@link FreedomEngine#isPositionLegal(Position)}
+     */
+    @Override
+    public void nextMove(@NotNull Position position) throws InvalidPositionException {
+        GameProbe probe = GameProbes.get();
+        long startTime = probe.startTimer();
+        if (!isPositionLegal(position)) {
+            probe.onMoveRejected(board.getSize());
+            throw new InvalidPositionException("The chosen position can't be played");
+        }
+        Move move = new Move(getNextPlayer(), position);
+        board.putPiece(pieceFactory.apply(move.getPlayer().getColor()), position);
+        playersMovesHistory.add(move);
+        gameStatus = statusObserver.getCurrentGameStatus(move);
+        probe.onMoveApplied(board.getSize(), board.getNumberOfFreeCells(), startTime);
+        if (gameStatus == GAME_OVER) probe.onGameFinished(board.getSize());
+    }
+
+    /**
+     * Skips the last {@link Move}, ending the game. This is allowed only in the {@link GameStatus#LAST_MOVE} state
+     *
+     * @throws IllegalStateException In case the current {@link GameStatus} is not {@link GameStatus#LAST_MOVE}
+     */
+    public void passLastMove() throws IllegalStateException {
+        if (gameStatus != LAST_MOVE) {
+            throw new IllegalStateException("Only the last move can be skipped");
+        }
+        isLastMovePassed = true;
+        gameStatus = GAME_OVER;
+        GameProbes.get().onGameFinished(board.getSize());
+    }
+
+    /**
+     * Takes back the last {@link Move}, or the skip of the last {@link Move}, restoring the previous {@link GameStatus}
+     *
+     * @return The {@link Move} that was taken back, or {@code null} if there were no {@link Move}s
+     * or if the skip of the last {@link Move} was taken back
+     */
+    public @Nullable Move undo() {
+        if (isLastMovePassed) {
+            isLastMovePassed = false;
+            gameStatus = LAST_MOVE;
+            return null;
+        }
+        if (playersMovesHistory.isEmpty()) return null;
+        Move move = playersMovesHistory.remove(playersMovesHistory.size() - 1);
+        board.clearCell(move.getPosition());
+        gameStatus = statusObserver.getCurrentGameStatus(getLastMove());
+        return move;
+    }
+
+    /**
+     * Removes all the pieces from the {@link Board} and all the played {@link Move}s, going back to the
+     * {@link GameStatus#FREEDOM} state
+     */
+    @Override
+    public void reset() {
+        board.clearBoard();
+        playersMovesHistory.clear();
+        isLastMovePassed = false;
+        gameStatus = statusObserver.getCurrentGameStatus(null);
+    }
+
+    /**
+     * Copies the game onto another {@link Board} of the same size, with the same {@link Piece}s, {@link Player}s,
+     * {@link Move}s and {@link GameStatus}, including the {@link Piece}s the game started from. The copy is independent of this {@link FreedomEngine}, so for example it can be searched by
+     * another thread while this {@link FreedomEngine} keeps being drawn
+     *
+     * @param board        The {@link Board} of the copy, whose {@link Piece}s are removed
+     * @param pieceFactory Creates the piece {@link Q} of the chosen {@link Color} to put on the {@link Board} of the copy
+     * @param <Q>          The type of the pieces of the copy
+     * @return The copied {@link FreedomEngine}
+     * @throws IllegalArgumentException In case the {@link Board} has a different size
+     */
+    public <Q extends Piece> @NotNull FreedomEngine<Q> copy(@NotNull Board<Q> board, @NotNull Function<Color, Q> pieceFactory)
+            throws IllegalArgumentException {
+        if (board.getSize() != this.board.getSize()) {
+            throw new IllegalArgumentException("The board of the copy must have the same size");
+        }
+        board.clearBoard();
+        for (Position position : this.board.getPositions()) {
+            Piece piece = this.board.getPiece(position);
+            if (piece != null) board.putPiece(pieceFactory.apply(piece.getPieceColor()), position);
+        }
+        FreedomEngine<Q> copy = new FreedomEngine<>(board, whitePlayer, blackPlayer, pieceFactory);
+        copy.playersMovesHistory.addAll(playersMovesHistory);
+        copy.isLastMovePassed = isLastMovePassed;
+        copy.gameStatus = gameStatus;
+        return copy;
+    }
+
+    private @NotNull Position getLastPlayedPosition() {
+        Move lastMove = getLastMove();
+        if (lastMove == null) {
+            throw new IllegalStateException("There should be at least one move played when in NO_FREEDOM state");
+        }
+        return lastMove.getPosition();
+    }
+}
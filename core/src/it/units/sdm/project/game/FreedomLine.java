@@ -210,7 +210,7 @@ public class FreedomLine {
 
     @Override
     public int hashCode() {
-        return Objects.hash(board, color, direction, cellPositions);
+        return Objects.hash(color, cellPositions);
     }
 
     /**
@@ -0,0 +1,145 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.FreedomLine.Direction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class counts the {@link FreedomLine}s of exactly 4 {@link Piece}s of the same {@link Color} on a {@link Board}.
+ * Every row, column and diagonal of the {@link Board} is walked exactly once, keeping track of the {@link Color} and
+ * the length of the current run of {@link Piece}s: a run ending with a length of 4 is a point for its {@link Color}.
+ * Both {@link Color}s are counted during the same traversal, and no object is allocated while scanning.
+ * The scored lines can also be collected as {@link CompactFreedomLine}s packed into a primitive array.
+ */
+public class FreedomLineScanner {
+    private static final int MAX_NUMBER_OF_STONES = 4;
+    @NotNull
+    private final Board<? extends Piece> board;
+    private int whiteLines;
+    private int blackLines;
+    @Nullable
+    private int[] collectedLines;
+
+    /**
+     * Creates an instance of a {@link FreedomLineScanner}
+     * @param board {@link Board} on which to count the {@link FreedomLine}s
+     */
+    public FreedomLineScanner(@NotNull Board<? extends Piece> board) {
+        this.board = board;
+    }
+
+    /**
+     * Counts the {@link FreedomLine}s of exactly 4 {@link Piece}s of the chosen {@link Color}
+     * @param color {@link Color} of the {@link Piece}s, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @return The number of {@link FreedomLine}s of the chosen {@link Color}
+     * @throws IllegalArgumentException In case the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public int countLines(@NotNull Color color) throws IllegalArgumentException {
+        if (color != Color.WHITE && color != Color.BLACK) {
+            throw new IllegalArgumentException("Invalid player color, can be either black or white");
+        }
+        scan();
+        return color == Color.WHITE ? whiteLines : blackLines;
+    }
+
+    /**
+     * Counts the {@link FreedomLine}s of both {@link Color}s with a single traversal of the {@link Board}
+     * @return The {@link FreedomScore} of both {@link Player}s
+     */
+    public @NotNull FreedomScore getScore() {
+        scan();
+        return new FreedomScore(whiteLines, blackLines);
+    }
+
+    /**
+     * Collects all the {@link FreedomLine}s of exactly 4 {@link Piece}s of both {@link Color}s, packed as
+     * {@link CompactFreedomLine}s, with a single traversal of the {@link Board}. Since every cell belongs to at most
+     * one line for each {@link Direction}, an array as long as the number of cells of the {@link Board}
+     * can hold all the lines
+     * @param destination The array where to store the packed lines, starting from index 0
+     * @return The number of lines stored in the array
+     * @throws ArrayIndexOutOfBoundsException In case the array is too short to hold all the lines
+     */
+    public int collectLines(@NotNull int[] destination) throws ArrayIndexOutOfBoundsException {
+        collectedLines = destination;
+        try {
+            scan();
+        } finally {
+            collectedLines = null;
+        }
+        return whiteLines + blackLines;
+    }
+
+    /**
+     * Returns all the {@link FreedomLine}s of exactly 4 {@link Piece}s of both {@link Color}s
+     * @return A {@link List} of the scored {@link CompactFreedomLine}s
+     */
+    public @NotNull List<CompactFreedomLine> getLines() {
+        int boardSize = board.getSize();
+        int[] lines = new int[boardSize * boardSize];
+        int numberOfLines = collectLines(lines);
+        List<CompactFreedomLine> freedomLines = new ArrayList<>(numberOfLines);
+        for (int i = 0; i < numberOfLines; i++) {
+            freedomLines.add(CompactFreedomLine.unpack(lines[i]));
+        }
+        return freedomLines;
+    }
+
+    private void scan() {
+        whiteLines = 0;
+        blackLines = 0;
+        int boardSize = board.getSize();
+        for (int i = 0; i < boardSize; i++) {
+            scanLineFrom(i, 0, Direction.HORIZONTAL, 0, 1);
+            scanLineFrom(0, i, Direction.VERTICAL, 1, 0);
+            scanLineFrom(0, i, Direction.DIAGONAL_RIGHT, 1, 1);
+            scanLineFrom(0, i, Direction.DIAGONAL_LEFT, 1, -1);
+            if (i > 0) {
+                scanLineFrom(i, 0, Direction.DIAGONAL_RIGHT, 1, 1);
+                scanLineFrom(i, boardSize - 1, Direction.DIAGONAL_LEFT, 1, -1);
+            }
+        }
+    }
+
+    /**
+     * Walks a whole row, column or diagonal of the {@link Board}, from its first cell to the {@link Board} edge,
+     * and counts the runs of exactly 4 {@link Piece}s of the same {@link Color}
+     */
+    private void scanLineFrom(int row, int column, @NotNull Direction direction, int rowStep, int columnStep) {
+        Color runColor = null;
+        int runLength = 0;
+        while (board.contains(row, column)) {
+            Piece piece = board.getPiece(Position.fromCoordinates(row, column));
+            Color color = piece == null ? null : piece.getPieceColor();
+            if (color != null && color == runColor) {
+                runLength++;
+            } else {
+                endRun(runColor, runLength, row - runLength * rowStep, column - runLength * columnStep, direction);
+                runColor = color;
+                runLength = color == null ? 0 : 1;
+            }
+            row += rowStep;
+            column += columnStep;
+        }
+        endRun(runColor, runLength, row - runLength * rowStep, column - runLength * columnStep, direction);
+    }
+
+    private void endRun(@Nullable Color runColor, int runLength, int startRow, int startColumn, @NotNull Direction direction) {
+        if (runLength != MAX_NUMBER_OF_STONES || runColor == null) return;
+        if (collectedLines != null) {
+            collectedLines[whiteLines + blackLines] = CompactFreedomLine.pack(startRow, startColumn, direction, runLength, runColor);
+        }
+        if (runColor == Color.WHITE) {
+            whiteLines++;
+        } else {
+            blackLines++;
+        }
+    }
+}
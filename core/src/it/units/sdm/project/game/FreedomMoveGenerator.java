@@ -0,0 +1,201 @@
+package it.units.sdm.project.game;
+
+import it.units.sdm.project.board.AdjacencyTable;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * This class generates all the legal {@link Move}s of a Freedom {@link BoardGame} with a single call, given the
+ * {@link Board} and the last played {@link Move}. Cells are identified by their index in row-major order,
+ * that is {@code row * boardSize + column}, like in {@link AdjacencyTable} and {@link BitBoard}.
+ * The legal {@link Move}s can be generated either as a list of cell indexes or as a bitmask, where the cell with
+ * index {@code i} is the bit {@code i % 64} of the word {@code i / 64}:
+ * <ul>
+ *     <li>in the {@link GameStatus#FREEDOM} state, every free cell is legal;</li>
+ *     <li>in the {@link GameStatus#NO_FREEDOM} state, only the free cells adjacent to the last played one are legal;</li>
+ *     <li>in the {@link GameStatus#LAST_MOVE} state, the only free cell is legal, and the {@link Player} can also pass.</li>
+ * </ul>
+ * The generator keeps its own scratch buffers, so no object is allocated while generating the {@link Move}s.
+ * For the same reason, an instance must not be shared among threads.
+ */
+public class FreedomMoveGenerator {
+    /**
+     * Cell index used to represent the choice of skipping the last {@link Move}
+     */
+    public static final int PASS = -1;
+    /**
+     * Cell index used to represent the absence of a last played {@link Move}
+     */
+    public static final int NO_LAST_MOVE = -1;
+    private static final int BITS_PER_WORD = 64;
+    @NotNull
+    private final Board<? extends Piece> board;
+    @NotNull
+    private final AdjacencyTable adjacencyTable;
+    @Nullable
+    private final BitBoard bitBoard;
+    @NotNull
+    private final long[] legalCells;
+
+    /**
+     * Creates a new {@link FreedomMoveGenerator} for the chosen {@link Board}
+     *
+     * @param board The {@link Board} on which the {@link Move}s are played
+     */
+    public FreedomMoveGenerator(@NotNull Board<? extends Piece> board) {
+        this.board = board;
+        this.adjacencyTable = board.getAdjacencyTable();
+        this.bitBoard = board instanceof BitBoard ? (BitBoard) board : null;
+        this.legalCells = new long[getNumberOfWords()];
+    }
+
+    /**
+     * Returns the maximum number of {@link Move}s that can be generated, which is the number of cells plus the
+     * {@link FreedomMoveGenerator#PASS}. An array of this length can hold the result of any generation
+     *
+     * @return The maximum number of {@link Move}s
+     */
+    public int getMaxNumberOfMoves() {
+        return adjacencyTable.getNumberOfCells() + 1;
+    }
+
+    /**
+     * Returns the number of {@code long} words needed by a bitmask of all the {@link Board} cells
+     *
+     * @return The number of words of a bitmask
+     */
+    public int getNumberOfWords() {
+        return (adjacencyTable.getNumberOfCells() + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    /**
+     * Converts a cell index to the corresponding {@link Position}
+     *
+     * @param cellIndex The cell index, in row-major order
+     * @return The {@link Position} of the cell
+     */
+    public @NotNull Position toPosition(int cellIndex) {
+        return adjacencyTable.toPosition(cellIndex);
+    }
+
+    /**
+     * Checks whether the next {@link Player} can skip the {@link Move}, which happens when there's only one free cell left
+     *
+     * @return {@code true} if the {@link Move} can be skipped, {@code false} otherwise
+     */
+    public boolean isPassLegal() {
+        return board.getNumberOfFreeCells() == 1;
+    }
+
+    /**
+     * Stores the indexes of all the cells the next {@link Player} can play into the destination array, in ascending order.
+     * In case the {@link Player} can also skip the {@link Move}, the {@link FreedomMoveGenerator#PASS} is stored last
+     *
+     * @param lastMove    The last played {@link Move}, or {@code null} if no {@link Move} was played yet
+     * @param destination The array where to store the legal {@link Move}s, starting from index 0. An array of
+     *                    {@link FreedomMoveGenerator#getMaxNumberOfMoves()} elements is always long enough
+     * @return The number of legal {@link Move}s stored in the array
+     */
+    public int generateMoves(@Nullable Move lastMove, @NotNull int[] destination) {
+        return generateMoves(toLastCellIndex(lastMove), destination);
+    }
+
+    /**
+     * Stores the indexes of all the cells the next {@link Player} can play into the destination array, in ascending order.
+     * In case the {@link Player} can also skip the {@link Move}, the {@link FreedomMoveGenerator#PASS} is stored last
+     *
+     * @param lastCellIndex The index of the last played cell, or {@link FreedomMoveGenerator#NO_LAST_MOVE}
+     *                      if no {@link Move} was played yet
+     * @param destination   The array where to store the legal {@link Move}s, starting from index 0. An array of
+     *                      {@link FreedomMoveGenerator#getMaxNumberOfMoves()} elements is always long enough
+     * @return The number of legal {@link Move}s stored in the array
+     */
+    public int generateMoves(int lastCellIndex, @NotNull int[] destination) {
+        generateMoves(lastCellIndex, legalCells);
+        int numberOfMoves = 0;
+        for (int i = 0; i < legalCells.length; i++) {
+            long word = legalCells[i];
+            while (word != 0) {
+                destination[numberOfMoves++] = i * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        if (isPassLegal()) destination[numberOfMoves++] = PASS;
+        return numberOfMoves;
+    }
+
+    /**
+     * Stores the bitmask of all the cells the next {@link Player} can play into the destination bitmask.
+     * Whether the {@link Player} can also skip the {@link Move} is told by {@link FreedomMoveGenerator#isPassLegal()}
+     *
+     * @param lastMove    The last played {@link Move}, or {@code null} if no {@link Move} was played yet
+     * @param destination The bitmask where the legal cells will be stored, at least
+     *                    {@link FreedomMoveGenerator#getNumberOfWords()} long
+     * @return The number of legal cells
+     */
+    public int generateMoves(@Nullable Move lastMove, @NotNull long[] destination) {
+        return generateMoves(toLastCellIndex(lastMove), destination);
+    }
+
+    /**
+     * Stores the bitmask of all the cells the next {@link Player} can play into the destination bitmask.
+     * Whether the {@link Player} can also skip the {@link Move} is told by {@link FreedomMoveGenerator#isPassLegal()}
+     *
+     * @param lastCellIndex The index of the last played cell, or {@link FreedomMoveGenerator#NO_LAST_MOVE}
+     *                      if no {@link Move} was played yet
+     * @param destination   The bitmask where the legal cells will be stored, at least
+     *                      {@link FreedomMoveGenerator#getNumberOfWords()} long
+     * @return The number of legal cells
+     */
+    public int generateMoves(int lastCellIndex, @NotNull long[] destination) {
+        int numberOfWords = getNumberOfWords();
+        Arrays.fill(destination, 0, numberOfWords, 0L);
+        long numberOfFreeCells = board.getNumberOfFreeCells();
+        if (numberOfFreeCells == 0) return 0;
+        if (lastCellIndex != NO_LAST_MOVE && numberOfFreeCells > 1) {
+            int numberOfLegalCells = addFreeAdjacentCells(lastCellIndex, destination);
+            if (numberOfLegalCells > 0) return numberOfLegalCells;
+        }
+        if (bitBoard != null) {
+            bitBoard.copyFreeCells(destination);
+            return (int) numberOfFreeCells;
+        }
+        for (int cellIndex = 0; cellIndex < adjacencyTable.getNumberOfCells(); cellIndex++) {
+            if (!isCellOccupied(cellIndex)) setBit(destination, cellIndex);
+        }
+        return (int) numberOfFreeCells;
+    }
+
+    private int toLastCellIndex(@Nullable Move lastMove) {
+        if (lastMove == null) return NO_LAST_MOVE;
+        return adjacencyTable.toCellIndex(lastMove.getPosition());
+    }
+
+    private int addFreeAdjacentCells(int cellIndex, @NotNull long[] destination) {
+        int numberOfFreeAdjacentCells = 0;
+        for (int i = 0; i < adjacencyTable.getNumberOfAdjacentCells(cellIndex); i++) {
+            int adjacentCellIndex = adjacencyTable.getAdjacentCell(cellIndex, i);
+            if (!isCellOccupied(adjacentCellIndex)) {
+                setBit(destination, adjacentCellIndex);
+                numberOfFreeAdjacentCells++;
+            }
+        }
+        return numberOfFreeAdjacentCells;
+    }
+
+    private boolean isCellOccupied(int cellIndex) {
+        if (bitBoard != null) return bitBoard.isCellOccupied(cellIndex);
+        return board.isCellOccupied(adjacencyTable.toPosition(cellIndex));
+    }
+
+    private static void setBit(@NotNull long[] bitmask, int bitIndex) {
+        bitmask[bitIndex / BITS_PER_WORD] |= 1L << (bitIndex % BITS_PER_WORD);
+    }
+}
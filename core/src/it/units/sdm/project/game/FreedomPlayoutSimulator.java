@@ -0,0 +1,268 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.TimeUtils;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
+
+/**
+ * This class estimates the winning probabilities of a Freedom {@link BoardGame} position by playing many random games,
+ * called playouts, from that position until the end. In every turn, the next {@link Player} picks one of the legal
+ * {@link Move}s generated by a {@link FreedomMoveGenerator} with uniform probability, including the choice of
+ * skipping the last {@link Move}.
+ * <p>
+ * The position is copied once into a {@link BitBoard} owned by the simulator. Each playout puts its {@link Stone}s on that
+ * {@link Board}, keeps the scores updated with an {@link IncrementalFreedomPointsCounter} and then removes them again,
+ * so running many playouts doesn't create any new {@link Board} or points counter.
+ * The random number generator can be seeded, so that the same sequence of playouts can be reproduced:
+ * <pre>{@code
+ * FreedomPlayoutSimulator simulator = new FreedomPlayoutSimulator(8, 42);
+ * simulator.setPosition(engine);
+ * FreedomPlayoutStatistics statistics = simulator.simulate(10000);
+ * double whiteWinProbability = statistics.getWinProbability(Color.WHITE);
+ * }</pre>
+ * A search can also descend a game tree from the starting position with {@link FreedomPlayoutSimulator#pushMove(int)}
+ * and climb back with {@link FreedomPlayoutSimulator#popMove()}, so that the following playouts start from a deeper
+ * position without copying it again.
+ * An instance must not be shared among threads.
+ */
+public class FreedomPlayoutSimulator {
+
+    @NotNull
+    private final BitBoard board;
+    @NotNull
+    private final FreedomMoveGenerator moveGenerator;
+    @NotNull
+    private final IncrementalFreedomPointsCounter pointsCounter;
+    @NotNull
+    private final Random random;
+    @NotNull
+    private final int[] legalMoves;
+    @NotNull
+    private final int[] playedCells;
+    @NotNull
+    private final int[] pushedCells;
+    @NotNull
+    private final int[] pushedLastCellIndexes;
+    private int numberOfPushedMoves;
+    private int lastCellIndex = FreedomMoveGenerator.NO_LAST_MOVE;
+    @NotNull
+    private Color nextColor = Color.WHITE;
+    private boolean isGameOver;
+
+    /**
+     * Creates a new {@link FreedomPlayoutSimulator} starting from an empty {@link Board}
+     *
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @param seed      The seed of the random number generator
+     * @throws InvalidBoardSizeException In case the {@link Board} size is outside the allowed range of [2, 26]
+     */
+    public FreedomPlayoutSimulator(int boardSize, long seed) throws InvalidBoardSizeException {
+        this.board = new BitBoard(boardSize);
+        this.moveGenerator = new FreedomMoveGenerator(board);
+        this.pointsCounter = new IncrementalFreedomPointsCounter(board);
+        this.random = new Random(seed);
+        this.legalMoves = new int[moveGenerator.getMaxNumberOfMoves()];
+        this.playedCells = new int[board.getNumberOfCells()];
+        this.pushedCells = new int[moveGenerator.getMaxNumberOfMoves()];
+        this.pushedLastCellIndexes = new int[moveGenerator.getMaxNumberOfMoves()];
+    }
+
+    /**
+     * Resets the seed of the random number generator, so that the following playouts can be reproduced
+     *
+     * @param seed The seed of the random number generator
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Sets the position from which the playouts start to the current position of a {@link FreedomEngine}
+     *
+     * @param engine The {@link FreedomEngine} whose position is copied
+     * @throws InvalidBoardSizeException In case the {@link FreedomEngine}'s {@link Board} has a different size
+     */
+    public void setPosition(@NotNull FreedomEngine<?> engine) throws InvalidBoardSizeException {
+        setPosition(engine.getBoard(), engine.getLastMove());
+        isGameOver = engine.getGameStatus() == GameStatus.GAME_OVER;
+    }
+
+    /**
+     * Sets the position from which the playouts start
+     *
+     * @param sourceBoard The {@link Board} whose {@link Piece}s are copied
+     * @param lastMove    The last {@link Move} played on the {@link Board}, or {@code null} if no {@link Move} was played
+     * @throws InvalidBoardSizeException In case the {@link Board} has a different size
+     */
+    public void setPosition(@NotNull Board<? extends Piece> sourceBoard, @Nullable Move lastMove) throws InvalidBoardSizeException {
+        board.copyPieces(sourceBoard);
+        pointsCounter.reset();
+        if (lastMove == null) {
+            lastCellIndex = FreedomMoveGenerator.NO_LAST_MOVE;
+            nextColor = Color.WHITE;
+        } else {
+            lastCellIndex = board.toCellIndex(lastMove.getPosition());
+            nextColor = Player.getOpponentColor(lastMove.getPlayer().getColor());
+        }
+        isGameOver = false;
+        numberOfPushedMoves = 0;
+    }
+
+    /**
+     * Returns the {@link Color} of the {@link Player} who's going to play next in the position the playouts start from
+     *
+     * @return The {@link Color} of the next {@link Player}
+     */
+    public @NotNull Color getNextColor() {
+        return nextColor;
+    }
+
+    /**
+     * Returns the maximum number of {@link Move}s that can be generated from any position
+     *
+     * @return The maximum number of {@link Move}s
+     * @see FreedomMoveGenerator#getMaxNumberOfMoves()
+     */
+    public int getMaxNumberOfMoves() {
+        return moveGenerator.getMaxNumberOfMoves();
+    }
+
+    /**
+     * Stores the indexes of all the cells the next {@link Player} can play in the position the playouts start from into the
+     * destination array, followed by {@link FreedomMoveGenerator#PASS} if the {@link Move} can be skipped.
+     * No {@link Move} is legal once the game is over
+     *
+     * @param destination The array where to store the legal {@link Move}s, at least
+     *                    {@link FreedomPlayoutSimulator#getMaxNumberOfMoves()} long
+     * @return The number of legal {@link Move}s stored in the array
+     */
+    public int generateMoves(@NotNull int[] destination) {
+        if (isGameOver) return 0;
+        return moveGenerator.generateMoves(lastCellIndex, destination);
+    }
+
+    /**
+     * Plays a {@link Move} on the position the playouts start from, so that the following playouts start right after it.
+     * The {@link Move} is not validated, so it must be one of those returned by
+     * {@link FreedomPlayoutSimulator#generateMoves(int[])}
+     *
+     * @param cellIndex The index of the played cell, or {@link FreedomMoveGenerator#PASS} to skip the last {@link Move}
+     */
+    public void pushMove(int cellIndex) {
+        pushedCells[numberOfPushedMoves] = cellIndex;
+        pushedLastCellIndexes[numberOfPushedMoves] = lastCellIndex;
+        numberOfPushedMoves++;
+        if (cellIndex == FreedomMoveGenerator.PASS) {
+            isGameOver = true;
+            return;
+        }
+        board.putStone(nextColor, cellIndex);
+        pointsCounter.onMovePlayed(nextColor, board.toPosition(cellIndex));
+        lastCellIndex = cellIndex;
+        nextColor = Player.getOpponentColor(nextColor);
+    }
+
+    /**
+     * Takes back the last {@link Move} played with {@link FreedomPlayoutSimulator#pushMove(int)}
+     *
+     * @throws IllegalStateException In case no {@link Move} was pushed since the position was set
+     */
+    public void popMove() throws IllegalStateException {
+        if (numberOfPushedMoves == 0) {
+            throw new IllegalStateException("There are no pushed moves to take back");
+        }
+        numberOfPushedMoves--;
+        int cellIndex = pushedCells[numberOfPushedMoves];
+        lastCellIndex = pushedLastCellIndexes[numberOfPushedMoves];
+        if (cellIndex == FreedomMoveGenerator.PASS) {
+            isGameOver = false;
+            return;
+        }
+        nextColor = Player.getOpponentColor(nextColor);
+        board.clearCell(cellIndex);
+        pointsCounter.onMoveUndone(nextColor, board.toPosition(cellIndex));
+    }
+
+    /**
+     * Plays a single random game from the starting position until the end, and then restores the starting position
+     *
+     * @return The {@link Color} of the winner, or {@code null} if it's a tie
+     */
+    public @Nullable Color playout() {
+        int numberOfPlayedCells = 0;
+        int playoutLastCellIndex = lastCellIndex;
+        Color playoutNextColor = nextColor;
+        if (!isGameOver) {
+            while (true) {
+                int numberOfLegalMoves = moveGenerator.generateMoves(playoutLastCellIndex, legalMoves);
+                if (numberOfLegalMoves == 0) break;
+                int cellIndex = legalMoves[random.nextInt(numberOfLegalMoves)];
+                if (cellIndex == FreedomMoveGenerator.PASS) break;
+                board.putStone(playoutNextColor, cellIndex);
+                pointsCounter.onMovePlayed(playoutNextColor, board.toPosition(cellIndex));
+                playedCells[numberOfPlayedCells++] = cellIndex;
+                playoutLastCellIndex = cellIndex;
+                playoutNextColor = Player.getOpponentColor(playoutNextColor);
+            }
+        }
+        Color winner = getCurrentWinner();
+        while (numberOfPlayedCells > 0) {
+            int cellIndex = playedCells[--numberOfPlayedCells];
+            playoutNextColor = Player.getOpponentColor(playoutNextColor);
+            board.clearCell(cellIndex);
+            pointsCounter.onMoveUndone(playoutNextColor, board.toPosition(cellIndex));
+        }
+        return winner;
+    }
+
+    /**
+     * Runs a batch of random playouts from the starting position
+     *
+     * @param numberOfPlayouts The number of playouts to run
+     * @return The {@link FreedomPlayoutStatistics} of the batch, including the number of playouts per second
+     */
+    public @NotNull FreedomPlayoutStatistics simulate(int numberOfPlayouts) {
+        int whiteWins = 0;
+        int blackWins = 0;
+        long startTime = TimeUtils.nanoTime();
+        for (int i = 0; i < numberOfPlayouts; i++) {
+            Color winner = playout();
+            if (winner == Color.WHITE) {
+                whiteWins++;
+            } else if (winner == Color.BLACK) {
+                blackWins++;
+            }
+        }
+        long elapsedNanoseconds = TimeUtils.nanoTime() - startTime;
+        return new FreedomPlayoutStatistics(whiteWins, blackWins, numberOfPlayouts - whiteWins - blackWins, elapsedNanoseconds);
+    }
+
+    /**
+     * Returns the {@link Board} where the playouts are played, which holds the starting position between playouts
+     *
+     * @return The simulator's {@link Board}
+     */
+    public @NotNull Board<Stone> getBoard() {
+        return board;
+    }
+
+    private @Nullable Color getCurrentWinner() {
+        int whiteScore = pointsCounter.getPlayerScore(Color.WHITE);
+        int blackScore = pointsCounter.getPlayerScore(Color.BLACK);
+        if (whiteScore > blackScore) {
+            return Color.WHITE;
+        } else if (blackScore > whiteScore) {
+            return Color.BLACK;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the results of a batch of random playouts run by a {@link FreedomPlayoutSimulator}.
+ */
+public class FreedomPlayoutStatistics {
+
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+    private final int whiteWins;
+    private final int blackWins;
+    private final int ties;
+    private final long elapsedNanoseconds;
+
+    /**
+     * Creates a new {@link FreedomPlayoutStatistics}
+     * @param whiteWins The number of playouts won by the {@link Color#WHITE} {@link Player}
+     * @param blackWins The number of playouts won by the {@link Color#BLACK} {@link Player}
+     * @param ties The number of playouts ended with a tie
+     * @param elapsedNanoseconds The time spent running the playouts, in nanoseconds
+     */
+    public FreedomPlayoutStatistics(int whiteWins, int blackWins, int ties, long elapsedNanoseconds) {
+        this.whiteWins = whiteWins;
+        this.blackWins = blackWins;
+        this.ties = ties;
+        this.elapsedNanoseconds = elapsedNanoseconds;
+    }
+
+    /**
+     * Returns the number of playouts won by the {@link Color#WHITE} {@link Player}
+     * @return The number of {@link Color#WHITE} wins
+     */
+    public int getWhiteWins() {
+        return whiteWins;
+    }
+
+    /**
+     * Returns the number of playouts won by the {@link Color#BLACK} {@link Player}
+     * @return The number of {@link Color#BLACK} wins
+     */
+    public int getBlackWins() {
+        return blackWins;
+    }
+
+    /**
+     * Returns the number of playouts ended with a tie
+     * @return The number of ties
+     */
+    public int getTies() {
+        return ties;
+    }
+
+    /**
+     * Returns the total number of playouts
+     * @return The number of playouts
+     */
+    public int getNumberOfPlayouts() {
+        return whiteWins + blackWins + ties;
+    }
+
+    /**
+     * Returns the estimated probability of winning for the {@link Player} of the chosen {@link Color},
+     * counting each tie as half a win
+     * @param color The {@link Player}'s {@link Color}, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @return The estimated winning probability, between 0 and 1, or 0.5 if no playout was run
+     * @throws IllegalArgumentException In case the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public double getWinProbability(@NotNull Color color) throws IllegalArgumentException {
+        int wins;
+        if (color == Color.WHITE) {
+            wins = whiteWins;
+        } else if (color == Color.BLACK) {
+            wins = blackWins;
+        } else {
+            throw new IllegalArgumentException("Invalid player color, can be either black or white");
+        }
+        if (getNumberOfPlayouts() == 0) return 0.5;
+        return (wins + ties / 2.0) / getNumberOfPlayouts();
+    }
+
+    /**
+     * Returns the time spent running the playouts
+     * @return The elapsed time, in nanoseconds
+     */
+    public long getElapsedNanoseconds() {
+        return elapsedNanoseconds;
+    }
+
+    /**
+     * Returns the throughput of the simulation
+     * @return The number of playouts run per second
+     */
+    public double getPlayoutsPerSecond() {
+        if (elapsedNanoseconds <= 0) return 0;
+        return getNumberOfPlayouts() * NANOSECONDS_PER_SECOND / elapsedNanoseconds;
+    }
+
+    @Override
+    public String toString() {
+        return getNumberOfPlayouts() + " playouts (white: " + whiteWins + ", black: " + blackWins + ", ties: " + ties
+                + "), " + Math.round(getPlayoutsPerSecond()) + " playouts/s";
+    }
+}
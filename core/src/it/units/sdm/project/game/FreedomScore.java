@@ -0,0 +1,93 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Represents the scores of both {@link Player}s in a Freedom {@link BoardGame}, as computed by a {@link FreedomLineScanner}.
+ */
+public class FreedomScore {
+
+    private final int whiteScore;
+    private final int blackScore;
+
+    /**
+     * Creates a new {@link FreedomScore}
+     * @param whiteScore The {@link Color#WHITE} {@link Player}'s score
+     * @param blackScore The {@link Color#BLACK} {@link Player}'s score
+     */
+    public FreedomScore(int whiteScore, int blackScore) {
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
+    }
+
+    /**
+     * Returns the {@link Color#WHITE} {@link Player}'s score
+     * @return The {@link Color#WHITE} {@link Player}'s score
+     */
+    public int getWhiteScore() {
+        return whiteScore;
+    }
+
+    /**
+     * Returns the {@link Color#BLACK} {@link Player}'s score
+     * @return The {@link Color#BLACK} {@link Player}'s score
+     */
+    public int getBlackScore() {
+        return blackScore;
+    }
+
+    /**
+     * Returns the score of the {@link Player} with the chosen {@link Color}
+     * @param color Freedom {@link Player}'s {@link Color}, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @return The {@link Player}'s score
+     * @throws IllegalArgumentException In case the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public int getScore(@NotNull Color color) throws IllegalArgumentException {
+        if (color == Color.WHITE) {
+            return whiteScore;
+        } else if (color == Color.BLACK) {
+            return blackScore;
+        }
+        throw new IllegalArgumentException("Invalid player color, can be either black or white");
+    }
+
+    /**
+     * Returns the {@link Color} of the {@link Player} with the highest score
+     * @return The {@link Color} of the winning {@link Player}, or {@code null} if it's a tie
+     */
+    public @Nullable Color getWinner() {
+        if (whiteScore > blackScore) {
+            return Color.WHITE;
+        } else if (blackScore > whiteScore) {
+            return Color.BLACK;
+        }
+        return null;
+    }
+
+    /**
+     * Two {@link FreedomScore}s are equal if both {@link Player}s' scores are equal
+     * @param o The {@link Object} to compare {@code this} with
+     * @return {@code true} if the {@link FreedomScore}s are equal, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FreedomScore that = (FreedomScore) o;
+        return whiteScore == that.whiteScore && blackScore == that.blackScore;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(whiteScore, blackScore);
+    }
+
+    @Override
+    public String toString() {
+        return "White: " + whiteScore + ", Black: " + blackScore;
+    }
+}
@@ -0,0 +1,86 @@
+package it.units.sdm.project.game;
+
+import it.units.sdm.project.board.Board;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the timings of the main operations of the game logic, so that they can be recorded by a profiler or a
+ * monitoring system. The game logic never reads a clock itself: it asks the {@link GameProbe} for a timestamp with
+ * {@link GameProbe#startTimer()} before each operation, and hands the timestamp back when the operation is over,
+ * along with the size of the {@link Board} and its number of free cells. This way the implementations choose their
+ * own clock, and the game logic stays free of platform-specific code, like the GWT build needs.
+ * <p>
+ * Every method does nothing by default, and the installed {@link GameProbe} is {@link GameProbe#DISABLED} until
+ * another one is installed with {@link GameProbes#install(GameProbe)}. The methods are called on the hot paths of the
+ * game logic, possibly by many threads at once, so they must be thread-safe and must return quickly.
+ */
+public interface GameProbe {
+    /**
+     * The {@link GameProbe} ignoring all the operations
+     */
+    GameProbe DISABLED = new GameProbe() {
+    };
+
+    /**
+     * Returns the timestamp an operation starts at
+     * @return The timestamp, in a unit chosen by the implementation, which is 0 by default
+     */
+    default long startTimer() {
+        return 0;
+    }
+
+    /**
+     * Called when a {@link Move} was played by a {@link FreedomEngine}, including the evaluation of the new
+     * {@link FreedomBoardStatusObserver.GameStatus}
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @param numberOfFreeCells The number of free cells after the {@link Move}
+     * @param startTime The timestamp returned by {@link GameProbe#startTimer()} before the {@link Move}
+     */
+    default void onMoveApplied(int boardSize, long numberOfFreeCells, long startTime) {
+    }
+
+    /**
+     * Called when a {@link FreedomEngine} refused to play a {@link Move} on an illegal {@link it.units.sdm.project.board.Position}
+     * @param boardSize The number of rows and columns of the {@link Board}
+     */
+    default void onMoveRejected(int boardSize) {
+    }
+
+    /**
+     * Called when a game played by a {@link FreedomEngine} reached the
+     * {@link FreedomBoardStatusObserver.GameStatus#GAME_OVER} state
+     * @param boardSize The number of rows and columns of the {@link Board}
+     */
+    default void onGameFinished(int boardSize) {
+    }
+
+    /**
+     * Called when a {@link FreedomBoardStatusObserver} computed the {@link FreedomBoardStatusObserver.GameStatus}
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @param numberOfFreeCells The number of free cells of the {@link Board}
+     * @param startTime The timestamp returned by {@link GameProbe#startTimer()} before the computation
+     */
+    default void onStatusComputed(int boardSize, long numberOfFreeCells, long startTime) {
+    }
+
+    /**
+     * Called when a {@link FreedomPointsCounter} counted the points on the {@link Board}
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @param numberOfFreeCells The number of free cells of the {@link Board}
+     * @param startTime The timestamp returned by {@link GameProbe#startTimer()} before the count
+     */
+    default void onScoreComputed(int boardSize, long numberOfFreeCells, long startTime) {
+    }
+
+    /**
+     * Called when a {@link ComputerPlayer} finished searching for its next {@link Move}
+     * @param algorithm The name of the search algorithm
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @param numberOfFreeCells The number of free cells of the {@link Board} the search started from
+     * @param numberOfNodes The number of positions or playouts the search went through
+     * @param startTime The timestamp returned by {@link GameProbe#startTimer()} before the search
+     */
+    default void onSearchFinished(@NotNull String algorithm, int boardSize, long numberOfFreeCells, long numberOfNodes,
+                                  long startTime) {
+    }
+}
@@ -0,0 +1,42 @@
+package it.units.sdm.project.game;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class holds the {@link GameProbe} the game logic reports its operations to. A single {@link GameProbe} is
+ * installed for the whole application, usually by the launcher at startup.
+ */
+public final class GameProbes {
+    @NotNull
+    private static volatile GameProbe installedProbe = GameProbe.DISABLED;
+
+    private GameProbes() {
+    }
+
+    /**
+     * Returns the installed {@link GameProbe}
+     * @return The installed {@link GameProbe}, which is {@link GameProbe#DISABLED} if none was installed
+     */
+    public static @NotNull GameProbe get() {
+        return installedProbe;
+    }
+
+    /**
+     * Installs a {@link GameProbe}, replacing the previous one
+     * @param probe The {@link GameProbe} to be installed, or {@link GameProbe#DISABLED} to stop reporting
+     */
+    public static void install(@NotNull GameProbe probe) {
+        installedProbe = probe;
+    }
+
+    /**
+     * Combines two {@link GameProbe}s into a single one, reporting every operation to both of them. The timestamps are
+     * taken by the first {@link GameProbe}, so both must measure time with the same clock
+     * @param first The {@link GameProbe} taking the timestamps
+     * @param second The other {@link GameProbe}
+     * @return The combined {@link GameProbe}
+     */
+    public static @NotNull GameProbe combine(@NotNull GameProbe first, @NotNull GameProbe second) {
+        return new CompositeGameProbe(first, second);
+    }
+}
@@ -0,0 +1,141 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class keeps track of the {@link Player}s' points in a Freedom {@link BoardGame} while {@link Move}s are played,
+ * without rescanning the whole {@link Board}. Like in {@link FreedomPointsCounter}, every line of exactly 4
+ * {@link Piece}s of the same {@link Color} represents a point.
+ * Since a new {@link Piece} can only change the lines passing through its {@link Position}, the scores are updated
+ * by looking only at the four lines (horizontal, vertical and the two diagonals) crossing the played {@link Position}.
+ * The {@link Piece} on the played {@link Position} is never read, so the scores can be updated either before or after
+ * the {@link Piece} is actually put on or removed from the {@link Board}.
+ */
+public class IncrementalFreedomPointsCounter {
+    private static final int MAX_NUMBER_OF_STONES = 4;
+    private static final int[] ROW_STEPS = {0, 1, 1, 1};
+    private static final int[] COLUMN_STEPS = {1, 0, -1, 1};
+    @NotNull
+    private final Board<? extends Piece> board;
+    private int whiteScore;
+    private int blackScore;
+
+    /**
+     * Creates an instance of an {@link IncrementalFreedomPointsCounter}. The initial scores are computed
+     * by counting all the lines that are already on the {@link Board}
+     * @param board {@link Board} on which to count the {@link Player}s' points
+     */
+    public IncrementalFreedomPointsCounter(@NotNull Board<? extends Piece> board) {
+        this.board = board;
+        reset();
+    }
+
+    /**
+     * Recomputes both {@link Player}s' scores from scratch, by scanning the whole {@link Board}.
+     * This method should be invoked in case the {@link Board} was modified without notifying {@code this} counter,
+     * for example after {@link Board#clearBoard()}
+     */
+    public void reset() {
+        FreedomPointsCounter pointsCounter = new FreedomPointsCounter(board);
+        whiteScore = pointsCounter.getPlayerScore(Color.WHITE);
+        blackScore = pointsCounter.getPlayerScore(Color.BLACK);
+    }
+
+    /**
+     * Updates the scores after a {@link Move} has been played, that is when a {@link Piece} of the {@link Move}'s
+     * {@link Player} is put on a free {@link Position}
+     * @param move The played {@link Move}
+     */
+    public void onMovePlayed(@NotNull Move move) {
+        onMovePlayed(move.getPlayer().getColor(), move.getPosition());
+    }
+
+    /**
+     * Updates the scores after a {@link Piece} of the chosen {@link Color} has been put on a free {@link Position}
+     * @param color The {@link Color} of the played {@link Piece}
+     * @param position The played {@link Position}
+     */
+    public void onMovePlayed(@NotNull Color color, @NotNull Position position) {
+        updateScore(color, position, 1);
+    }
+
+    /**
+     * Updates the scores after a {@link Move} has been undone, that is when the {@link Piece} of the {@link Move}'s
+     * {@link Player} is removed from the {@link Board}
+     * @param move The undone {@link Move}
+     */
+    public void onMoveUndone(@NotNull Move move) {
+        onMoveUndone(move.getPlayer().getColor(), move.getPosition());
+    }
+
+    /**
+     * Updates the scores after a {@link Piece} of the chosen {@link Color} has been removed from the {@link Board}
+     * @param color The {@link Color} of the removed {@link Piece}
+     * @param position The {@link Position} of the removed {@link Piece}
+     */
+    public void onMoveUndone(@NotNull Color color, @NotNull Position position) {
+        updateScore(color, position, -1);
+    }
+
+    private void updateScore(@NotNull Color color, @NotNull Position position, int sign) {
+        int scoreDifference = 0;
+        for (int direction = 0; direction < ROW_STEPS.length; direction++) {
+            int stonesAfter = countStonesOfTheSameColor(position, color, ROW_STEPS[direction], COLUMN_STEPS[direction]);
+            int stonesBefore = countStonesOfTheSameColor(position, color, -ROW_STEPS[direction], -COLUMN_STEPS[direction]);
+            if (stonesBefore + stonesAfter + 1 == MAX_NUMBER_OF_STONES) scoreDifference++;
+            if (stonesBefore == MAX_NUMBER_OF_STONES) scoreDifference--;
+            if (stonesAfter == MAX_NUMBER_OF_STONES) scoreDifference--;
+        }
+        if (color == Color.WHITE) {
+            whiteScore += sign * scoreDifference;
+        } else {
+            blackScore += sign * scoreDifference;
+        }
+    }
+
+    /**
+     * Counts the consecutive {@link Piece}s of the chosen {@link Color} starting next to the chosen {@link Position}
+     * and moving in the chosen direction
+     */
+    private int countStonesOfTheSameColor(@NotNull Position position, @NotNull Color color, int rowStep, int columnStep) {
+        int stones = 0;
+        int row = position.getRow() + rowStep;
+        int column = position.getColumn() + columnStep;
+        while (board.contains(row, column)) {
+            Piece piece = board.getPiece(Position.fromCoordinates(row, column));
+            if (piece == null || piece.getPieceColor() != color) break;
+            stones++;
+            row += rowStep;
+            column += columnStep;
+        }
+        return stones;
+    }
+
+    /**
+     * Gets the {@link Player}'s score
+     * @param player Freedom {@link Player}
+     * @return The {@link Player}'s score
+     */
+    public int getPlayerScore(@NotNull Player player) {
+        return getPlayerScore(player.getColor());
+    }
+
+    /**
+     * Gets the {@link Player}'s score
+     * @param color Freedom {@link Player}'s {@link Color}, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @return The {@link Player}'s score
+     * @throws IllegalArgumentException In case the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public int getPlayerScore(@NotNull Color color) throws IllegalArgumentException {
+        if (color == Color.WHITE) {
+            return whiteScore;
+        } else if (color == Color.BLACK) {
+            return blackScore;
+        }
+        throw new IllegalArgumentException("Invalid player color, can be either black or white");
+    }
+}
@@ -32,6 +32,15 @@ public class Player {
         return playersColor == Color.BLACK || playersColor == Color.WHITE;
     }
 
+    /**
+     * Returns the {@link Color} of the opponent of the {@link Player} with the given {@link Color}
+     * @param color The {@link Player}'s {@link Color}, either {@link Color#BLACK} or {@link Color#WHITE}
+     * @return The other {@link Color}
+     */
+    public static @NotNull Color getOpponentColor(@NotNull Color color) {
+        return color == Color.WHITE ? Color.BLACK : Color.WHITE;
+    }
+
     /**
      * Returns {@code this} {@link Player}'s {@link Color}
      * @return The {@link Player}'s {@link Color}
@@ -0,0 +1,288 @@
+package it.units.sdm.project.game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.AdjacencyTable;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.DihedralSymmetry;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.ZobristKeys;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class maps a Freedom position to its canonical representative, that is the same position among all its
+ * rotations and reflections, as given by {@link DihedralSymmetry}, which is chosen by every symmetric position.
+ * Since symmetric positions have the same value, any cache keyed by the canonical representative, like an opening
+ * book or a solution table, stores up to 8 times fewer positions and finds them up to 8 times more often.
+ * <p>
+ * A position is made of the stones of both colors, as bitmasks like the ones of {@link BitBoard}, and of the last
+ * played cell. The last played cell is dropped when it doesn't restrict the next {@link Move}, as in the
+ * {@link GameStatus#FREEDOM} and {@link GameStatus#LAST_MOVE} states, so that positions with the same legal
+ * {@link Move}s are equal. After {@link PositionCanonicalizer#canonicalize(long[], long[], int)}, the canonical
+ * representative is available through the getters, together with the symmetry mapping the position to it, so that
+ * a {@link Move} found in the canonical position can be mapped back with {@link DihedralSymmetry#getInverse(int)}:
+ * <pre>{@code
+ * int symmetry = canonicalizer.canonicalize(engine);
+ * int canonicalMove = cache.getBestMove(canonicalizer.getCanonicalHash());
+ * int move = canonicalizer.getDihedralSymmetry().transformCell(DihedralSymmetry.getInverse(symmetry), canonicalMove);
+ * }</pre>
+ * The canonicalizer keeps its own scratch buffers, so no object is allocated while canonicalizing.
+ * For the same reason, an instance must not be shared among threads.
+ */
+public class PositionCanonicalizer {
+    /**
+     * Cell index used to represent the absence of a last played cell, or of a restriction on the next {@link Move}
+     */
+    public static final int NO_LAST_CELL = -1;
+    private static final int BITS_PER_WORD = 64;
+    @NotNull
+    private final DihedralSymmetry dihedralSymmetry;
+    @NotNull
+    private final AdjacencyTable adjacencyTable;
+    @NotNull
+    private final ZobristKeys zobristKeys;
+    private final int numberOfWords;
+    @NotNull
+    private final long[] whiteStones;
+    @NotNull
+    private final long[] blackStones;
+    @NotNull
+    private long[] candidateWhiteStones;
+    @NotNull
+    private long[] candidateBlackStones;
+    @NotNull
+    private long[] canonicalWhiteStones;
+    @NotNull
+    private long[] canonicalBlackStones;
+    private int canonicalLastCellIndex = NO_LAST_CELL;
+    private int symmetry = DihedralSymmetry.IDENTITY;
+    private int canonicalSymmetries = 1 << DihedralSymmetry.IDENTITY;
+    private boolean isBlackToMove;
+    private boolean isLastMovePassed;
+
+    /**
+     * Creates a new {@link PositionCanonicalizer} for {@link Board}s of the chosen size
+     *
+     * @param boardSize The number of rows and columns of the {@link Board}
+     * @throws it.units.sdm.project.exceptions.InvalidBoardSizeException In case the size is outside the allowed
+     *                                                                   range of [2, 26]
+     */
+    public PositionCanonicalizer(int boardSize) {
+        this.dihedralSymmetry = DihedralSymmetry.forBoardSize(boardSize);
+        this.adjacencyTable = AdjacencyTable.forBoardSize(boardSize);
+        this.zobristKeys = ZobristKeys.forBoardSize(boardSize);
+        this.numberOfWords = (boardSize * boardSize + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        this.whiteStones = new long[numberOfWords];
+        this.blackStones = new long[numberOfWords];
+        this.candidateWhiteStones = new long[numberOfWords];
+        this.candidateBlackStones = new long[numberOfWords];
+        this.canonicalWhiteStones = new long[numberOfWords];
+        this.canonicalBlackStones = new long[numberOfWords];
+    }
+
+    /**
+     * Returns the symmetries of the {@link Board}s this canonicalizer works on
+     *
+     * @return The shared {@link DihedralSymmetry} instance
+     */
+    public @NotNull DihedralSymmetry getDihedralSymmetry() {
+        return dihedralSymmetry;
+    }
+
+    /**
+     * Finds the canonical representative of the current position of a {@link FreedomEngine}, whose
+     * {@link Board} must have the size of this canonicalizer
+     *
+     * @param engine The {@link FreedomEngine} holding the position
+     * @return The symmetry mapping the position to its canonical representative
+     */
+    public int canonicalize(@NotNull FreedomEngine<?> engine) {
+        Board<?> board = engine.getBoard();
+        if (board instanceof BitBoard) {
+            ((BitBoard) board).copyStones(Color.WHITE, whiteStones);
+            ((BitBoard) board).copyStones(Color.BLACK, blackStones);
+        } else {
+            copyStones(board);
+        }
+        Move lastMove = engine.getLastMove();
+        int lastCellIndex = lastMove == null ? NO_LAST_CELL : adjacencyTable.toCellIndex(lastMove.getPosition());
+        boolean isLastMovePassed = engine.getGameStatus() == GameStatus.GAME_OVER && board.getNumberOfFreeCells() > 0;
+        return canonicalize(whiteStones, blackStones, lastCellIndex,
+                engine.getNextPlayer().getColor() == Color.BLACK, isLastMovePassed);
+    }
+
+    /**
+     * Finds the canonical representative of a position where no {@link Move} was skipped, with the
+     * {@link Player} to move deduced from the number of stones, since the white {@link Player} always moves first
+     *
+     * @param whiteStones   The bitmask of the cells holding a white stone
+     * @param blackStones   The bitmask of the cells holding a black stone
+     * @param lastCellIndex The index of the last played cell, or {@link PositionCanonicalizer#NO_LAST_CELL}
+     * @return The symmetry mapping the position to its canonical representative
+     */
+    public int canonicalize(@NotNull long[] whiteStones, @NotNull long[] blackStones, int lastCellIndex) {
+        return canonicalize(whiteStones, blackStones, lastCellIndex,
+                countCells(whiteStones) > countCells(blackStones), false);
+    }
+
+    /**
+     * Returns the symmetry mapping the last canonicalized position to its canonical representative
+     *
+     * @return The symmetry number
+     */
+    public int getSymmetry() {
+        return symmetry;
+    }
+
+    /**
+     * Maps a {@link Move} of the last canonicalized position to the canonical representative. When the position is
+     * itself symmetric, several symmetries map it to the canonical representative, and then all the equivalent
+     * {@link Move}s, like the 4 corners of the empty {@link Board}, are mapped to the same cell
+     *
+     * @param cellIndex The index of the played cell, or {@link FreedomMoveGenerator#PASS}
+     * @return The index of the cell in the canonical representative, or {@link FreedomMoveGenerator#PASS}
+     */
+    public int getCanonicalMove(int cellIndex) {
+        if (cellIndex == FreedomMoveGenerator.PASS) return FreedomMoveGenerator.PASS;
+        int canonicalCellIndex = Integer.MAX_VALUE;
+        for (int candidateSymmetry = 0; candidateSymmetry < DihedralSymmetry.NUMBER_OF_SYMMETRIES; candidateSymmetry++) {
+            if ((canonicalSymmetries & 1 << candidateSymmetry) != 0) {
+                canonicalCellIndex = Math.min(canonicalCellIndex, dihedralSymmetry.transformCell(candidateSymmetry, cellIndex));
+            }
+        }
+        return canonicalCellIndex;
+    }
+
+    /**
+     * Returns the last played cell of the canonical representative
+     *
+     * @return The index of the cell, or {@link PositionCanonicalizer#NO_LAST_CELL} if the next {@link Move} is not
+     * restricted to the cells adjacent to the last one
+     */
+    public int getCanonicalLastCellIndex() {
+        return canonicalLastCellIndex;
+    }
+
+    /**
+     * Stores the stones of a {@link Color} of the canonical representative into the destination bitmask
+     *
+     * @param color       The {@link Color} of the stones: {@link Color#WHITE}, or any other {@link Color} for the
+     *                    black stones
+     * @param destination The bitmask where the stones will be stored, at least as long as the ones of {@link BitBoard}
+     */
+    public void copyCanonicalStones(@NotNull Color color, @NotNull long[] destination) {
+        System.arraycopy(color == Color.WHITE ? canonicalWhiteStones : canonicalBlackStones, 0, destination, 0, numberOfWords);
+    }
+
+    /**
+     * Returns the Zobrist hash of the canonical representative, which is the same for all the symmetric positions.
+     * It's computed with the same {@link ZobristKeys} as {@link FreedomEngine#getPositionHash()}, so the two hashes
+     * are equal whenever the position is already canonical and its last played cell restricts the next {@link Move}
+     *
+     * @return The 64-bit hash of the canonical representative
+     */
+    public long getCanonicalHash() {
+        long stonesHash = 0;
+        for (int i = 0; i < numberOfWords; i++) {
+            stonesHash ^= getStonesHash(Color.WHITE, i, canonicalWhiteStones[i]);
+            stonesHash ^= getStonesHash(Color.BLACK, i, canonicalBlackStones[i]);
+        }
+        int lastCellIndex = canonicalLastCellIndex == NO_LAST_CELL ? ZobristKeys.NO_LAST_CELL : canonicalLastCellIndex;
+        return zobristKeys.getPositionHash(stonesHash, lastCellIndex, isBlackToMove, isLastMovePassed);
+    }
+
+    private int canonicalize(@NotNull long[] whiteStones, @NotNull long[] blackStones, int lastCellIndex,
+                             boolean isBlackToMove, boolean isLastMovePassed) {
+        this.isBlackToMove = isBlackToMove;
+        this.isLastMovePassed = isLastMovePassed;
+        if (lastCellIndex != NO_LAST_CELL && !isRestrictingLastCell(whiteStones, blackStones, lastCellIndex)) {
+            lastCellIndex = NO_LAST_CELL;
+        }
+        symmetry = DihedralSymmetry.IDENTITY;
+        canonicalSymmetries = 1 << DihedralSymmetry.IDENTITY;
+        System.arraycopy(whiteStones, 0, canonicalWhiteStones, 0, numberOfWords);
+        System.arraycopy(blackStones, 0, canonicalBlackStones, 0, numberOfWords);
+        canonicalLastCellIndex = lastCellIndex;
+        for (int candidateSymmetry = 1; candidateSymmetry < DihedralSymmetry.NUMBER_OF_SYMMETRIES; candidateSymmetry++) {
+            dihedralSymmetry.transformCells(candidateSymmetry, whiteStones, candidateWhiteStones);
+            dihedralSymmetry.transformCells(candidateSymmetry, blackStones, candidateBlackStones);
+            int candidateLastCellIndex = lastCellIndex == NO_LAST_CELL
+                    ? NO_LAST_CELL
+                    : dihedralSymmetry.transformCell(candidateSymmetry, lastCellIndex);
+            int comparison = compareToCanonical(candidateLastCellIndex);
+            if (comparison == 0) canonicalSymmetries |= 1 << candidateSymmetry;
+            if (comparison < 0) {
+                // The arrays are swapped rather than copied, the old canonical ones become the next scratch buffers
+                long[] swappedStones = canonicalWhiteStones;
+                canonicalWhiteStones = candidateWhiteStones;
+                candidateWhiteStones = swappedStones;
+                swappedStones = canonicalBlackStones;
+                canonicalBlackStones = candidateBlackStones;
+                candidateBlackStones = swappedStones;
+                canonicalLastCellIndex = candidateLastCellIndex;
+                symmetry = candidateSymmetry;
+                canonicalSymmetries = 1 << candidateSymmetry;
+            }
+        }
+        return symmetry;
+    }
+
+    private int compareToCanonical(int candidateLastCellIndex) {
+        for (int i = numberOfWords - 1; i >= 0; i--) {
+            int comparison = compareUnsigned(candidateWhiteStones[i], canonicalWhiteStones[i]);
+            if (comparison != 0) return comparison;
+        }
+        for (int i = numberOfWords - 1; i >= 0; i--) {
+            int comparison = compareUnsigned(candidateBlackStones[i], canonicalBlackStones[i]);
+            if (comparison != 0) return comparison;
+        }
+        return Integer.compare(candidateLastCellIndex, canonicalLastCellIndex);
+    }
+
+    private static int compareUnsigned(long first, long second) {
+        return Long.compare(first + Long.MIN_VALUE, second + Long.MIN_VALUE);
+    }
+
+    private boolean isRestrictingLastCell(@NotNull long[] whiteStones, @NotNull long[] blackStones, int lastCellIndex) {
+        if (adjacencyTable.getNumberOfCells() - countCells(whiteStones) - countCells(blackStones) <= 1) return false;
+        for (int i = 0; i < adjacencyTable.getNumberOfAdjacentCells(lastCellIndex); i++) {
+            int adjacentCellIndex = adjacencyTable.getAdjacentCell(lastCellIndex, i);
+            long cellBit = 1L << (adjacentCellIndex % BITS_PER_WORD);
+            if (((whiteStones[adjacentCellIndex / BITS_PER_WORD] | blackStones[adjacentCellIndex / BITS_PER_WORD]) & cellBit) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int countCells(@NotNull long[] cells) {
+        int numberOfCells = 0;
+        for (int i = 0; i < numberOfWords; i++) {
+            numberOfCells += Long.bitCount(cells[i]);
+        }
+        return numberOfCells;
+    }
+
+    private long getStonesHash(@NotNull Color color, int wordIndex, long word) {
+        long stonesHash = 0;
+        while (word != 0) {
+            stonesHash ^= zobristKeys.getStoneKey(color, wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word));
+            word &= word - 1;
+        }
+        return stonesHash;
+    }
+
+    private void copyStones(@NotNull Board<?> board) {
+        for (int i = 0; i < numberOfWords; i++) {
+            whiteStones[i] = 0;
+            blackStones[i] = 0;
+        }
+        for (int cellIndex = 0; cellIndex < adjacencyTable.getNumberOfCells(); cellIndex++) {
+            Piece piece = board.getPiece(adjacencyTable.toPosition(cellIndex));
+            if (piece == null) continue;
+            long[] stones = piece.getPieceColor() == Color.WHITE ? whiteStones : blackStones;
+            stones[cellIndex / BITS_PER_WORD] |= 1L << (cellIndex % BITS_PER_WORD);
+        }
+    }
+}
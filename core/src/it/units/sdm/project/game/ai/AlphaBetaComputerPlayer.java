@@ -0,0 +1,104 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.GameProbe;
+import it.units.sdm.project.game.GameProbes;
+import it.units.sdm.project.game.Move;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link ComputerPlayer} choosing its {@link Move}s with an alpha-beta search deepened one ply at a time until its
+ * thinking time runs out. On small boards the search often reaches the end of the game, and then the chosen
+ * {@link Move} is perfect. The transposition table is kept between consecutive {@link Move}s, so the positions
+ * already searched are not searched again.
+ * The statistics of the last search, like the depth reached and the nodes searched per second, are available
+ * through {@link AlphaBetaComputerPlayer#getLastStatistics()}.
+ */
+public class AlphaBetaComputerPlayer implements ComputerPlayer {
+    /**
+     * Default base 2 logarithm of the number of transposition table slots, which takes 32 MB
+     */
+    public static final int DEFAULT_TRANSPOSITION_TABLE_BITS = 21;
+    /**
+     * Default maximum depth of the search, in plies
+     */
+    public static final int DEFAULT_MAX_DEPTH = 64;
+    private static final long NANOSECONDS_PER_MILLISECOND = 1_000_000;
+    private final long thinkingTimeMillis;
+    private final int maxDepth;
+    private final int transpositionTableBits;
+    @Nullable
+    private AlphaBetaSearch search;
+    @Nullable
+    private AlphaBetaStatistics lastStatistics;
+
+    /**
+     * Creates a new {@link AlphaBetaComputerPlayer}, with the default maximum depth and transposition table size
+     * @param thinkingTimeMillis The wall-clock time spent choosing each {@link Move}, in milliseconds
+     * @throws IllegalArgumentException In case the thinking time is negative
+     */
+    public AlphaBetaComputerPlayer(long thinkingTimeMillis) throws IllegalArgumentException {
+        this(thinkingTimeMillis, DEFAULT_MAX_DEPTH, DEFAULT_TRANSPOSITION_TABLE_BITS);
+    }
+
+    /**
+     * Creates a new {@link AlphaBetaComputerPlayer}
+     * @param thinkingTimeMillis The wall-clock time spent choosing each {@link Move}, in milliseconds
+     * @param maxDepth The maximum depth of the search, in plies
+     * @param transpositionTableBits The base 2 logarithm of the number of transposition table slots
+     * @throws IllegalArgumentException In case the thinking time is negative, the maximum depth is not positive
+     * or the transposition table size is outside the range [2^1, 2^28]
+     */
+    public AlphaBetaComputerPlayer(long thinkingTimeMillis, int maxDepth, int transpositionTableBits) throws IllegalArgumentException {
+        if (thinkingTimeMillis < 0) {
+            throw new IllegalArgumentException("The thinking time can't be negative");
+        }
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("The maximum depth must be at least 1");
+        }
+        if (transpositionTableBits < 1 || transpositionTableBits > 28) {
+            throw new IllegalArgumentException("The transposition table size must be between 2^1 and 2^28 slots");
+        }
+        this.thinkingTimeMillis = thinkingTimeMillis;
+        this.maxDepth = maxDepth;
+        this.transpositionTableBits = transpositionTableBits;
+    }
+
+    @Override
+    public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) throws IllegalStateException {
+        if (engine.getGameStatus() == GameStatus.GAME_OVER) {
+            throw new IllegalStateException("The game is over, there are no moves to choose");
+        }
+        GameProbe probe = GameProbes.get();
+        long startTime = probe.startTimer();
+        int boardSize = engine.getBoard().getSize();
+        if (search == null || search.getBoardSize() != boardSize) {
+            search = new AlphaBetaSearch(boardSize, transpositionTableBits);
+        }
+        search.setPosition(engine);
+        long deadline = System.nanoTime() + thinkingTimeMillis * NANOSECONDS_PER_MILLISECOND;
+        lastStatistics = search.search(deadline, maxDepth);
+        probe.onSearchFinished(ComputerPlayerFactory.ALPHA_BETA, boardSize, engine.getBoard().getNumberOfFreeCells(),
+                lastStatistics.getNumberOfNodes(), startTime);
+        if (lastStatistics.getBestMove() == FreedomMoveGenerator.PASS) return null;
+        return engine.getMoveGenerator().toPosition(lastStatistics.getBestMove());
+    }
+
+    /**
+     * Returns the statistics of the last search
+     * @return The {@link AlphaBetaStatistics} of the last search, or {@code null} if no {@link Move} was chosen yet
+     */
+    public @Nullable AlphaBetaStatistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    @Override
+    public void dispose() {
+        search = null;
+    }
+}
@@ -0,0 +1,239 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.ZobristKeys;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.IncrementalFreedomPointsCounter;
+import it.units.sdm.project.game.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A negamax search with alpha-beta pruning and iterative deepening, working on its own {@link BitBoard} copy of the
+ * position. Positions are evaluated with the Freedom scoring rules of {@link FreedomPointsCounter}: a finished game
+ * is worth {@link AlphaBetaSearch#WIN_VALUE} plus the points difference for the winner, while an unfinished one is
+ * worth the points difference of the lines on the {@link BitBoard}, kept up to date by an
+ * {@link IncrementalFreedomPointsCounter}.
+ * <p>
+ * The results are cached in a {@link TranspositionTable} keyed on the same position hash returned by
+ * {@link FreedomEngine#getPositionHash()}, which covers the stones, the player to move, the last played cell
+ * (which restricts the legal moves in the {@link GameStatus#NO_FREEDOM} state) and the skip of the last move.
+ * The moves are searched in this order: the best move stored in the table first, and then the ones which caused the
+ * most cutoffs so far (history heuristic).
+ */
+final class AlphaBetaSearch {
+    static final int WIN_VALUE = 1_000_000;
+    private static final int INFINITE_VALUE = Integer.MAX_VALUE - 1;
+    private static final int MAX_DEPTH = 255;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final int NO_MOVE = -2;
+    @NotNull
+    private final BitBoard board;
+    @NotNull
+    private final FreedomMoveGenerator moveGenerator;
+    @NotNull
+    private final IncrementalFreedomPointsCounter pointsCounter;
+    @NotNull
+    private final TranspositionTable transpositionTable;
+    @NotNull
+    private final int[][] movesPerPly;
+    @NotNull
+    private final int[] lastCellIndexPerPly;
+    @NotNull
+    private final int[] history;
+    @NotNull
+    private final ZobristKeys zobristKeys;
+    private int lastCellIndex;
+    @NotNull
+    private Color nextColor = Color.WHITE;
+    private boolean isLastMovePassed;
+    private long numberOfNodes;
+    private long deadline;
+    private boolean canAbort;
+    private boolean isAborted;
+    private int rootBestMove;
+
+    /**
+     * Creates a new {@link AlphaBetaSearch}
+     * @param boardSize The number of rows and columns of the board
+     * @param transpositionTableBits The base 2 logarithm of the number of {@link TranspositionTable} slots
+     */
+    AlphaBetaSearch(int boardSize, int transpositionTableBits) {
+        this.board = new BitBoard(boardSize);
+        this.moveGenerator = new FreedomMoveGenerator(board);
+        this.pointsCounter = new IncrementalFreedomPointsCounter(board);
+        this.transpositionTable = new TranspositionTable(transpositionTableBits);
+        int maxNumberOfPlies = moveGenerator.getMaxNumberOfMoves() + 1;
+        this.movesPerPly = new int[maxNumberOfPlies][moveGenerator.getMaxNumberOfMoves()];
+        this.lastCellIndexPerPly = new int[maxNumberOfPlies];
+        this.history = new int[moveGenerator.getMaxNumberOfMoves()];
+        this.zobristKeys = ZobristKeys.forBoardSize(boardSize);
+    }
+
+    int getBoardSize() {
+        return board.getSize();
+    }
+
+    /**
+     * Copies the current position of the {@link FreedomEngine}
+     * @param engine The {@link FreedomEngine} holding the position
+     */
+    void setPosition(@NotNull FreedomEngine<?> engine) {
+        board.copyPieces(engine.getBoard());
+        pointsCounter.reset();
+        lastCellIndex = engine.getLastMove() == null
+                ? FreedomMoveGenerator.NO_LAST_MOVE
+                : board.toCellIndex(engine.getLastMove().getPosition());
+        nextColor = engine.getNextPlayer().getColor();
+        isLastMovePassed = engine.getGameStatus() == GameStatus.GAME_OVER && board.getNumberOfFreeCells() > 0;
+    }
+
+    /**
+     * Searches the position with increasing depths, until the deadline, the maximum depth or the end of the game
+     * is reached. The first iteration is always completed, so that a move is always found
+     * @param deadline The value of {@link System#nanoTime()} when the search must stop
+     * @param maxDepth The maximum depth, in plies
+     * @return The statistics of the last completed iteration
+     */
+    @NotNull AlphaBetaStatistics search(long deadline, int maxDepth) {
+        long startTime = System.nanoTime();
+        this.deadline = deadline;
+        numberOfNodes = 0;
+        canAbort = false;
+        isAborted = false;
+        int bestMove = FreedomMoveGenerator.PASS;
+        int bestValue = 0;
+        int depthReached = 0;
+        int maxUsefulDepth = Math.min(Math.min(maxDepth, MAX_DEPTH), (int) board.getNumberOfFreeCells() + 1);
+        for (int depth = 1; depth <= maxUsefulDepth; depth++) {
+            int value = negamax(depth, -INFINITE_VALUE, INFINITE_VALUE, 0);
+            if (isAborted) break;
+            bestMove = rootBestMove;
+            bestValue = value;
+            depthReached = depth;
+            canAbort = true;
+            if (Math.abs(value) >= WIN_VALUE) break;
+        }
+        return new AlphaBetaStatistics(bestMove, bestValue, depthReached, numberOfNodes, System.nanoTime() - startTime);
+    }
+
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        numberOfNodes++;
+        if (canAbort && numberOfNodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+            isAborted = true;
+            return 0;
+        }
+        int[] moves = movesPerPly[ply];
+        int numberOfMoves = isLastMovePassed ? 0 : moveGenerator.generateMoves(lastCellIndex, moves);
+        if (numberOfMoves == 0) return evaluateFinishedGame();
+        if (depth == 0) return evaluate();
+        int originalAlpha = alpha;
+        long hash = getPositionHash();
+        long entry = transpositionTable.probe(hash);
+        int tableMove = NO_MOVE;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            tableMove = TranspositionTable.getMove(entry);
+            if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                int value = TranspositionTable.getValue(entry);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT) return value;
+                if (bound == TranspositionTable.LOWER_BOUND) alpha = Math.max(alpha, value);
+                if (bound == TranspositionTable.UPPER_BOUND) beta = Math.min(beta, value);
+                if (alpha >= beta) return value;
+            }
+        }
+        orderMoves(moves, numberOfMoves, tableMove);
+        int bestValue = -INFINITE_VALUE;
+        int bestMove = moves[0];
+        for (int i = 0; i < numberOfMoves; i++) {
+            int move = moves[i];
+            playMove(move, ply);
+            int value = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            undoMove(move, ply);
+            if (isAborted) return 0;
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = move;
+            }
+            if (value > alpha) alpha = value;
+            if (alpha >= beta) {
+                history[move + 1] += depth * depth;
+                break;
+            }
+        }
+        int bound = TranspositionTable.EXACT;
+        if (bestValue <= originalAlpha) {
+            bound = TranspositionTable.UPPER_BOUND;
+        } else if (bestValue >= beta) {
+            bound = TranspositionTable.LOWER_BOUND;
+        }
+        transpositionTable.store(hash, depth, bestValue, bound, bestMove);
+        if (ply == 0) rootBestMove = bestMove;
+        return bestValue;
+    }
+
+    private void orderMoves(@NotNull int[] moves, int numberOfMoves, int tableMove) {
+        // Insertion sort by decreasing history score, with the table move always first
+        for (int i = 1; i < numberOfMoves; i++) {
+            int move = moves[i];
+            int score = getOrderingScore(move, tableMove);
+            int j = i - 1;
+            while (j >= 0 && getOrderingScore(moves[j], tableMove) < score) {
+                moves[j + 1] = moves[j];
+                j--;
+            }
+            moves[j + 1] = move;
+        }
+    }
+
+    private int getOrderingScore(int move, int tableMove) {
+        if (move == tableMove) return Integer.MAX_VALUE;
+        return history[move + 1];
+    }
+
+    private void playMove(int move, int ply) {
+        lastCellIndexPerPly[ply] = lastCellIndex;
+        if (move == FreedomMoveGenerator.PASS) {
+            // The turn goes to the opponent anyway, so that the finished game is evaluated from its point of view
+            isLastMovePassed = true;
+            nextColor = Player.getOpponentColor(nextColor);
+            return;
+        }
+        board.putStone(nextColor, move);
+        pointsCounter.onMovePlayed(nextColor, board.toPosition(move));
+        lastCellIndex = move;
+        nextColor = Player.getOpponentColor(nextColor);
+    }
+
+    private void undoMove(int move, int ply) {
+        if (move == FreedomMoveGenerator.PASS) {
+            isLastMovePassed = false;
+            nextColor = Player.getOpponentColor(nextColor);
+            return;
+        }
+        nextColor = Player.getOpponentColor(nextColor);
+        lastCellIndex = lastCellIndexPerPly[ply];
+        board.clearCell(move);
+        pointsCounter.onMoveUndone(nextColor, board.toPosition(move));
+    }
+
+    private int evaluate() {
+        return pointsCounter.getPlayerScore(nextColor) - pointsCounter.getPlayerScore(Player.getOpponentColor(nextColor));
+    }
+
+    private int evaluateFinishedGame() {
+        int pointsDifference = evaluate();
+        if (pointsDifference > 0) return WIN_VALUE + pointsDifference;
+        if (pointsDifference < 0) return -WIN_VALUE + pointsDifference;
+        return 0;
+    }
+
+    private long getPositionHash() {
+        // After a pass the turn was handed over, while the engine keeps it to the player who passed
+        boolean isBlackToMove = (nextColor == Color.BLACK) != isLastMovePassed;
+        return zobristKeys.getPositionHash(board.getZobristHash(), lastCellIndex, isBlackToMove, isLastMovePassed);
+    }
+}
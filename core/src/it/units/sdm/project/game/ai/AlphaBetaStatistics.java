@@ -0,0 +1,98 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.game.FreedomMoveGenerator;
+
+/**
+ * Represents the results of the last completed iteration of an {@link AlphaBetaComputerPlayer}'s search,
+ * which can be used to tune the player's thinking time and transposition table size.
+ */
+public class AlphaBetaStatistics {
+
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+    private final int bestMove;
+    private final int value;
+    private final int depthReached;
+    private final long numberOfNodes;
+    private final long elapsedNanoseconds;
+
+    /**
+     * Creates a new {@link AlphaBetaStatistics}
+     * @param bestMove The cell index of the best move found, or {@link FreedomMoveGenerator#PASS}
+     * @param value The value of the position, from the point of view of the player to move
+     * @param depthReached The depth of the last completed iteration, in plies
+     * @param numberOfNodes The number of positions visited by the whole search
+     * @param elapsedNanoseconds The time spent searching, in nanoseconds
+     */
+    public AlphaBetaStatistics(int bestMove, int value, int depthReached, long numberOfNodes, long elapsedNanoseconds) {
+        this.bestMove = bestMove;
+        this.value = value;
+        this.depthReached = depthReached;
+        this.numberOfNodes = numberOfNodes;
+        this.elapsedNanoseconds = elapsedNanoseconds;
+    }
+
+    /**
+     * Returns the best move found
+     * @return The cell index of the best move, or {@link FreedomMoveGenerator#PASS}
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * Returns the value of the position, from the point of view of the player to move. A finished game is worth
+     * one million plus the points difference when won, and minus that when lost, while an unfinished one is worth
+     * the current points difference
+     * @return The value of the position
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Checks whether the search proved the outcome of the game, because either a forced win or a forced loss was found
+     * @return {@code true} if the outcome is known, {@code false} otherwise
+     */
+    public boolean isOutcomeProven() {
+        return Math.abs(value) >= AlphaBetaSearch.WIN_VALUE;
+    }
+
+    /**
+     * Returns the depth of the last completed iteration
+     * @return The depth reached, in plies
+     */
+    public int getDepthReached() {
+        return depthReached;
+    }
+
+    /**
+     * Returns the number of positions visited by the whole search, including the unfinished last iteration
+     * @return The number of visited nodes
+     */
+    public long getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+    /**
+     * Returns the time spent searching
+     * @return The elapsed time, in nanoseconds
+     */
+    public long getElapsedNanoseconds() {
+        return elapsedNanoseconds;
+    }
+
+    /**
+     * Returns the throughput of the search
+     * @return The number of nodes visited per second
+     */
+    public double getNodesPerSecond() {
+        if (elapsedNanoseconds <= 0) return 0;
+        return numberOfNodes * NANOSECONDS_PER_SECOND / elapsedNanoseconds;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + depthReached + ", value " + value + ", " + numberOfNodes + " nodes, "
+                + Math.round(getNodesPerSecond()) + " nodes/s";
+    }
+}
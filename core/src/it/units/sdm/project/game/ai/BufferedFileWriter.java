@@ -0,0 +1,61 @@
+package it.units.sdm.project.game.ai;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the binary files of the {@link SolutionTable}s and the {@link OpeningBook}s through a single reusable
+ * buffer, which is flushed to the file whenever the next record doesn't fit in it, and when the writer is closed.
+ * Like the rest of the file formats of this package, the values are written in big-endian order.
+ */
+final class BufferedFileWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    @NotNull
+    private final FileChannel channel;
+    @NotNull
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Creates a new {@link BufferedFileWriter}, replacing the file if it already exists
+     * @param path The path of the file
+     * @throws IOException In case the file can't be opened
+     */
+    BufferedFileWriter(@NotNull Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Makes room in the buffer for the next record
+     * @param numberOfBytes The size of the record, at most 64 KiB
+     * @return The buffer the record must be put into, with at least that many bytes remaining
+     * @throws IOException In case the buffered records can't be written
+     */
+    @NotNull ByteBuffer reserve(int numberOfBytes) throws IOException {
+        if (buffer.remaining() < numberOfBytes) flush();
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,112 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.game.ComputerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class creates the {@link ComputerPlayer}s by name, so that the launchers can let the user choose them
+ * from the command line.
+ */
+public final class ComputerPlayerFactory {
+    /**
+     * Name of the {@link MctsComputerPlayer}
+     */
+    public static final String MCTS = "mcts";
+    /**
+     * Name of the {@link AlphaBetaComputerPlayer}
+     */
+    public static final String ALPHA_BETA = "alphabeta";
+    /**
+     * The longest thinking time per move the launchers accept, in milliseconds
+     */
+    public static final long MAX_THINKING_TIME_MILLIS = 60_000;
+    private static final List<String> NAMES = Arrays.asList(MCTS, ALPHA_BETA);
+
+    private ComputerPlayerFactory() {
+    }
+
+    /**
+     * Returns the names of all the available {@link ComputerPlayer}s
+     * @return An unmodifiable list of names
+     */
+    public static @NotNull List<String> getNames() {
+        return Collections.unmodifiableList(NAMES);
+    }
+
+    /**
+     * Checks that a {@link ComputerPlayer} with the given name is available
+     * @param name The name of the {@link ComputerPlayer}
+     * @throws IllegalArgumentException In case the name is not one of {@link ComputerPlayerFactory#getNames()}
+     */
+    public static void validateName(@NotNull String name) throws IllegalArgumentException {
+        if (!NAMES.contains(name)) {
+            throw new IllegalArgumentException("Unknown computer player: " + name + ", available ones are " + NAMES);
+        }
+    }
+
+    /**
+     * Parses the thinking time per move of a {@link ComputerPlayer}, as given by the user to a launcher
+     * @param value The thinking time, in milliseconds
+     * @return The thinking time, between 1 and {@link ComputerPlayerFactory#MAX_THINKING_TIME_MILLIS} milliseconds
+     * @throws IllegalArgumentException In case the value is not an integer or is out of that range
+     */
+    public static long parseThinkingTime(String value) throws IllegalArgumentException {
+        try {
+            long thinkingTimeMillis = Long.parseLong(value);
+            if (thinkingTimeMillis >= 1 && thinkingTimeMillis <= MAX_THINKING_TIME_MILLIS) return thinkingTimeMillis;
+        } catch (NumberFormatException e) {
+            // Reported below along with the out of range values
+        }
+        throw new IllegalArgumentException("The thinking time must be an integer between 1 and "
+                + MAX_THINKING_TIME_MILLIS + " milliseconds");
+    }
+
+    /**
+     * Creates a new {@link ComputerPlayer}
+     * @param name The name of the {@link ComputerPlayer}, one of {@link ComputerPlayerFactory#getNames()}
+     * @param thinkingTimeMillis The wall-clock time spent choosing each move, in milliseconds
+     * @return The new {@link ComputerPlayer}
+     * @throws IllegalArgumentException In case the name is unknown or the thinking time is negative
+     */
+    public static @NotNull ComputerPlayer create(@NotNull String name, long thinkingTimeMillis) throws IllegalArgumentException {
+        return create(name, thinkingTimeMillis, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new {@link ComputerPlayer} searching on a limited number of threads
+     * @param name The name of the {@link ComputerPlayer}, one of {@link ComputerPlayerFactory#getNames()}
+     * @param thinkingTimeMillis The wall-clock time spent choosing each move, in milliseconds
+     * @param maxNumberOfThreads The maximum number of threads searching in parallel
+     * @return The new {@link ComputerPlayer}
+     * @throws IllegalArgumentException In case the name is unknown, the thinking time is negative or the number of
+     * threads is not positive
+     */
+    public static @NotNull ComputerPlayer create(@NotNull String name, long thinkingTimeMillis, int maxNumberOfThreads)
+            throws IllegalArgumentException {
+        int numberOfThreads = getNumberOfThreads(name, maxNumberOfThreads);
+        if (MCTS.equals(name)) {
+            return new MctsComputerPlayer(thinkingTimeMillis, numberOfThreads, System.nanoTime());
+        }
+        return new AlphaBetaComputerPlayer(thinkingTimeMillis);
+    }
+
+    /**
+     * Returns the number of threads a {@link ComputerPlayer} created by
+     * {@link ComputerPlayerFactory#create(String, long, int)} searches on
+     * @param name The name of the {@link ComputerPlayer}, one of {@link ComputerPlayerFactory#getNames()}
+     * @param maxNumberOfThreads The maximum number of threads searching in parallel
+     * @return The number of threads, which is 1 for the single-threaded {@link ComputerPlayer}s
+     * @throws IllegalArgumentException In case the name is unknown or the number of threads is not positive
+     */
+    public static int getNumberOfThreads(@NotNull String name, int maxNumberOfThreads) throws IllegalArgumentException {
+        if (maxNumberOfThreads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        validateName(name);
+        return MCTS.equals(name) ? maxNumberOfThreads : 1;
+    }
+}
@@ -0,0 +1,175 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.GameProbe;
+import it.units.sdm.project.game.GameProbes;
+import it.units.sdm.project.game.Move;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ComputerPlayer} choosing its {@link Move}s with Monte Carlo Tree Search.
+ * Every thread runs its own {@link MctsSearch} from the current position until the thinking time runs out, and then
+ * the {@link Move} whose subtree was visited the most, summing the visits of all the threads, is chosen.
+ * The trees are kept between consecutive {@link Move}s, so the playouts run below the {@link Move}s actually played
+ * are not thrown away.
+ * The threads are daemon threads owned by the player, and they're released by {@link MctsComputerPlayer#dispose()}.
+ */
+public class MctsComputerPlayer implements ComputerPlayer {
+    private static final long NANOSECONDS_PER_MILLISECOND = 1_000_000;
+    private static final AtomicInteger PLAYER_COUNTER = new AtomicInteger();
+    private final long thinkingTimeMillis;
+    private final int numberOfThreads;
+    private final long seed;
+    @NotNull
+    private final ExecutorService executor;
+    @NotNull
+    private final List<MctsSearch> searches = new ArrayList<>();
+    private int lastNumberOfPlayouts;
+    private int lastNumberOfReusedPlayouts;
+
+    /**
+     * Creates a new {@link MctsComputerPlayer} searching on all the available processors
+     * @param thinkingTimeMillis The wall-clock time spent choosing each {@link Move}, in milliseconds
+     * @throws IllegalArgumentException In case the thinking time is negative
+     */
+    public MctsComputerPlayer(long thinkingTimeMillis) throws IllegalArgumentException {
+        this(thinkingTimeMillis, Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    /**
+     * Creates a new {@link MctsComputerPlayer}
+     * @param thinkingTimeMillis The wall-clock time spent choosing each {@link Move}, in milliseconds
+     * @param numberOfThreads The number of threads searching in parallel
+     * @param seed The seed of the random number generators, each thread uses a different one derived from it
+     * @throws IllegalArgumentException In case the thinking time is negative or the number of threads is not positive
+     */
+    public MctsComputerPlayer(long thinkingTimeMillis, int numberOfThreads, long seed) throws IllegalArgumentException {
+        if (thinkingTimeMillis < 0) {
+            throw new IllegalArgumentException("The thinking time can't be negative");
+        }
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+        this.thinkingTimeMillis = thinkingTimeMillis;
+        this.numberOfThreads = numberOfThreads;
+        this.seed = seed;
+        int playerId = PLAYER_COUNTER.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-" + playerId + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) throws IllegalStateException {
+        if (engine.getGameStatus() == GameStatus.GAME_OVER) {
+            throw new IllegalStateException("The game is over, there are no moves to choose");
+        }
+        GameProbe probe = GameProbes.get();
+        long startTime = probe.startTimer();
+        prepareSearches(engine.getBoard().getSize());
+        lastNumberOfReusedPlayouts = 0;
+        for (MctsSearch search : searches) {
+            lastNumberOfReusedPlayouts += search.setRoot(engine);
+        }
+        long deadline = System.nanoTime() + thinkingTimeMillis * NANOSECONDS_PER_MILLISECOND;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (MctsSearch search : searches) {
+            tasks.add(() -> {
+                search.search(deadline);
+                return null;
+            });
+        }
+        runAll(tasks);
+        int chosenMove = chooseMostVisitedMove(engine.getMoveGenerator().getMaxNumberOfMoves());
+        probe.onSearchFinished(ComputerPlayerFactory.MCTS, engine.getBoard().getSize(),
+                engine.getBoard().getNumberOfFreeCells(), lastNumberOfPlayouts, startTime);
+        if (chosenMove == FreedomMoveGenerator.PASS) return null;
+        return engine.getMoveGenerator().toPosition(chosenMove);
+    }
+
+    /**
+     * Returns the number of playouts run while choosing the last {@link Move}, summed over all the threads
+     * @return The number of new playouts of the last search
+     */
+    public int getLastNumberOfPlayouts() {
+        return lastNumberOfPlayouts;
+    }
+
+    /**
+     * Returns the number of playouts inherited from the previous searches when choosing the last {@link Move},
+     * summed over all the threads
+     * @return The number of reused playouts of the last search
+     */
+    public int getLastNumberOfReusedPlayouts() {
+        return lastNumberOfReusedPlayouts;
+    }
+
+    /**
+     * Returns the number of threads searching in parallel
+     * @return The number of threads
+     */
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+        searches.clear();
+    }
+
+    private void prepareSearches(int boardSize) {
+        if (!searches.isEmpty() && searches.get(0).getBoardSize() == boardSize) return;
+        searches.clear();
+        for (int i = 0; i < numberOfThreads; i++) {
+            searches.add(new MctsSearch(boardSize, seed + i));
+        }
+    }
+
+    private void runAll(@NotNull List<Callable<Void>> tasks) throws IllegalStateException {
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The search failed", e.getCause());
+        }
+    }
+
+    private int chooseMostVisitedMove(int maxNumberOfMoves) {
+        // The visits of each move are stored at index move + 1, so that the PASS is stored at index 0
+        int[] mergedVisits = new int[maxNumberOfMoves];
+        lastNumberOfPlayouts = -lastNumberOfReusedPlayouts;
+        for (MctsSearch search : searches) {
+            lastNumberOfPlayouts += search.getRoot().getVisits();
+            for (MctsNode child : search.getRoot().getChildren()) {
+                mergedVisits[child.getMove() + 1] += child.getVisits();
+            }
+        }
+        int mostVisitedIndex = 0;
+        for (int i = 1; i < mergedVisits.length; i++) {
+            if (mergedVisits[i] > mergedVisits[mostVisitedIndex]) mostVisitedIndex = i;
+        }
+        return mostVisitedIndex - 1;
+    }
+}
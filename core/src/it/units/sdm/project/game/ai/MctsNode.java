@@ -0,0 +1,139 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Represents a position in the game tree explored by a {@link MctsSearch}, reached by playing a single move from
+ * the position of its parent. Every node keeps the number of playouts that went through it and the total reward
+ * they gave to the player who made the node's move, counting a win as 1 and a tie as 0.5.
+ */
+final class MctsNode {
+    private static final double EXPLORATION_CONSTANT = Math.sqrt(2);
+    private final int move;
+    @NotNull
+    private final Color playerColor;
+    @NotNull
+    private final List<MctsNode> children = new ArrayList<>();
+    @NotNull
+    private final int[] untriedMoves;
+    private int numberOfUntriedMoves;
+    @Nullable
+    private MctsNode parent;
+    private int visits;
+    private double reward;
+
+    /**
+     * Creates a new {@link MctsNode}
+     * @param move The cell index of the move leading to the node, or {@link FreedomMoveGenerator#PASS}
+     * @param playerColor The {@link Color} of the player who made the move
+     * @param parent The parent {@link MctsNode}, or {@code null} for the root
+     * @param untriedMoves The legal moves from the node's position, which will be expanded one at a time
+     */
+    MctsNode(int move, @NotNull Color playerColor, @Nullable MctsNode parent, @NotNull int[] untriedMoves) {
+        this.move = move;
+        this.playerColor = playerColor;
+        this.parent = parent;
+        this.untriedMoves = untriedMoves;
+        this.numberOfUntriedMoves = untriedMoves.length;
+    }
+
+    int getMove() {
+        return move;
+    }
+
+    @Nullable MctsNode getParent() {
+        return parent;
+    }
+
+    int getVisits() {
+        return visits;
+    }
+
+    @NotNull List<MctsNode> getChildren() {
+        return children;
+    }
+
+    boolean hasUntriedMoves() {
+        return numberOfUntriedMoves > 0;
+    }
+
+    boolean hasChildren() {
+        return !children.isEmpty();
+    }
+
+    /**
+     * Makes {@code this} node the root of its tree, so that the rest of the old tree can be garbage collected
+     */
+    void detach() {
+        parent = null;
+    }
+
+    /**
+     * Finds the child reached by the chosen move
+     * @param move The cell index of the move, or {@link FreedomMoveGenerator#PASS}
+     * @return The child {@link MctsNode}, or {@code null} if the move wasn't expanded yet
+     */
+    @Nullable MctsNode getChild(int move) {
+        for (MctsNode child : children) {
+            if (child.move == move) return child;
+        }
+        return null;
+    }
+
+    /**
+     * Removes a random move from the untried ones
+     * @param random The random number generator
+     * @return The removed move
+     */
+    int removeUntriedMove(@NotNull Random random) {
+        int index = random.nextInt(numberOfUntriedMoves);
+        int removedMove = untriedMoves[index];
+        untriedMoves[index] = untriedMoves[--numberOfUntriedMoves];
+        return removedMove;
+    }
+
+    @NotNull MctsNode addChild(int move, @NotNull Color playerColor, @NotNull int[] untriedMoves) {
+        MctsNode child = new MctsNode(move, playerColor, this, untriedMoves);
+        children.add(child);
+        return child;
+    }
+
+    /**
+     * Selects the child with the highest upper confidence bound (UCT), which balances the children with the
+     * best average reward and the least explored ones
+     * @return The selected child
+     */
+    @NotNull MctsNode selectChild() {
+        double logVisits = Math.log(visits);
+        MctsNode selectedChild = children.get(0);
+        double bestBound = Double.NEGATIVE_INFINITY;
+        for (MctsNode child : children) {
+            double bound = child.reward / child.visits + EXPLORATION_CONSTANT * Math.sqrt(logVisits / child.visits);
+            if (bound > bestBound) {
+                bestBound = bound;
+                selectedChild = child;
+            }
+        }
+        return selectedChild;
+    }
+
+    /**
+     * Records the result of a playout that went through {@code this} node
+     * @param winner The {@link Color} of the winner, or {@code null} in case of a tie
+     */
+    void update(@Nullable Color winner) {
+        visits++;
+        if (winner == null) {
+            reward += 0.5;
+        } else if (winner == playerColor) {
+            reward += 1;
+        }
+    }
+}
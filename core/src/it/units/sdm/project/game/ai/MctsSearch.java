@@ -0,0 +1,124 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.FreedomPlayoutSimulator;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A single-threaded Monte Carlo Tree Search, owning its own game tree and {@link FreedomPlayoutSimulator}.
+ * A {@link MctsComputerPlayer} runs one of them on each thread and merges their results (root parallelisation),
+ * so no state is shared among threads while searching.
+ * Between consecutive searches the tree is kept: if the new position follows the old root by the {@link Move}s
+ * played meanwhile, the matching subtree becomes the new root together with the playouts already run below it.
+ */
+final class MctsSearch {
+    @NotNull
+    private final FreedomPlayoutSimulator simulator;
+    @NotNull
+    private final Random random;
+    @NotNull
+    private final int[] legalMoves;
+    @NotNull
+    private final List<Move> rootMoves = new ArrayList<>();
+    @Nullable
+    private MctsNode root;
+
+    /**
+     * Creates a new {@link MctsSearch}
+     * @param boardSize The number of rows and columns of the board
+     * @param seed The seed of the random number generators
+     */
+    MctsSearch(int boardSize, long seed) {
+        this.simulator = new FreedomPlayoutSimulator(boardSize, seed);
+        this.random = new Random(seed);
+        this.legalMoves = new int[simulator.getMaxNumberOfMoves()];
+    }
+
+    int getBoardSize() {
+        return simulator.getBoard().getSize();
+    }
+
+    /**
+     * Moves the root of the tree to the current position of the {@link FreedomEngine}, reusing the old tree when possible
+     * @param engine The {@link FreedomEngine} holding the current position
+     * @return The number of playouts inherited from the previous searches
+     */
+    int setRoot(@NotNull FreedomEngine<?> engine) {
+        simulator.setPosition(engine);
+        List<Move> moves = engine.getMoves();
+        root = findReusableRoot(moves);
+        if (root == null) {
+            Color lastPlayerColor = Player.getOpponentColor(simulator.getNextColor());
+            root = new MctsNode(FreedomMoveGenerator.NO_LAST_MOVE, lastPlayerColor, null, generateMoves());
+        }
+        rootMoves.clear();
+        rootMoves.addAll(moves);
+        return root.getVisits();
+    }
+
+    /**
+     * Runs playouts until the deadline, always running at least one
+     * @param deadline The value of {@link System#nanoTime()} when the search must stop
+     */
+    void search(long deadline) {
+        do {
+            runIteration();
+        } while (System.nanoTime() < deadline);
+    }
+
+    @NotNull MctsNode getRoot() {
+        if (root == null) throw new IllegalStateException("The root was not set");
+        return root;
+    }
+
+    private void runIteration() {
+        MctsNode node = getRoot();
+        int depth = 0;
+        while (!node.hasUntriedMoves() && node.hasChildren()) {
+            node = node.selectChild();
+            simulator.pushMove(node.getMove());
+            depth++;
+        }
+        if (node.hasUntriedMoves()) {
+            int move = node.removeUntriedMove(random);
+            Color playerColor = simulator.getNextColor();
+            simulator.pushMove(move);
+            depth++;
+            node = node.addChild(move, playerColor, generateMoves());
+        }
+        Color winner = simulator.playout();
+        for (MctsNode visitedNode = node; visitedNode != null; visitedNode = visitedNode.getParent()) {
+            visitedNode.update(winner);
+        }
+        for (int i = 0; i < depth; i++) {
+            simulator.popMove();
+        }
+    }
+
+    private @NotNull int[] generateMoves() {
+        return Arrays.copyOf(legalMoves, simulator.generateMoves(legalMoves));
+    }
+
+    private @Nullable MctsNode findReusableRoot(@NotNull List<Move> moves) {
+        if (root == null || moves.size() < rootMoves.size() || !moves.subList(0, rootMoves.size()).equals(rootMoves)) {
+            return null;
+        }
+        MctsNode node = root;
+        for (Move move : moves.subList(rootMoves.size(), moves.size())) {
+            node = node.getChild(simulator.getBoard().getAdjacencyTable().toCellIndex(move.getPosition()));
+            if (node == null) return null;
+        }
+        node.detach();
+        return node;
+    }
+}
@@ -0,0 +1,152 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.DihedralSymmetry;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.PositionCanonicalizer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only opening book, mapping the positions of the first {@link Move}s of a game to the statistics of the
+ * {@link Move}s played from there, as collected by an {@link OpeningBookBuilder}.
+ * Positions are identified by the canonical hash of {@link PositionCanonicalizer}, and {@link Move}s are stored as
+ * played in the canonical representative, so all the symmetric positions share the same entries.
+ * <p>
+ * The book is a file of fixed-size records sorted by position hash, which is memory-mapped by
+ * {@link OpeningBook#load(Path)}: a lookup is a binary search straight on the mapped file, with no copy and no
+ * parsing, so even large books are opened instantly. Each 24-byte record, after a 32-byte header, holds:
+ * <ul>
+ *     <li>the canonical hash of the position, as a {@code long};</li>
+ *     <li>the cell index of the {@link Move} in the canonical representative, or {@link FreedomMoveGenerator#PASS};</li>
+ *     <li>the number of games the {@link Move} was played in;</li>
+ *     <li>the points got by the {@link it.units.sdm.project.game.Player} who played it, in half points;</li>
+ *     <li>4 unused bytes, which keep every record aligned to 8 bytes.</li>
+ * </ul>
+ * The records of the same position are adjacent. A loaded book is never modified, so it can be shared among threads.
+ */
+public final class OpeningBook {
+    static final long MAGIC = 0x4652454544424F4BL;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 24;
+    private static final int MOVE_OFFSET = 8;
+    private static final int GAMES_OFFSET = 12;
+    private static final int HALF_POINTS_OFFSET = 16;
+    private final int boardSize;
+    private final int numberOfEntries;
+    @NotNull
+    private final ByteBuffer records;
+
+    private OpeningBook(int boardSize, int numberOfEntries, @NotNull ByteBuffer records) {
+        this.boardSize = boardSize;
+        this.numberOfEntries = numberOfEntries;
+        this.records = records;
+    }
+
+    /**
+     * Memory-maps an {@link OpeningBook} written by {@link OpeningBookBuilder#write(Path)}
+     * @param path The path of the file
+     * @return The read-only {@link OpeningBook}
+     * @throws IOException In case the file can't be read or is not a valid {@link OpeningBook}
+     */
+    public static @NotNull OpeningBook load(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) throw new IOException(path + " is not an opening book");
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getLong(0) != MAGIC || buffer.getInt(8) != VERSION) {
+                throw new IOException(path + " is not an opening book");
+            }
+            int boardSize = buffer.getInt(12);
+            int numberOfEntries = buffer.getInt(16);
+            if (boardSize < Board.MIN_BOARD_SIZE || boardSize > Board.MAX_BOARD_SIZE || numberOfEntries < 0
+                    || channel.size() != HEADER_SIZE + (long) RECORD_SIZE * numberOfEntries) {
+                throw new IOException(path + " is a corrupted opening book");
+            }
+            buffer.position(HEADER_SIZE);
+            return new OpeningBook(boardSize, numberOfEntries, buffer.slice());
+        }
+    }
+
+    /**
+     * Returns the number of rows and columns of the board whose positions are stored
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns the number of stored entries, that is of different {@link Move}s in the stored positions
+     * @return The number of entries
+     */
+    public int getNumberOfEntries() {
+        return numberOfEntries;
+    }
+
+    /**
+     * Returns the statistics of all the {@link Move}s stored for the current position of a {@link FreedomEngine},
+     * mapped back from the canonical representative to the position itself
+     * @param engine The {@link FreedomEngine} holding the position
+     * @return The list of stored {@link Move}s, which is empty if the position is not in the book
+     */
+    public @NotNull List<OpeningBookMove> getMoves(@NotNull FreedomEngine<?> engine) {
+        List<OpeningBookMove> moves = new ArrayList<>();
+        if (engine.getBoard().getSize() != boardSize) return moves;
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(boardSize);
+        int inverseSymmetry = DihedralSymmetry.getInverse(canonicalizer.canonicalize(engine));
+        long hash = canonicalizer.getCanonicalHash();
+        for (int index = findFirstEntry(hash); index >= 0 && index < numberOfEntries && getHash(index) == hash; index++) {
+            int move = getMove(index);
+            moves.add(new OpeningBookMove(move == FreedomMoveGenerator.PASS
+                    ? null
+                    : engine.getMoveGenerator().toPosition(canonicalizer.getDihedralSymmetry().transformCell(inverseSymmetry, move)),
+                    getNumberOfGames(index), getNumberOfHalfPoints(index)));
+        }
+        return moves;
+    }
+
+    /**
+     * Finds the first entry of a position, with a binary search on the sorted records
+     * @param hash The canonical hash of the position
+     * @return The index of the first entry, or -1 if the position is not stored
+     */
+    int findFirstEntry(long hash) {
+        int low = 0;
+        int high = numberOfEntries;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getHash(middle) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < numberOfEntries && getHash(low) == hash ? low : -1;
+    }
+
+    long getHash(int index) {
+        return records.getLong(index * RECORD_SIZE);
+    }
+
+    int getMove(int index) {
+        return records.getInt(index * RECORD_SIZE + MOVE_OFFSET);
+    }
+
+    int getNumberOfGames(int index) {
+        return records.getInt(index * RECORD_SIZE + GAMES_OFFSET);
+    }
+
+    int getNumberOfHalfPoints(int index) {
+        return records.getInt(index * RECORD_SIZE + HALF_POINTS_OFFSET);
+    }
+}
@@ -0,0 +1,172 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.AdjacencyTable;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.PositionCanonicalizer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+/**
+ * This class collects the statistics of the first {@link Move}s of finished games, and writes them as an
+ * {@link OpeningBook}. The games can be added one by one, like the ones played by people, or generated by letting a
+ * {@link ComputerPlayer} play against itself, starting with a few random {@link Move}s so that the games cover
+ * different openings:
+ * <pre>{@code
+ * OpeningBookBuilder builder = new OpeningBookBuilder(8, 6);
+ * builder.addSelfPlayGames(new AlphaBetaComputerPlayer(100), 1000, 2, 42);
+ * builder.write(Paths.get("freedom-8x8.book"));
+ * }</pre>
+ */
+public final class OpeningBookBuilder {
+    private final int boardSize;
+    private final int maxNumberOfMoves;
+    @NotNull
+    private final FreedomEngine<Stone> engine;
+    @NotNull
+    private final PositionCanonicalizer canonicalizer;
+    @NotNull
+    private final AdjacencyTable adjacencyTable;
+    // Statistics by canonical position hash and then by canonical move: number of games and half points
+    @NotNull
+    private final Map<Long, Map<Integer, int[]>> statistics = new TreeMap<>();
+    private int numberOfEntries;
+    private int numberOfGames;
+
+    /**
+     * Creates a new empty {@link OpeningBookBuilder}
+     * @param boardSize The number of rows and columns of the board
+     * @param maxNumberOfMoves The number of {@link Move}s at the beginning of each game which are added to the book
+     * @throws IllegalArgumentException In case the number of {@link Move}s is not positive
+     */
+    public OpeningBookBuilder(int boardSize, int maxNumberOfMoves) throws IllegalArgumentException {
+        if (maxNumberOfMoves < 1) {
+            throw new IllegalArgumentException("At least one move of each game must be added to the book");
+        }
+        this.boardSize = boardSize;
+        this.maxNumberOfMoves = maxNumberOfMoves;
+        this.engine = new FreedomEngine<>(new BitBoard(boardSize), new Player(Color.WHITE, "white"),
+                new Player(Color.BLACK, "black"), Stone::new);
+        this.canonicalizer = new PositionCanonicalizer(boardSize);
+        this.adjacencyTable = AdjacencyTable.forBoardSize(boardSize);
+    }
+
+    /**
+     * Adds the first {@link Move}s of a finished game to the book
+     * @param finishedGame The {@link FreedomEngine} holding the finished game
+     * @throws IllegalArgumentException In case the game is not over or its board has a different size
+     */
+    public void addGame(@NotNull FreedomEngine<?> finishedGame) throws IllegalArgumentException {
+        if (finishedGame.getGameStatus() != GameStatus.GAME_OVER) {
+            throw new IllegalArgumentException("Only finished games can be added to the book");
+        }
+        if (finishedGame.getBoard().getSize() != boardSize) {
+            throw new IllegalArgumentException("The game was played on a board of a different size");
+        }
+        Color winner = finishedGame.getStatusObserver().getCurrentWinner();
+        List<Move> moves = finishedGame.getMoves();
+        engine.reset();
+        for (Move move : moves.subList(0, Math.min(maxNumberOfMoves, moves.size()))) {
+            canonicalizer.canonicalize(engine);
+            int canonicalMove = canonicalizer.getCanonicalMove(adjacencyTable.toCellIndex(move.getPosition()));
+            int[] moveStatistics = statistics
+                    .computeIfAbsent(canonicalizer.getCanonicalHash(), hash -> new TreeMap<>())
+                    .computeIfAbsent(canonicalMove, cellIndex -> {
+                        numberOfEntries++;
+                        return new int[2];
+                    });
+            moveStatistics[0]++;
+            moveStatistics[1] += getHalfPoints(move.getPlayer().getColor(), winner);
+            engine.nextMove(move.getPosition());
+        }
+        numberOfGames++;
+    }
+
+    /**
+     * Lets a {@link ComputerPlayer} play against itself, and adds the resulting games to the book
+     * @param computerPlayer The {@link ComputerPlayer} choosing the {@link Move}s of both players
+     * @param numberOfGames The number of games to play
+     * @param numberOfRandomMoves The number of random {@link Move}s played at the beginning of each game
+     * @param seed The seed of the random {@link Move}s
+     */
+    public void addSelfPlayGames(@NotNull ComputerPlayer computerPlayer, int numberOfGames, int numberOfRandomMoves, long seed) {
+        FreedomEngine<Stone> selfPlayGame = new FreedomEngine<>(new BitBoard(boardSize), new Player(Color.WHITE, "white"),
+                new Player(Color.BLACK, "black"), Stone::new);
+        Random random = new Random(seed);
+        for (int i = 0; i < numberOfGames; i++) {
+            selfPlayGame.reset();
+            while (selfPlayGame.getGameStatus() != GameStatus.GAME_OVER) {
+                if (selfPlayGame.getNumberOfMoves() < numberOfRandomMoves) {
+                    SortedSet<Position> legalPositions = selfPlayGame.getLegalPositions();
+                    selfPlayGame.nextMove(new ArrayList<>(legalPositions).get(random.nextInt(legalPositions.size())));
+                    continue;
+                }
+                Position position = computerPlayer.chooseMove(selfPlayGame);
+                if (position == null) {
+                    selfPlayGame.passLastMove();
+                } else {
+                    selfPlayGame.nextMove(position);
+                }
+            }
+            addGame(selfPlayGame);
+        }
+    }
+
+    /**
+     * Returns the number of games added to the book
+     * @return The number of games
+     */
+    public int getNumberOfGames() {
+        return numberOfGames;
+    }
+
+    /**
+     * Returns the number of different {@link Move}s collected so far, which is the number of entries of the book
+     * @return The number of entries
+     */
+    public int getNumberOfEntries() {
+        return numberOfEntries;
+    }
+
+    /**
+     * Writes the collected statistics to a file, sorted by position hash, replacing the file if it already exists
+     * @param path The path of the file
+     * @throws IOException In case the file can't be written
+     */
+    public void write(@NotNull Path path) throws IOException {
+        try (BufferedFileWriter writer = new BufferedFileWriter(path)) {
+            writer.reserve(OpeningBook.HEADER_SIZE).putLong(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putInt(boardSize)
+                    .putInt(numberOfEntries).putInt(0).putLong(0);
+            for (Map.Entry<Long, Map<Integer, int[]>> position : statistics.entrySet()) {
+                for (Map.Entry<Integer, int[]> move : position.getValue().entrySet()) {
+                    writer.reserve(OpeningBook.RECORD_SIZE).putLong(position.getKey())
+                            .putInt(move.getKey())
+                            .putInt(move.getValue()[0])
+                            .putInt(move.getValue()[1])
+                            .putInt(0);
+                }
+            }
+        }
+    }
+
+    private static int getHalfPoints(@NotNull Color playerColor, @Nullable Color winner) {
+        if (winner == null) return 1;
+        return winner == playerColor ? 2 : 0;
+    }
+}
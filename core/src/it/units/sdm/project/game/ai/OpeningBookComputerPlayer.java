@@ -0,0 +1,114 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.board.DihedralSymmetry;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.PositionCanonicalizer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link ComputerPlayer} which plays the best known {@link Move} of an {@link OpeningBook} as long as the game is
+ * in the book, and asks the delegate {@link ComputerPlayer} to search for the {@link Move} as soon as it leaves it.
+ * The best {@link Move} is the one with the highest average result, among the ones played in enough games to be
+ * trusted; ties are broken in favour of the {@link Move} played in more games.
+ */
+public class OpeningBookComputerPlayer implements ComputerPlayer {
+    /**
+     * The default minimum number of games a {@link Move} must have been played in to be chosen from the book
+     */
+    public static final int DEFAULT_MIN_NUMBER_OF_GAMES = 3;
+    @NotNull
+    private final OpeningBook openingBook;
+    @NotNull
+    private final ComputerPlayer delegatePlayer;
+    private final int minNumberOfGames;
+    @NotNull
+    private final PositionCanonicalizer canonicalizer;
+    private boolean lastMoveFromBook;
+
+    /**
+     * Creates a new {@link OpeningBookComputerPlayer} trusting the {@link Move}s played in at least
+     * {@link OpeningBookComputerPlayer#DEFAULT_MIN_NUMBER_OF_GAMES} games
+     * @param openingBook The {@link OpeningBook} consulted before searching
+     * @param delegatePlayer The {@link ComputerPlayer} choosing the {@link Move}s out of the book
+     */
+    public OpeningBookComputerPlayer(@NotNull OpeningBook openingBook, @NotNull ComputerPlayer delegatePlayer) {
+        this(openingBook, delegatePlayer, DEFAULT_MIN_NUMBER_OF_GAMES);
+    }
+
+    /**
+     * Creates a new {@link OpeningBookComputerPlayer}
+     * @param openingBook The {@link OpeningBook} consulted before searching
+     * @param delegatePlayer The {@link ComputerPlayer} choosing the {@link Move}s out of the book
+     * @param minNumberOfGames The minimum number of games a {@link Move} must have been played in to be chosen
+     * @throws IllegalArgumentException In case the minimum number of games is not positive
+     */
+    public OpeningBookComputerPlayer(@NotNull OpeningBook openingBook, @NotNull ComputerPlayer delegatePlayer,
+                                     int minNumberOfGames) throws IllegalArgumentException {
+        if (minNumberOfGames < 1) {
+            throw new IllegalArgumentException("The minimum number of games must be positive");
+        }
+        this.openingBook = openingBook;
+        this.delegatePlayer = delegatePlayer;
+        this.minNumberOfGames = minNumberOfGames;
+        this.canonicalizer = new PositionCanonicalizer(openingBook.getBoardSize());
+    }
+
+    @Override
+    public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) throws IllegalStateException {
+        if (engine.getGameStatus() == GameStatus.GAME_OVER) {
+            throw new IllegalStateException("The game is over, there are no moves to choose");
+        }
+        lastMoveFromBook = false;
+        if (engine.getBoard().getSize() != openingBook.getBoardSize()) return delegatePlayer.chooseMove(engine);
+        int inverseSymmetry = DihedralSymmetry.getInverse(canonicalizer.canonicalize(engine));
+        long hash = canonicalizer.getCanonicalHash();
+        int bestIndex = -1;
+        for (int index = openingBook.findFirstEntry(hash);
+             index >= 0 && index < openingBook.getNumberOfEntries() && openingBook.getHash(index) == hash; index++) {
+            if (openingBook.getNumberOfGames(index) >= minNumberOfGames && (bestIndex < 0 || isBetter(index, bestIndex))) {
+                bestIndex = index;
+            }
+        }
+        if (bestIndex < 0) return delegatePlayer.chooseMove(engine);
+        int move = openingBook.getMove(bestIndex);
+        if (move == FreedomMoveGenerator.PASS) {
+            if (engine.getGameStatus() != GameStatus.LAST_MOVE) return delegatePlayer.chooseMove(engine);
+            lastMoveFromBook = true;
+            return null;
+        }
+        Position position = engine.getMoveGenerator()
+                .toPosition(canonicalizer.getDihedralSymmetry().transformCell(inverseSymmetry, move));
+        // A hash collision could suggest an illegal move, which is left to the search
+        if (!engine.isPositionLegal(position)) return delegatePlayer.chooseMove(engine);
+        lastMoveFromBook = true;
+        return position;
+    }
+
+    /**
+     * Tells whether the last {@link Move} was chosen from the {@link OpeningBook}
+     * @return {@code true} if the last {@link Move} came from the book, {@code false} if the delegate
+     * {@link ComputerPlayer} chose it
+     */
+    public boolean isLastMoveFromBook() {
+        return lastMoveFromBook;
+    }
+
+    @Override
+    public void dispose() {
+        delegatePlayer.dispose();
+    }
+
+    private boolean isBetter(int index, int otherIndex) {
+        // Compares the average results without divisions, as halfPoints / games > otherHalfPoints / otherGames
+        long score = (long) openingBook.getNumberOfHalfPoints(index) * openingBook.getNumberOfGames(otherIndex);
+        long otherScore = (long) openingBook.getNumberOfHalfPoints(otherIndex) * openingBook.getNumberOfGames(index);
+        if (score != otherScore) return score > otherScore;
+        return openingBook.getNumberOfGames(index) > openingBook.getNumberOfGames(otherIndex);
+    }
+}
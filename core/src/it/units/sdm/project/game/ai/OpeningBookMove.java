@@ -0,0 +1,51 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.Move;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The statistics of a {@link Move} stored in an {@link OpeningBook}: how many games it was played in, and how many
+ * points the {@link it.units.sdm.project.game.Player} who played it got, counting 1 for a win and 1/2 for a tie.
+ */
+public final class OpeningBookMove {
+    @Nullable
+    private final Position position;
+    private final int numberOfGames;
+    private final int numberOfHalfPoints;
+
+    OpeningBookMove(@Nullable Position position, int numberOfGames, int numberOfHalfPoints) {
+        this.position = position;
+        this.numberOfGames = numberOfGames;
+        this.numberOfHalfPoints = numberOfHalfPoints;
+    }
+
+    /**
+     * Returns the {@link Position} of the {@link Move}
+     * @return The {@link Position}, or {@code null} if the {@link Move} is the skip of the last one
+     */
+    public @Nullable Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of games the {@link Move} was played in
+     * @return The number of games
+     */
+    public int getNumberOfGames() {
+        return numberOfGames;
+    }
+
+    /**
+     * Returns the average result of the games the {@link Move} was played in
+     * @return The average result, between 0 for all losses and 1 for all wins
+     */
+    public double getScore() {
+        return numberOfHalfPoints / (2.0 * numberOfGames);
+    }
+
+    @Override
+    public String toString() {
+        return (position == null ? "pass" : position.toString()) + " (" + numberOfGames + " games, score " + getScore() + ")";
+    }
+}
@@ -0,0 +1,126 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.IncrementalFreedomPointsCounter;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link ComputerPlayer} playing perfectly by looking the positions up in a {@link SolutionTable}, with no search:
+ * every legal {@link Move} is tried on a private copy of the board, and the one leading to the position with the
+ * best value is chosen. Each lookup takes constant time, so the {@link Move} is chosen almost instantly.
+ * Whenever the board has a different size or a position is missing from the table, the {@link Move} is chosen by
+ * the fallback {@link ComputerPlayer} instead.
+ */
+public class PerfectComputerPlayer implements ComputerPlayer {
+    @NotNull
+    private final SolutionTable solutionTable;
+    @NotNull
+    private final ComputerPlayer fallbackPlayer;
+    @NotNull
+    private final BitBoard board;
+    @NotNull
+    private final FreedomMoveGenerator moveGenerator;
+    @NotNull
+    private final IncrementalFreedomPointsCounter pointsCounter;
+    @NotNull
+    private final int[] moves;
+    @NotNull
+    private final PositionKeyEncoder encoder;
+    @NotNull
+    private final long[] whiteStones = new long[1];
+    @NotNull
+    private final long[] blackStones = new long[1];
+    private int lastValue = SolutionTable.UNKNOWN_VALUE;
+
+    /**
+     * Creates a new {@link PerfectComputerPlayer}
+     * @param solutionTable The {@link SolutionTable} where the positions are looked up
+     * @param fallbackPlayer The {@link ComputerPlayer} choosing the {@link Move}s not covered by the {@link SolutionTable}
+     */
+    public PerfectComputerPlayer(@NotNull SolutionTable solutionTable, @NotNull ComputerPlayer fallbackPlayer) {
+        this.solutionTable = solutionTable;
+        this.fallbackPlayer = fallbackPlayer;
+        this.board = new BitBoard(solutionTable.getBoardSize());
+        this.moveGenerator = new FreedomMoveGenerator(board);
+        this.pointsCounter = new IncrementalFreedomPointsCounter(board);
+        this.moves = new int[moveGenerator.getMaxNumberOfMoves()];
+        this.encoder = new PositionKeyEncoder(solutionTable.getBoardSize());
+    }
+
+    @Override
+    public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) throws IllegalStateException {
+        if (engine.getGameStatus() == GameStatus.GAME_OVER) {
+            throw new IllegalStateException("The game is over, there are no moves to choose");
+        }
+        lastValue = SolutionTable.UNKNOWN_VALUE;
+        if (engine.getBoard().getSize() != board.getSize()) return fallbackPlayer.chooseMove(engine);
+        int lastCellIndex = setPosition(engine);
+        Color playerColor = engine.getNextPlayer().getColor();
+        int numberOfMoves = moveGenerator.generateMoves(lastCellIndex, moves);
+        int bestMove = FreedomMoveGenerator.PASS;
+        int bestValue = SolutionTable.UNKNOWN_VALUE;
+        for (int i = 0; i < numberOfMoves; i++) {
+            int value = getMoveValue(moves[i], playerColor);
+            if (value == SolutionTable.UNKNOWN_VALUE) return fallbackPlayer.chooseMove(engine);
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = moves[i];
+            }
+        }
+        lastValue = bestValue;
+        if (bestMove == FreedomMoveGenerator.PASS) return null;
+        return board.toPosition(bestMove);
+    }
+
+    /**
+     * Returns the value of the position in which the last {@link Move} was chosen, that is the final points difference
+     * the player will get by playing perfectly from there on
+     * @return The value of the position, or {@link SolutionTable#UNKNOWN_VALUE} if the last {@link Move} was chosen by
+     * the fallback {@link ComputerPlayer}
+     */
+    public int getLastValue() {
+        return lastValue;
+    }
+
+    @Override
+    public void dispose() {
+        fallbackPlayer.dispose();
+    }
+
+    private int setPosition(@NotNull FreedomEngine<?> engine) {
+        board.copyPieces(engine.getBoard());
+        pointsCounter.reset();
+        Move lastMove = engine.getLastMove();
+        return lastMove == null ? FreedomMoveGenerator.NO_LAST_MOVE : board.toCellIndex(lastMove.getPosition());
+    }
+
+    private int getMoveValue(int move, @NotNull Color playerColor) {
+        Color opponentColor = Player.getOpponentColor(playerColor);
+        if (move == FreedomMoveGenerator.PASS) {
+            return pointsCounter.getPlayerScore(playerColor) - pointsCounter.getPlayerScore(opponentColor);
+        }
+        board.putStone(playerColor, move);
+        pointsCounter.onMovePlayed(playerColor, board.toPosition(move));
+        int value;
+        if (board.getNumberOfFreeCells() == 0) {
+            value = pointsCounter.getPlayerScore(playerColor) - pointsCounter.getPlayerScore(opponentColor);
+        } else {
+            board.copyStones(Color.WHITE, whiteStones);
+            board.copyStones(Color.BLACK, blackStones);
+            int opponentValue = solutionTable.getValue(encoder.encode(whiteStones, blackStones, move));
+            value = opponentValue == SolutionTable.UNKNOWN_VALUE ? SolutionTable.UNKNOWN_VALUE : -opponentValue;
+        }
+        board.clearCell(move);
+        pointsCounter.onMoveUndone(playerColor, board.toPosition(move));
+        return value;
+    }
+}
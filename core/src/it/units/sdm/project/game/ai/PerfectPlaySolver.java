@@ -0,0 +1,128 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.IncrementalFreedomPointsCounter;
+import it.units.sdm.project.game.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class computes the game-theoretic value of every position reachable from the empty board, for the boards small
+ * enough to search the whole game tree, like the 4x4 one. The tree is walked depth-first, and the value of each
+ * position is stored in a {@link SolutionTable} as soon as it's known, so the positions reached through different
+ * {@link it.units.sdm.project.game.Move} orders, or symmetric to an already solved one, are solved only once.
+ * <p>
+ * The value is the final points difference under perfect play rather than just win, tie or loss, so that a
+ * {@link PerfectComputerPlayer} also chooses, among the winning {@link it.units.sdm.project.game.Move}s, the one
+ * winning by the most points. The resulting table can be written to disk with {@link SolutionTable#write(java.nio.file.Path)}:
+ * <pre>{@code
+ * SolutionTable table = new PerfectPlaySolver(4).solve();
+ * table.write(Paths.get("freedom-4x4.solution"));
+ * }</pre>
+ */
+public final class PerfectPlaySolver {
+    /**
+     * The largest board size that can be solved. A {@link SolutionTable} could store the positions of a 5x5 board,
+     * but there are billions of them, far more than its slots
+     */
+    public static final int MAX_BOARD_SIZE = 4;
+    private static final int INITIAL_CAPACITY_BITS = 12;
+    @NotNull
+    private final BitBoard board;
+    @NotNull
+    private final FreedomMoveGenerator moveGenerator;
+    @NotNull
+    private final IncrementalFreedomPointsCounter pointsCounter;
+    @NotNull
+    private final int[][] movesPerPly;
+    @NotNull
+    private final PositionKeyEncoder encoder;
+    @NotNull
+    private final long[] whiteStones = new long[1];
+    @NotNull
+    private final long[] blackStones = new long[1];
+    @NotNull
+    private SolutionTable solutionTable;
+    @NotNull
+    private Color nextColor = Color.WHITE;
+    private long numberOfNodes;
+
+    /**
+     * Creates a new {@link PerfectPlaySolver}
+     * @param boardSize The number of rows and columns of the board, at most {@link PerfectPlaySolver#MAX_BOARD_SIZE}
+     * @throws IllegalArgumentException In case the board is too large to be solved
+     */
+    public PerfectPlaySolver(int boardSize) throws IllegalArgumentException {
+        if (boardSize > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Only boards up to " + MAX_BOARD_SIZE + "x" + MAX_BOARD_SIZE + " can be solved");
+        }
+        this.board = new BitBoard(boardSize);
+        this.moveGenerator = new FreedomMoveGenerator(board);
+        this.pointsCounter = new IncrementalFreedomPointsCounter(board);
+        this.movesPerPly = new int[board.getNumberOfCells() + 1][moveGenerator.getMaxNumberOfMoves()];
+        this.encoder = new PositionKeyEncoder(boardSize);
+        this.solutionTable = new SolutionTable(boardSize, INITIAL_CAPACITY_BITS);
+    }
+
+    /**
+     * Solves every position reachable from the empty board
+     * @return A new in-memory {@link SolutionTable} holding the value of every reachable position in which the game
+     * is not over yet
+     * @throws IllegalStateException In case there are too many positions to be stored in a {@link SolutionTable}
+     */
+    public @NotNull SolutionTable solve() throws IllegalStateException {
+        board.clearBoard();
+        pointsCounter.reset();
+        nextColor = Color.WHITE;
+        numberOfNodes = 0;
+        solutionTable = new SolutionTable(board.getSize(), INITIAL_CAPACITY_BITS);
+        solve(FreedomMoveGenerator.NO_LAST_MOVE, 0);
+        return solutionTable;
+    }
+
+    /**
+     * Returns the number of positions visited by the last call to {@link PerfectPlaySolver#solve()}, including the
+     * ones found in the {@link SolutionTable} and the ones where the game is over
+     * @return The number of visited positions
+     */
+    public long getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+    private int solve(int lastCellIndex, int ply) {
+        numberOfNodes++;
+        if (board.getNumberOfFreeCells() == 0) return evaluate();
+        board.copyStones(Color.WHITE, whiteStones);
+        board.copyStones(Color.BLACK, blackStones);
+        long key = encoder.encode(whiteStones, blackStones, lastCellIndex);
+        int bestValue = solutionTable.getValue(key);
+        if (bestValue != SolutionTable.UNKNOWN_VALUE) return bestValue;
+        int[] moves = movesPerPly[ply];
+        int numberOfMoves = moveGenerator.generateMoves(lastCellIndex, moves);
+        for (int i = 0; i < numberOfMoves; i++) {
+            int move = moves[i];
+            int value;
+            if (move == FreedomMoveGenerator.PASS) {
+                value = evaluate();
+            } else {
+                Color playerColor = nextColor;
+                board.putStone(playerColor, move);
+                pointsCounter.onMovePlayed(playerColor, board.toPosition(move));
+                nextColor = Player.getOpponentColor(playerColor);
+                value = -solve(move, ply + 1);
+                nextColor = playerColor;
+                board.clearCell(move);
+                pointsCounter.onMoveUndone(playerColor, board.toPosition(move));
+            }
+            if (value > bestValue) bestValue = value;
+        }
+        if (solutionTable.isCrowded()) solutionTable = solutionTable.grow();
+        solutionTable.putValue(key, bestValue);
+        return bestValue;
+    }
+
+    private int evaluate() {
+        return pointsCounter.getPlayerScore(nextColor) - pointsCounter.getPlayerScore(Player.getOpponentColor(nextColor));
+    }
+}
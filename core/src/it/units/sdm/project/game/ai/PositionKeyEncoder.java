@@ -0,0 +1,49 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.game.PositionCanonicalizer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Encodes the positions of a small square board into the keys of a {@link SolutionTable}.
+ * A key packs the white stones in bits 0-24, the black stones in bits 25-49 and the last played cell plus one in
+ * bits 50-54 of the canonical representative found by a {@link PositionCanonicalizer}, so it identifies the position
+ * exactly, with no collisions, and it's shared by all the symmetric positions and by the ones whose last played cell
+ * doesn't restrict the next move.
+ * The player to move is not encoded, since the white player always moves first and the game ends with the pass,
+ * so it's the white player whenever both have the same number of stones.
+ * Like {@link PositionCanonicalizer}, an instance must not be shared among threads.
+ */
+final class PositionKeyEncoder {
+    static final long KEY_MASK = (1L << 55) - 1;
+    private static final int BLACK_STONES_SHIFT = 25;
+    private static final int LAST_CELL_SHIFT = 50;
+    @NotNull
+    private final PositionCanonicalizer canonicalizer;
+    @NotNull
+    private final long[] canonicalStones = new long[1];
+
+    /**
+     * Creates a new {@link PositionKeyEncoder}
+     * @param boardSize The number of rows and columns of the board, with at most 25 cells
+     */
+    PositionKeyEncoder(int boardSize) {
+        this.canonicalizer = new PositionCanonicalizer(boardSize);
+    }
+
+    /**
+     * Returns the key shared by the position and all its symmetric ones
+     * @param whiteStones The single-word bitmask of the cells holding a white stone
+     * @param blackStones The single-word bitmask of the cells holding a black stone
+     * @param lastCellIndex The index of the last played cell, or {@link PositionCanonicalizer#NO_LAST_CELL}
+     * @return The canonical key of the position
+     */
+    long encode(@NotNull long[] whiteStones, @NotNull long[] blackStones, int lastCellIndex) {
+        canonicalizer.canonicalize(whiteStones, blackStones, lastCellIndex);
+        canonicalizer.copyCanonicalStones(Color.WHITE, canonicalStones);
+        long key = canonicalStones[0];
+        canonicalizer.copyCanonicalStones(Color.BLACK, canonicalStones);
+        key |= canonicalStones[0] << BLACK_STONES_SHIFT;
+        return key | (long) (canonicalizer.getCanonicalLastCellIndex() + 1) << LAST_CELL_SHIFT;
+    }
+}
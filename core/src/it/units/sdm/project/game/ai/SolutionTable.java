@@ -0,0 +1,222 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.AdjacencyTable;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.Move;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A table holding the game-theoretic value of the positions of a small board, as computed by a
+ * {@link PerfectPlaySolver}. The value of a position is the final points difference between the player to move and
+ * the opponent when both play perfectly, so it's positive for a won position, zero for a tied one and negative for a
+ * lost one.
+ * <p>
+ * The table is an open-addressing hash table of {@code long} slots, keyed by {@link PositionKeyEncoder}, which stores
+ * the key of the position in bits 0-54, an occupied flag in bit 55 and the value in bits 56-63. The same layout is
+ * used in memory and on disk, after a 32-byte header, so a table written by {@link SolutionTable#write(Path)} is
+ * memory-mapped by {@link SolutionTable#load(Path)} without being copied: every lookup reads a few slots straight
+ * from the file, in constant expected time. A loaded table is read-only and can be shared among threads.
+ */
+public final class SolutionTable {
+    /**
+     * The largest board size that can be stored, whose 25 cells are the most a {@link PositionKeyEncoder} key can hold
+     */
+    public static final int MAX_BOARD_SIZE = 5;
+    /**
+     * Value returned for the positions not stored in the table
+     */
+    public static final int UNKNOWN_VALUE = Integer.MIN_VALUE;
+    static final int MAX_CAPACITY_BITS = 27;
+    private static final long MAGIC = 0x4652454544534F4CL;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final long OCCUPIED_BIT = 1L << 55;
+    private static final int VALUE_SHIFT = 56;
+    private final int boardSize;
+    private final int capacityBits;
+    private final int indexMask;
+    @NotNull
+    private final LongBuffer slots;
+    private long numberOfPositions;
+
+    private SolutionTable(int boardSize, int capacityBits, @NotNull LongBuffer slots, long numberOfPositions) {
+        this.boardSize = boardSize;
+        this.capacityBits = capacityBits;
+        this.indexMask = (1 << capacityBits) - 1;
+        this.slots = slots;
+        this.numberOfPositions = numberOfPositions;
+    }
+
+    /**
+     * Creates a new empty in-memory {@link SolutionTable}
+     * @param boardSize The number of rows and columns of the board
+     * @param capacityBits The base 2 logarithm of the number of slots
+     */
+    SolutionTable(int boardSize, int capacityBits) {
+        this(boardSize, capacityBits, LongBuffer.wrap(new long[1 << capacityBits]), 0);
+    }
+
+    /**
+     * Memory-maps a {@link SolutionTable} written by {@link SolutionTable#write(Path)}
+     * @param path The path of the file
+     * @return The read-only {@link SolutionTable}
+     * @throws IOException In case the file can't be read or is not a valid {@link SolutionTable}
+     */
+    public static @NotNull SolutionTable load(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) throw new IOException(path + " is not a solution table");
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getLong(0) != MAGIC || buffer.getInt(8) != VERSION) {
+                throw new IOException(path + " is not a solution table");
+            }
+            int boardSize = buffer.getInt(12);
+            int capacityBits = buffer.getInt(16);
+            long numberOfPositions = buffer.getLong(24);
+            if (boardSize < Board.MIN_BOARD_SIZE || boardSize > MAX_BOARD_SIZE
+                    || capacityBits < 1 || capacityBits > MAX_CAPACITY_BITS
+                    || channel.size() != HEADER_SIZE + ((long) Long.BYTES << capacityBits)
+                    || numberOfPositions < 0 || numberOfPositions >= 1L << capacityBits) {
+                throw new IOException(path + " is a corrupted solution table");
+            }
+            buffer.position(HEADER_SIZE);
+            return new SolutionTable(boardSize, capacityBits, buffer.slice().asLongBuffer(), numberOfPositions);
+        }
+    }
+
+    /**
+     * Writes the {@link SolutionTable} to a file, replacing it if it already exists
+     * @param path The path of the file
+     * @throws IOException In case the file can't be written
+     */
+    public void write(@NotNull Path path) throws IOException {
+        try (BufferedFileWriter writer = new BufferedFileWriter(path)) {
+            writer.reserve(HEADER_SIZE).putLong(MAGIC).putInt(VERSION).putInt(boardSize).putInt(capacityBits).putInt(0)
+                    .putLong(numberOfPositions);
+            for (int i = 0; i < slots.capacity(); i++) {
+                writer.reserve(Long.BYTES).putLong(slots.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows and columns of the board whose positions are stored
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns the number of stored positions, where all the symmetric positions count as one
+     * @return The number of positions
+     */
+    public long getNumberOfPositions() {
+        return numberOfPositions;
+    }
+
+    /**
+     * Returns the value of the current position of a {@link FreedomEngine}, from the point of view of its next player.
+     * Each call creates its own {@link PositionKeyEncoder}, so it can be called from any thread
+     * @param engine The {@link FreedomEngine} holding the position
+     * @return The value of the position, or {@link SolutionTable#UNKNOWN_VALUE} if the position is not stored,
+     * the board has a different size or the game is over
+     */
+    public int getValue(@NotNull FreedomEngine<?> engine) {
+        Board<?> board = engine.getBoard();
+        if (board.getSize() != boardSize || engine.getGameStatus() == GameStatus.GAME_OVER) return UNKNOWN_VALUE;
+        AdjacencyTable adjacencyTable = board.getAdjacencyTable();
+        long[] whiteStones = new long[1];
+        long[] blackStones = new long[1];
+        for (int cellIndex = 0; cellIndex < adjacencyTable.getNumberOfCells(); cellIndex++) {
+            Piece piece = board.getPiece(adjacencyTable.toPosition(cellIndex));
+            if (piece == null) continue;
+            if (piece.getPieceColor() == Color.WHITE) {
+                whiteStones[0] |= 1L << cellIndex;
+            } else {
+                blackStones[0] |= 1L << cellIndex;
+            }
+        }
+        Move lastMove = engine.getLastMove();
+        int lastCellIndex = lastMove == null ? FreedomMoveGenerator.NO_LAST_MOVE : adjacencyTable.toCellIndex(lastMove.getPosition());
+        return getValue(new PositionKeyEncoder(boardSize).encode(whiteStones, blackStones, lastCellIndex));
+    }
+
+    /**
+     * Looks a position up
+     * @param key The key of the position, as returned by {@link PositionKeyEncoder#encode(long[], long[], int)}
+     * @return The value of the position, or {@link SolutionTable#UNKNOWN_VALUE} if the position is not stored
+     */
+    int getValue(long key) {
+        // A stored table always keeps an empty slot, but a corrupted file may not, so each slot is probed at most once
+        int index = getFirstIndex(key);
+        for (int i = 0; i <= indexMask; i++) {
+            long slot = slots.get(index);
+            if ((slot & OCCUPIED_BIT) == 0) return UNKNOWN_VALUE;
+            if ((slot & PositionKeyEncoder.KEY_MASK) == key) return (int) (slot >> VALUE_SHIFT);
+            index = (index + 1) & indexMask;
+        }
+        return UNKNOWN_VALUE;
+    }
+
+    /**
+     * Stores the value of a position not stored yet
+     * @param key The key of the position, as returned by {@link PositionKeyEncoder#encode(long[], long[], int)}
+     * @param value The value of the position, between -128 and 127
+     * @throws IllegalStateException In case the table is full
+     */
+    void putValue(long key, int value) throws IllegalStateException {
+        if (numberOfPositions == indexMask) throw new IllegalStateException("The solution table is full");
+        int index = getFirstIndex(key);
+        while ((slots.get(index) & OCCUPIED_BIT) != 0) {
+            index = (index + 1) & indexMask;
+        }
+        slots.put(index, (long) value << VALUE_SHIFT | OCCUPIED_BIT | key);
+        numberOfPositions++;
+    }
+
+    /**
+     * Checks whether the table is filled enough that it should be copied into a larger one
+     * @return {@code true} if more than half of the slots are occupied, {@code false} otherwise
+     */
+    boolean isCrowded() {
+        return numberOfPositions > indexMask / 2;
+    }
+
+    /**
+     * Copies all the stored positions into a new in-memory table with twice the slots
+     * @return The larger {@link SolutionTable}
+     * @throws IllegalStateException In case the table already has the maximum number of slots
+     */
+    @NotNull SolutionTable grow() throws IllegalStateException {
+        if (capacityBits == MAX_CAPACITY_BITS) {
+            throw new IllegalStateException("The solution table can't hold more than 2^" + MAX_CAPACITY_BITS + " slots");
+        }
+        SolutionTable largerTable = new SolutionTable(boardSize, capacityBits + 1);
+        for (int i = 0; i < slots.capacity(); i++) {
+            long slot = slots.get(i);
+            if ((slot & OCCUPIED_BIT) != 0) {
+                largerTable.putValue(slot & PositionKeyEncoder.KEY_MASK, (int) (slot >> VALUE_SHIFT));
+            }
+        }
+        return largerTable;
+    }
+
+    private int getFirstIndex(long key) {
+        // The SplitMix64 finalizer spreads the structured keys evenly over the slots
+        key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+        key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (key ^ (key >>> 31)) & indexMask;
+    }
+}
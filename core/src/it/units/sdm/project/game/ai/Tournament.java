@@ -0,0 +1,194 @@
+package it.units.sdm.project.game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A match between two {@link ComputerPlayer}s, meant to compare two versions of a bot over many games.
+ * The games are played in parallel on a work-stealing {@link ForkJoinPool}: the range of game indices is split in
+ * halves until single games are left, so idle threads steal the pending halves of the busy ones and no queue of
+ * games is ever built. Each result is passed to a listener and added to the {@link TournamentStandings} as soon as
+ * the game finishes, so memory doesn't grow with the number of games.
+ * <p>
+ * Each thread of the pool creates its own pair of {@link ComputerPlayer}s when it plays its first game, and reuses
+ * them for all its games, so that their threads and tables are allocated once; they're disposed when all the games
+ * are over. Since the {@link ComputerPlayer}s think for a wall-clock time, the threads of the pool times the search
+ * threads of each {@link ComputerPlayer} shouldn't exceed the available processors, otherwise the games compete for
+ * the processors and the results depend on the load rather than on the bots. Consecutive pairs of games are played on the same board size,
+ * chosen in rotation, and start with the same random {@link it.units.sdm.project.game.Move}s, so that the bots don't
+ * replay the same game over and over. The first contestant plays white in the first game of the pair and black in the
+ * second one, so that no contestant takes advantage of the opening.
+ */
+public class Tournament {
+    @NotNull
+    private final Supplier<ComputerPlayer> firstPlayerSupplier;
+    @NotNull
+    private final Supplier<ComputerPlayer> secondPlayerSupplier;
+    @NotNull
+    private final int[] boardSizes;
+    private final int numberOfRandomMoves;
+    private final long seed;
+
+    /**
+     * Creates a new {@link Tournament}
+     * @param firstPlayerSupplier The supplier of the first contestant, called once per thread, or once per game
+     *                            played with {@link Tournament#playGame(int)}
+     * @param secondPlayerSupplier The supplier of the second contestant, called once per thread, or once per game
+     *                             played with {@link Tournament#playGame(int)}
+     * @param boardSizes The board sizes the games are played on, in rotation
+     * @param numberOfRandomMoves The number of random {@link it.units.sdm.project.game.Move}s starting each game
+     * @param seed The seed of the random {@link it.units.sdm.project.game.Move}s
+     * @throws IllegalArgumentException In case no board size is given, a board size is invalid or the number of
+     * random {@link it.units.sdm.project.game.Move}s is negative
+     */
+    public Tournament(@NotNull Supplier<ComputerPlayer> firstPlayerSupplier, @NotNull Supplier<ComputerPlayer> secondPlayerSupplier,
+                      @NotNull int[] boardSizes, int numberOfRandomMoves, long seed) throws IllegalArgumentException {
+        if (boardSizes.length == 0) {
+            throw new IllegalArgumentException("At least one board size is needed");
+        }
+        for (int boardSize : boardSizes) {
+            if (boardSize < Board.MIN_BOARD_SIZE || boardSize > Board.MAX_BOARD_SIZE) {
+                throw new IllegalArgumentException("Invalid board size: " + boardSize);
+            }
+        }
+        if (numberOfRandomMoves < 0) {
+            throw new IllegalArgumentException("The number of random moves can't be negative");
+        }
+        this.firstPlayerSupplier = firstPlayerSupplier;
+        this.secondPlayerSupplier = secondPlayerSupplier;
+        this.boardSizes = Arrays.copyOf(boardSizes, boardSizes.length);
+        this.numberOfRandomMoves = numberOfRandomMoves;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the games on a {@link ForkJoinPool}, and waits for all of them to finish
+     * @param numberOfGames The number of games to play
+     * @param pool The {@link ForkJoinPool} running the games
+     * @param listener The listener receiving the result of each game as soon as it finishes. It's called
+     *                 concurrently by the threads of the pool, in no particular order
+     * @return The final {@link TournamentStandings}
+     * @throws IllegalArgumentException In case the number of games is negative
+     */
+    public @NotNull TournamentStandings play(int numberOfGames, @NotNull ForkJoinPool pool,
+                                             @NotNull Consumer<TournamentGameResult> listener) throws IllegalArgumentException {
+        if (numberOfGames < 0) {
+            throw new IllegalArgumentException("The number of games can't be negative");
+        }
+        TournamentStandings standings = new TournamentStandings();
+        Map<Thread, ComputerPlayer[]> playersByThread = new ConcurrentHashMap<>();
+        try {
+            pool.invoke(new GamesTask(0, numberOfGames, standings, listener, playersByThread));
+        } finally {
+            for (ComputerPlayer[] players : playersByThread.values()) {
+                players[0].dispose();
+                players[1].dispose();
+            }
+        }
+        return standings;
+    }
+
+    /**
+     * Plays a single game of the {@link Tournament} on the calling thread
+     * @param gameIndex The index of the game, which determines the board size, the colours and the opening
+     * @return The result of the game
+     */
+    public @NotNull TournamentGameResult playGame(int gameIndex) {
+        ComputerPlayer firstPlayer = firstPlayerSupplier.get();
+        ComputerPlayer secondPlayer = secondPlayerSupplier.get();
+        try {
+            return playGame(gameIndex, firstPlayer, secondPlayer);
+        } finally {
+            firstPlayer.dispose();
+            secondPlayer.dispose();
+        }
+    }
+
+    private @NotNull TournamentGameResult playGame(int gameIndex, @NotNull ComputerPlayer firstPlayer,
+                                                   @NotNull ComputerPlayer secondPlayer) {
+        int boardSize = boardSizes[gameIndex / 2 % boardSizes.length];
+        boolean firstPlayerWhite = gameIndex % 2 == 0;
+        long startTime = System.currentTimeMillis();
+        Player whitePlayer = new Player(Color.WHITE, "white");
+        Player blackPlayer = new Player(Color.BLACK, "black");
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(boardSize), whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(seed + gameIndex / 2);
+        while (engine.getGameStatus() != GameStatus.GAME_OVER) {
+            if (engine.getNumberOfMoves() < numberOfRandomMoves) {
+                List<Position> legalPositions = new ArrayList<>(engine.getLegalPositions());
+                engine.nextMove(legalPositions.get(random.nextInt(legalPositions.size())));
+                continue;
+            }
+            boolean firstPlayerToMove = (engine.getNextPlayer() == whitePlayer) == firstPlayerWhite;
+            Position position = (firstPlayerToMove ? firstPlayer : secondPlayer).chooseMove(engine);
+            if (position == null) {
+                engine.passLastMove();
+            } else {
+                engine.nextMove(position);
+            }
+        }
+        FreedomPointsCounter pointsCounter = new FreedomPointsCounter(engine.getBoard());
+        int whiteScore = pointsCounter.getPlayerScore(Color.WHITE);
+        int blackScore = pointsCounter.getPlayerScore(Color.BLACK);
+        return new TournamentGameResult(gameIndex, boardSize, firstPlayerWhite,
+                firstPlayerWhite ? whiteScore : blackScore, firstPlayerWhite ? blackScore : whiteScore,
+                engine.getNumberOfMoves(), System.currentTimeMillis() - startTime);
+    }
+
+    @SuppressWarnings("serial")
+    private class GamesTask extends RecursiveAction {
+        private final int fromGameIndex;
+        private final int toGameIndex;
+        @NotNull
+        private final TournamentStandings standings;
+        @NotNull
+        private final Consumer<TournamentGameResult> listener;
+        @NotNull
+        private final Map<Thread, ComputerPlayer[]> playersByThread;
+
+        private GamesTask(int fromGameIndex, int toGameIndex, @NotNull TournamentStandings standings,
+                          @NotNull Consumer<TournamentGameResult> listener,
+                          @NotNull Map<Thread, ComputerPlayer[]> playersByThread) {
+            this.fromGameIndex = fromGameIndex;
+            this.toGameIndex = toGameIndex;
+            this.standings = standings;
+            this.listener = listener;
+            this.playersByThread = playersByThread;
+        }
+
+        @Override
+        protected void compute() {
+            if (toGameIndex - fromGameIndex == 1) {
+                ComputerPlayer[] players = playersByThread.computeIfAbsent(Thread.currentThread(),
+                        thread -> new ComputerPlayer[]{firstPlayerSupplier.get(), secondPlayerSupplier.get()});
+                TournamentGameResult result = playGame(fromGameIndex, players[0], players[1]);
+                standings.add(result);
+                listener.accept(result);
+            } else if (toGameIndex > fromGameIndex) {
+                int middleGameIndex = (fromGameIndex + toGameIndex) >>> 1;
+                invokeAll(new GamesTask(fromGameIndex, middleGameIndex, standings, listener, playersByThread),
+                        new GamesTask(middleGameIndex, toGameIndex, standings, listener, playersByThread));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package it.units.sdm.project.game.ai;
+
+import it.units.sdm.project.game.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The result of a single game of a {@link Tournament}, seen from the first contestant.
+ */
+public final class TournamentGameResult {
+    /**
+     * Header of the comma-separated lines returned by {@link TournamentGameResult#toCsvLine()}
+     */
+    public static final String CSV_HEADER = "game,size,first_white,first_score,second_score,moves,millis";
+    private final int gameIndex;
+    private final int boardSize;
+    private final boolean firstPlayerWhite;
+    private final int firstPlayerScore;
+    private final int secondPlayerScore;
+    private final int numberOfMoves;
+    private final long durationMillis;
+
+    TournamentGameResult(int gameIndex, int boardSize, boolean firstPlayerWhite, int firstPlayerScore,
+                         int secondPlayerScore, int numberOfMoves, long durationMillis) {
+        this.gameIndex = gameIndex;
+        this.boardSize = boardSize;
+        this.firstPlayerWhite = firstPlayerWhite;
+        this.firstPlayerScore = firstPlayerScore;
+        this.secondPlayerScore = secondPlayerScore;
+        this.numberOfMoves = numberOfMoves;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Returns the index of the game in the {@link Tournament}, which is independent of the order games finish in
+     * @return The index of the game
+     */
+    public int getGameIndex() {
+        return gameIndex;
+    }
+
+    /**
+     * Returns the number of rows and columns of the board the game was played on
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Tells whether the first contestant played the white {@link Player}
+     * @return {@code true} if the first contestant was white, {@code false} if it was black
+     */
+    public boolean isFirstPlayerWhite() {
+        return firstPlayerWhite;
+    }
+
+    /**
+     * Returns the final points of the first contestant
+     * @return The points of the first contestant
+     */
+    public int getFirstPlayerScore() {
+        return firstPlayerScore;
+    }
+
+    /**
+     * Returns the final points of the second contestant
+     * @return The points of the second contestant
+     */
+    public int getSecondPlayerScore() {
+        return secondPlayerScore;
+    }
+
+    /**
+     * Returns the result of the game for the first contestant, counting 2 for a win, 1 for a tie and 0 for a loss
+     * @return The half points got by the first contestant
+     */
+    public int getFirstPlayerHalfPoints() {
+        return Integer.signum(firstPlayerScore - secondPlayerScore) + 1;
+    }
+
+    /**
+     * Returns the number of moves played, skips excluded
+     * @return The number of moves
+     */
+    public int getNumberOfMoves() {
+        return numberOfMoves;
+    }
+
+    /**
+     * Returns the wall-clock time the game lasted
+     * @return The duration of the game, in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Formats the result as a comma-separated line, whose fields are described by
+     * {@link TournamentGameResult#CSV_HEADER}
+     * @return The comma-separated line, with no line terminator
+     */
+    public @NotNull String toCsvLine() {
+        return gameIndex + "," + boardSize + "," + firstPlayerWhite + "," + firstPlayerScore + "," + secondPlayerScore
+                + "," + numberOfMoves + "," + durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return toCsvLine();
+    }
+}
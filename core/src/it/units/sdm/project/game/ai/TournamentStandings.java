@@ -0,0 +1,90 @@
+package it.units.sdm.project.game.ai;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The running totals of a {@link Tournament}, seen from the first contestant. The totals are updated as soon as each
+ * game finishes, with no lock, so they can be read while the {@link Tournament} is still being played and no game
+ * needs to be kept in memory.
+ */
+public final class TournamentStandings {
+    private final AtomicInteger numberOfWins = new AtomicInteger();
+    private final AtomicInteger numberOfTies = new AtomicInteger();
+    private final AtomicInteger numberOfLosses = new AtomicInteger();
+
+    void add(@NotNull TournamentGameResult result) {
+        switch (result.getFirstPlayerHalfPoints()) {
+            case 2:
+                numberOfWins.incrementAndGet();
+                break;
+            case 1:
+                numberOfTies.incrementAndGet();
+                break;
+            default:
+                numberOfLosses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of games won by the first contestant
+     * @return The number of wins
+     */
+    public int getNumberOfWins() {
+        return numberOfWins.get();
+    }
+
+    /**
+     * Returns the number of tied games
+     * @return The number of ties
+     */
+    public int getNumberOfTies() {
+        return numberOfTies.get();
+    }
+
+    /**
+     * Returns the number of games lost by the first contestant
+     * @return The number of losses
+     */
+    public int getNumberOfLosses() {
+        return numberOfLosses.get();
+    }
+
+    /**
+     * Returns the number of finished games
+     * @return The number of games
+     */
+    public int getNumberOfGames() {
+        return getNumberOfWins() + getNumberOfTies() + getNumberOfLosses();
+    }
+
+    /**
+     * Returns the average result of the first contestant
+     * @return The average result, between 0 for all losses and 1 for all wins, or 0.5 if no game is finished
+     */
+    public double getScore() {
+        int numberOfGames = getNumberOfGames();
+        if (numberOfGames == 0) return 0.5;
+        return (getNumberOfWins() + getNumberOfTies() / 2.0) / numberOfGames;
+    }
+
+    /**
+     * Returns the Elo rating difference between the first and the second contestant, that is the difference which
+     * would make the average result of the first contestant the expected one
+     * @return The Elo difference, which is infinite if the first contestant won or lost all the games
+     */
+    public double getEloDifference() {
+        double score = getScore();
+        if (score <= 0) return Double.NEGATIVE_INFINITY;
+        if (score >= 1) return Double.POSITIVE_INFINITY;
+        return 400 * Math.log10(score / (1 - score));
+    }
+
+    @Override
+    public String toString() {
+        double eloDifference = getEloDifference();
+        return "+" + getNumberOfWins() + " =" + getNumberOfTies() + " -" + getNumberOfLosses() + " (score " + getScore()
+                + ", Elo difference " + (Double.isInfinite(eloDifference) ? eloDifference : Math.round(eloDifference)) + ")";
+    }
+}
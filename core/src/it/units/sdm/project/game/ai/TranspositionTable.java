@@ -0,0 +1,96 @@
+package it.units.sdm.project.game.ai;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A fixed-size hash table caching the results of an {@link AlphaBetaSearch}, keyed on the 64-bit hash of a position.
+ * Each slot holds the full key, to detect collisions, and an entry packed into a single {@code long}:
+ * <ul>
+ *     <li>bits 0-31: the value of the position, from the point of view of the player to move;</li>
+ *     <li>bits 32-39: the depth of the search which computed the value;</li>
+ *     <li>bits 40-41: whether the value is exact, a lower bound or an upper bound;</li>
+ *     <li>bits 42-52: the best move found plus one, so that the pass is stored as 0;</li>
+ *     <li>bit 63: set for every stored entry, so that an empty slot is never mistaken for a valid one.</li>
+ * </ul>
+ * A new entry always replaces the old one in its slot, unless the old one is about the same position and was computed
+ * by a deeper search. Nothing is allocated after the table is created.
+ */
+final class TranspositionTable {
+    static final long NO_ENTRY = 0;
+    static final int EXACT = 0;
+    static final int LOWER_BOUND = 1;
+    static final int UPPER_BOUND = 2;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int MOVE_SHIFT = 42;
+    private static final long DEPTH_MASK = 0xFF;
+    private static final long BOUND_MASK = 0x3;
+    private static final long MOVE_MASK = 0x7FF;
+    private static final long VALID_BIT = 1L << 63;
+    @NotNull
+    private final long[] keys;
+    @NotNull
+    private final long[] entries;
+    private final int indexMask;
+
+    /**
+     * Creates a new empty {@link TranspositionTable}
+     * @param sizeBits The base 2 logarithm of the number of slots
+     * @throws IllegalArgumentException In case the number of slots is not between 2^1 and 2^28
+     */
+    TranspositionTable(int sizeBits) throws IllegalArgumentException {
+        if (sizeBits < 1 || sizeBits > 28) {
+            throw new IllegalArgumentException("The table size must be between 2^1 and 2^28 slots");
+        }
+        this.keys = new long[1 << sizeBits];
+        this.entries = new long[1 << sizeBits];
+        this.indexMask = (1 << sizeBits) - 1;
+    }
+
+    /**
+     * Looks a position up
+     * @param key The hash of the position
+     * @return The packed entry, or {@link TranspositionTable#NO_ENTRY} if the position is not stored
+     */
+    long probe(long key) {
+        int index = (int) key & indexMask;
+        if (keys[index] != key) return NO_ENTRY;
+        return entries[index];
+    }
+
+    /**
+     * Stores the result of a search
+     * @param key The hash of the position
+     * @param depth The depth of the search, between 0 and 255
+     * @param value The value of the position
+     * @param bound One of {@link TranspositionTable#EXACT}, {@link TranspositionTable#LOWER_BOUND} and
+     * {@link TranspositionTable#UPPER_BOUND}
+     * @param move The best move found, which is either a cell index or the pass
+     */
+    void store(long key, int depth, int value, int bound, int move) {
+        int index = (int) key & indexMask;
+        if (keys[index] == key && entries[index] != NO_ENTRY && getDepth(entries[index]) > depth) return;
+        keys[index] = key;
+        entries[index] = VALID_BIT
+                | ((long) (move + 1) & MOVE_MASK) << MOVE_SHIFT
+                | ((long) bound & BOUND_MASK) << BOUND_SHIFT
+                | ((long) depth & DEPTH_MASK) << DEPTH_SHIFT
+                | (value & 0xFFFFFFFFL);
+    }
+
+    static int getValue(long entry) {
+        return (int) entry;
+    }
+
+    static int getDepth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT & DEPTH_MASK);
+    }
+
+    static int getBound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT & BOUND_MASK);
+    }
+
+    static int getMove(long entry) {
+        return (int) (entry >>> MOVE_SHIFT & MOVE_MASK) - 1;
+    }
+}
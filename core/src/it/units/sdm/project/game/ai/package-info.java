@@ -0,0 +1,6 @@
+/**
+ * Contains the {@link it.units.sdm.project.game.ComputerPlayer} implementations and their search algorithms.
+ * They rely on JVM-only features, like threads and {@link java.lang.System#nanoTime()} deadlines, so they're only
+ * available on the desktop, Android and terminal platforms and are excluded from the GWT build.
+ */
+package it.units.sdm.project.game.ai;
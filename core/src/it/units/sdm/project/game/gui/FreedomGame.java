@@ -2,18 +2,24 @@ package it.units.sdm.project.game.gui;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.kotcrab.vis.ui.VisUI;
+import it.units.sdm.project.board.BitBoard;
 import it.units.sdm.project.board.Board;
 import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
 import it.units.sdm.project.board.gui.GuiBoard;
 import it.units.sdm.project.board.gui.GuiStone;
 import it.units.sdm.project.board.gui.TileClickListener;
 import it.units.sdm.project.game.BoardGame;
+import it.units.sdm.project.game.ComputerPlayer;
 import it.units.sdm.project.game.FreedomBoardStatusObserver;
 import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
+import it.units.sdm.project.game.FreedomEngine;
 import it.units.sdm.project.game.Move;
 import it.units.sdm.project.game.Player;
 import it.units.sdm.project.game.gui.dialogs.GameOverDialog;
@@ -23,16 +29,17 @@ import it.units.sdm.project.game.gui.screens.SplashScreen;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.LinkedList;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
 
 /**
  * Represents the Freedom game, which is a {@link BoardGame} played by two
  * {@link Player}s ({@link Color#WHITE} and {@link Color#BLACK}) on a {@link GuiBoard}.
+ * The game rules are enforced by a {@link FreedomEngine}, while this class only handles the GUI.
+ * Each {@link Player} can be controlled by a {@link ComputerPlayer}, which chooses its {@link Move}s in the
+ * background on a copy of the game, so that the GUI keeps being drawn while it thinks. The chosen {@link Move} is then
+ * played on the render thread, while the clicks on the {@link GuiBoard} are ignored during its turns.
  */
 public class FreedomGame extends Game implements BoardGame<GuiStone> {
     /**
@@ -48,19 +55,24 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
     @NotNull
     private GuiBoard<GuiStone> board;
     @NotNull
-    private final LinkedList<Move> playersMovesHistory = new LinkedList<>();
-    @NotNull
     private Player whitePlayer = new Player(Color.WHITE, "player_one");
     @NotNull
     private Player blackPlayer = new Player(Color.BLACK, "player_two");
     @NotNull
-    private FreedomBoardStatusObserver statusObserver;
-    @NotNull
-    private GameStatus gameStatus = FREEDOM;
+    private FreedomEngine<GuiStone> engine;
     @NotNull
     private FreedomCellHighlighter cellHighlighter;
     @NotNull
     private TextureAtlas atlas;
+    @Nullable
+    private ComputerPlayer whiteComputerPlayer;
+    @Nullable
+    private ComputerPlayer blackComputerPlayer;
+    @Nullable
+    private AsyncExecutor computerPlayerExecutor;
+    private boolean isComputerPlayerThinking;
+    // Incremented whenever the game is reset, so that the moves chosen for the previous game are dropped
+    private int gameGeneration;
 
     @Override
     public void create() {
@@ -73,15 +85,24 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
 
     @Override
     public void dispose() {
+        // Waits for the current computer player search, if any, before disposing the computer players
+        if (computerPlayerExecutor != null) computerPlayerExecutor.dispose();
         atlas.dispose();
         VisUI.dispose();
+        if (whiteComputerPlayer != null) whiteComputerPlayer.dispose();
+        if (blackComputerPlayer != null) blackComputerPlayer.dispose();
+    }
+
+    @Override
+    public void setScreen(@Nullable Screen screen) {
+        super.setScreen(screen);
+        if (screen instanceof GameScreen) scheduleComputerMoveIfAny();
     }
 
     @Override
     public void reset() {
-        board.clearBoard();
-        playersMovesHistory.clear();
-        gameStatus = statusObserver.getCurrentGameStatus(getLastMove());
+        cancelComputerMoveIfAny();
+        engine.reset();
         cellHighlighter.resetCurrentlyHighlightedCellsIfAny();
     }
 
@@ -133,26 +154,61 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
         return boardSize;
     }
 
+    /**
+     * Returns the {@link FreedomBoardStatusObserver} watching {@code this} {@link FreedomGame}'s {@link Board}
+     * @return The {@link FreedomBoardStatusObserver} of the current {@link Board}
+     */
+    public @NotNull FreedomBoardStatusObserver getStatusObserver() {
+        return engine.getStatusObserver();
+    }
+
     @Override
     public @Nullable Move getLastMove() {
-        if (playersMovesHistory.isEmpty()) return null;
-        return playersMovesHistory.getLast();
+        return engine.getLastMove();
     }
 
+    /**
+     * Plays the next {@link Move} chosen by the user. Nothing happens if the {@link Position} is not legal,
+     * if the next {@link Player} is controlled by a {@link ComputerPlayer} or if a {@link ComputerPlayer} is thinking
+     * @param inputPosition The chosen {@link Position} for the next {@link Move}
+     */
     @Override
     public void nextMove(@NotNull Position inputPosition) {
-        Move currentMove = new Move(getNextPlayer(), inputPosition);
-        if (!isChosenPositionValid(currentMove.getPosition())) return;
-        updateBoard(currentMove);
-        if(gameStatus == GAME_OVER) {
-            GameOverDialog gameOverDialog = new GameOverDialog(this);
-            gameOverDialog.show(board.getStage());
+        if (isComputerPlayerThinking || getNextComputerPlayer() != null) return;
+        playMove(inputPosition);
+    }
+
+    private void playMove(@NotNull Position inputPosition) {
+        if (!engine.isPositionLegal(inputPosition)) return;
+        cellHighlighter.resetCurrentlyHighlightedCellsIfAny();
+        engine.nextMove(inputPosition);
+        updateLogArea(Objects.requireNonNull(getLastMove(), "The move was just played"));
+        GameStatus gameStatus = engine.getGameStatus();
+        if (gameStatus == NO_FREEDOM || gameStatus == LAST_MOVE) {
+            cellHighlighter.highlightPositions(engine.getLegalPositions());
         }
-        gameStatus = statusObserver.getCurrentGameStatus(getLastMove());
-        if (gameStatus == LAST_MOVE) {
+        showDialogForCurrentGameStatus();
+    }
+
+    /**
+     * Skips the last {@link Move}, ending the game, and shows the {@link GameOverDialog}.
+     * This is allowed only in the {@link GameStatus#LAST_MOVE} state
+     * @throws IllegalStateException In case the current {@link GameStatus} is not {@link GameStatus#LAST_MOVE}
+     */
+    public void passLastMove() throws IllegalStateException {
+        engine.passLastMove();
+        showDialogForCurrentGameStatus();
+    }
+
+    private void showDialogForCurrentGameStatus() {
+        if (engine.getGameStatus() != GAME_OVER && getNextComputerPlayer() != null) {
+            scheduleComputerMoveIfAny();
+        } else if (engine.getGameStatus() == LAST_MOVE) {
             LastMoveDialog lastMoveDialog = new LastMoveDialog(this);
             lastMoveDialog.show(board.getStage());
-            gameStatus = GAME_OVER;
+        } else if (engine.getGameStatus() == GAME_OVER) {
+            GameOverDialog gameOverDialog = new GameOverDialog(this);
+            gameOverDialog.show(board.getStage());
         }
     }
 
@@ -162,6 +218,7 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
      */
     public void setWhitePlayer(@NotNull Player whitePlayer) {
         this.whitePlayer = whitePlayer;
+        engine.setWhitePlayer(whitePlayer);
     }
 
     /**
@@ -170,6 +227,24 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
      */
     public void setBlackPlayer(@NotNull Player blackPlayer) {
         this.blackPlayer = blackPlayer;
+        engine.setBlackPlayer(blackPlayer);
+    }
+
+    /**
+     * Lets a {@link ComputerPlayer} choose the {@link Move}s of the {@link Player} of the chosen {@link Color}.
+     * The previous {@link ComputerPlayer} of that {@link Player}, if any, is not disposed
+     * @param color The {@link Color} of the {@link Player}, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @param computerPlayer The {@link ComputerPlayer}, or {@code null} to let the user play the {@link Move}s
+     * @throws IllegalArgumentException In case the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public void setComputerPlayer(@NotNull Color color, @Nullable ComputerPlayer computerPlayer) throws IllegalArgumentException {
+        if (color == Color.WHITE) {
+            whiteComputerPlayer = computerPlayer;
+        } else if (color == Color.BLACK) {
+            blackComputerPlayer = computerPlayer;
+        } else {
+            throw new IllegalArgumentException("The color can be either white or black");
+        }
     }
 
     /**
@@ -182,39 +257,53 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
     }
 
     private void reloadBoardSetup() {
+        cancelComputerMoveIfAny();
         board = new GuiBoard<>(boardSize);
         board.setTileClickListener(new TileClickListener(this));
-        statusObserver = new FreedomBoardStatusObserver(board);
+        engine = new FreedomEngine<>(board, whitePlayer, blackPlayer, this::createStone);
         cellHighlighter = new FreedomCellHighlighter(board);
     }
 
-    private void updateBoard(Move currentMove) {
-        cellHighlighter.resetCurrentlyHighlightedCellsIfAny();
-        putStoneOnTheBoard(currentMove);
-        cellHighlighter.highlightPositions(findFreePositionsNearLastPlayedPosition());
+    private @Nullable ComputerPlayer getNextComputerPlayer() {
+        if (engine.getNextPlayer().getColor() == Color.WHITE) return whiteComputerPlayer;
+        return blackComputerPlayer;
     }
 
-    private boolean isChosenPositionValid(@NotNull Position inputPosition) {
-        if (board.isCellOccupied(inputPosition)) return false;
-        if (gameStatus == GameStatus.NO_FREEDOM)
-            return findFreePositionsNearLastPlayedPosition().contains(inputPosition);
-        return true;
+    private void scheduleComputerMoveIfAny() {
+        ComputerPlayer computerPlayer = getNextComputerPlayer();
+        if (computerPlayer == null || isComputerPlayerThinking || engine.getGameStatus() == GAME_OVER) return;
+        if (computerPlayerExecutor == null) computerPlayerExecutor = new AsyncExecutor(1, "computer-player");
+        isComputerPlayerThinking = true;
+        int searchedGameGeneration = gameGeneration;
+        FreedomEngine<Stone> searchedEngine = engine.copy(new BitBoard(boardSize), Stone::new);
+        computerPlayerExecutor.submit(() -> {
+            try {
+                Position chosenPosition = computerPlayer.chooseMove(searchedEngine);
+                Gdx.app.postRunnable(() -> playComputerMove(searchedGameGeneration, chosenPosition));
+            } catch (RuntimeException e) {
+                Gdx.app.postRunnable(() -> {
+                    if (searchedGameGeneration == gameGeneration) isComputerPlayerThinking = false;
+                    Gdx.app.error(GAME_TAG, "The computer player failed to choose a move", e);
+                });
+            }
+            return null;
+        });
     }
 
-    @NotNull
-    private Set<Position> findFreePositionsNearLastPlayedPosition() {
-        return board.getAdjacentPositions(Objects.requireNonNull(getLastMove(),
-                        "There should be at least one move played when looking for free adjacent cells").getPosition()).stream()
-                .filter(position -> !board.isCellOccupied(position))
-                .collect(Collectors.toSet());
+    private void cancelComputerMoveIfAny() {
+        gameGeneration++;
+        isComputerPlayerThinking = false;
     }
 
-    private void putStoneOnTheBoard(@NotNull Move move) {
-        Player currentPlayer = move.getPlayer();
-        Position currentPosition = move.getPosition();
-        board.putPiece(new GuiStone(currentPlayer.getColor(), findStoneTextureRegion(currentPlayer.getColor())), currentPosition);
-        updateLogArea(move);
-        playersMovesHistory.add(move);
+    private void playComputerMove(int searchedGameGeneration, @Nullable Position chosenPosition) {
+        if (searchedGameGeneration != gameGeneration) return;
+        isComputerPlayerThinking = false;
+        if (chosenPosition == null) {
+            appendTextToLogArea(engine.getNextPlayer() + ": pass\n");
+            passLastMove();
+        } else {
+            playMove(chosenPosition);
+        }
     }
 
     private void updateLogArea(@NotNull Move move) {
@@ -225,6 +314,11 @@ public class FreedomGame extends Game implements BoardGame<GuiStone> {
         }
     }
 
+    @NotNull
+    private GuiStone createStone(@NotNull Color color) {
+        return new GuiStone(color, findStoneTextureRegion(color));
+    }
+
     @NotNull
     private TextureRegion findStoneTextureRegion(@NotNull Color color) {
         if(color == Color.WHITE) return atlas.findRegion("white_checker");
@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.kotcrab.vis.ui.widget.VisDialog;
-import it.units.sdm.project.game.FreedomBoardStatusObserver;
 import it.units.sdm.project.game.Player;
 import it.units.sdm.project.game.gui.FreedomGame;
 import it.units.sdm.project.game.gui.screens.PlayersNamesFormScreen;
@@ -27,10 +26,9 @@ public class GameOverDialog extends VisDialog {
     public GameOverDialog(@NotNull FreedomGame game) {
         super("GAME OVER");
         this.game = game;
-        FreedomBoardStatusObserver statusObserver = new FreedomBoardStatusObserver(game.getBoard());
         button(POSITIVE_TEXT, POSITIVE_TEXT);
         button(NEGATIVE_TEXT, NEGATIVE_TEXT);
-        Color winnerColor = statusObserver.getCurrentWinner();
+        Color winnerColor = game.getStatusObserver().getCurrentWinner();
         if (winnerColor == null) {
             text("Tie!");
         } else {
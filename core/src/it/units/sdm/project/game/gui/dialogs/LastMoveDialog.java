@@ -39,8 +39,7 @@ public class LastMoveDialog extends VisDialog {
         String message = (String) object;
         hide();
         if (message.equals(NEGATIVE_TEXT)) {
-            GameOverDialog gameOverDialog = new GameOverDialog(game);
-            gameOverDialog.show(getStage());
+            game.passLastMove();
         }
     }
 }
@@ -0,0 +1,35 @@
+package it.units.sdm.project.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Percentage;
+import jdk.jfr.Timespan;
+
+/**
+ * The fields shared by all the Flight Recorder events of the game logic. The duration is measured by the
+ * {@link JfrGameProbe} and stored in its own field, so the thresholds of the Flight Recorder settings don't apply to
+ * these events.
+ */
+@Category("Freedom")
+abstract class GameEvent extends Event {
+    @Label("Board Size")
+    @Description("The number of rows and columns of the board")
+    int boardSize;
+
+    @Label("Fill Level")
+    @Description("The fraction of the cells of the board holding a stone")
+    @Percentage
+    float fillLevel;
+
+    @Label("Operation Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long operationDuration;
+
+    void set(int boardSize, long numberOfFreeCells, long duration) {
+        this.boardSize = boardSize;
+        this.fillLevel = 1 - (float) numberOfFreeCells / (boardSize * boardSize);
+        this.operationDuration = duration;
+    }
+}
@@ -0,0 +1,74 @@
+package it.units.sdm.project.game.jfr;
+
+import it.units.sdm.project.game.GameProbe;
+import it.units.sdm.project.game.GameProbes;
+import org.jetbrains.annotations.NotNull;
+
+import jdk.jfr.EventType;
+
+/**
+ * A {@link GameProbe} committing a Java Flight Recorder event for each operation of the game logic:
+ * {@code freedom.MoveApplied}, {@code freedom.StatusComputed}, {@code freedom.ScoreComputed} and
+ * {@code freedom.SearchFinished}, all in the "Freedom" category. Each event holds the board size, the fill level of
+ * the board and the duration of the operation. An event is only created when a recording has it enabled, so the probe
+ * can stay installed in production and costs a clock read per operation when nothing is recorded:
+ * <pre>{@code
+ * GameProbes.install(new JfrGameProbe());
+ * }</pre>
+ * and then, for example, {@code jcmd <pid> JFR.start settings=profile} records the events along with the JVM ones.
+ */
+public final class JfrGameProbe implements GameProbe {
+    @NotNull
+    private final EventType moveAppliedType = EventType.getEventType(MoveAppliedEvent.class);
+    @NotNull
+    private final EventType statusComputedType = EventType.getEventType(StatusComputedEvent.class);
+    @NotNull
+    private final EventType scoreComputedType = EventType.getEventType(ScoreComputedEvent.class);
+    @NotNull
+    private final EventType searchFinishedType = EventType.getEventType(SearchFinishedEvent.class);
+
+    /**
+     * Installs a new {@link JfrGameProbe} with {@link GameProbes#install(GameProbe)}
+     */
+    public static void install() {
+        GameProbes.install(new JfrGameProbe());
+    }
+
+    @Override
+    public long startTimer() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void onMoveApplied(int boardSize, long numberOfFreeCells, long startTime) {
+        if (!moveAppliedType.isEnabled()) return;
+        commit(new MoveAppliedEvent(), boardSize, numberOfFreeCells, startTime);
+    }
+
+    @Override
+    public void onStatusComputed(int boardSize, long numberOfFreeCells, long startTime) {
+        if (!statusComputedType.isEnabled()) return;
+        commit(new StatusComputedEvent(), boardSize, numberOfFreeCells, startTime);
+    }
+
+    @Override
+    public void onScoreComputed(int boardSize, long numberOfFreeCells, long startTime) {
+        if (!scoreComputedType.isEnabled()) return;
+        commit(new ScoreComputedEvent(), boardSize, numberOfFreeCells, startTime);
+    }
+
+    @Override
+    public void onSearchFinished(@NotNull String algorithm, int boardSize, long numberOfFreeCells, long numberOfNodes,
+                                 long startTime) {
+        if (!searchFinishedType.isEnabled()) return;
+        SearchFinishedEvent event = new SearchFinishedEvent();
+        event.algorithm = algorithm;
+        event.numberOfNodes = numberOfNodes;
+        commit(event, boardSize, numberOfFreeCells, startTime);
+    }
+
+    private static void commit(@NotNull GameEvent event, int boardSize, long numberOfFreeCells, long startTime) {
+        event.set(boardSize, numberOfFreeCells, System.nanoTime() - startTime);
+        event.commit();
+    }
+}
@@ -0,0 +1,11 @@
+package it.units.sdm.project.game.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("freedom.MoveApplied")
+@Label("Move Applied")
+@Description("A move was played, including the evaluation of the new game status")
+final class MoveAppliedEvent extends GameEvent {
+}
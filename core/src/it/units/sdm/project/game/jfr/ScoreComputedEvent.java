@@ -0,0 +1,11 @@
+package it.units.sdm.project.game.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("freedom.ScoreComputed")
+@Label("Score Computed")
+@Description("The points on the board were counted")
+final class ScoreComputedEvent extends GameEvent {
+}
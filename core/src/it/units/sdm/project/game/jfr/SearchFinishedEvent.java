@@ -0,0 +1,17 @@
+package it.units.sdm.project.game.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("freedom.SearchFinished")
+@Label("Search Finished")
+@Description("A computer player chose its next move")
+final class SearchFinishedEvent extends GameEvent {
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Number Of Nodes")
+    @Description("The number of positions or playouts the search went through")
+    long numberOfNodes;
+}
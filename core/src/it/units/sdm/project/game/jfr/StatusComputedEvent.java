@@ -0,0 +1,11 @@
+package it.units.sdm.project.game.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("freedom.StatusComputed")
+@Label("Status Computed")
+@Description("The game status was computed")
+final class StatusComputedEvent extends GameEvent {
+}
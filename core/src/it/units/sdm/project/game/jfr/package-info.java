@@ -0,0 +1,6 @@
+/**
+ * Contains the {@link it.units.sdm.project.game.GameProbe} recording the operations of the game logic as Java Flight
+ * Recorder events. The Flight Recorder is a JVM-only feature, so this package is only available on the desktop and
+ * terminal platforms and is excluded from the GWT build.
+ */
+package it.units.sdm.project.game.jfr;
@@ -0,0 +1,34 @@
+package it.units.sdm.project.game.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters and the {@link LatencyHistogram}s of the games played on boards of the same size
+ */
+final class BoardSizeMetrics {
+    private final int boardSize;
+    @NotNull
+    final LongAdder numberOfMovesApplied = new LongAdder();
+    @NotNull
+    final LongAdder numberOfMovesRejected = new LongAdder();
+    @NotNull
+    final LongAdder numberOfGamesFinished = new LongAdder();
+    @NotNull
+    final LatencyHistogram moveApplication = new LatencyHistogram();
+    @NotNull
+    final LatencyHistogram statusEvaluation = new LatencyHistogram();
+    @NotNull
+    final LatencyHistogram scoring = new LatencyHistogram();
+
+    BoardSizeMetrics(int boardSize) {
+        this.boardSize = boardSize;
+    }
+
+    @NotNull
+    BoardSizeMetricsSnapshot snapshot() {
+        return new BoardSizeMetricsSnapshot(boardSize, numberOfMovesApplied.sum(), numberOfMovesRejected.sum(),
+                numberOfGamesFinished.sum(), moveApplication.snapshot(), statusEvaluation.snapshot(), scoring.snapshot());
+    }
+}
@@ -0,0 +1,96 @@
+package it.units.sdm.project.game.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The counters and the latencies of the games played on boards of the same size, up to a point in time
+ */
+public final class BoardSizeMetricsSnapshot {
+    private final int boardSize;
+    private final long numberOfMovesApplied;
+    private final long numberOfMovesRejected;
+    private final long numberOfGamesFinished;
+    @NotNull
+    private final LatencyHistogramSnapshot moveApplication;
+    @NotNull
+    private final LatencyHistogramSnapshot statusEvaluation;
+    @NotNull
+    private final LatencyHistogramSnapshot scoring;
+
+    BoardSizeMetricsSnapshot(int boardSize, long numberOfMovesApplied, long numberOfMovesRejected,
+                             long numberOfGamesFinished, @NotNull LatencyHistogramSnapshot moveApplication,
+                             @NotNull LatencyHistogramSnapshot statusEvaluation, @NotNull LatencyHistogramSnapshot scoring) {
+        this.boardSize = boardSize;
+        this.numberOfMovesApplied = numberOfMovesApplied;
+        this.numberOfMovesRejected = numberOfMovesRejected;
+        this.numberOfGamesFinished = numberOfGamesFinished;
+        this.moveApplication = moveApplication;
+        this.statusEvaluation = statusEvaluation;
+        this.scoring = scoring;
+    }
+
+    /**
+     * Returns the number of rows and columns of the boards
+     * @return The board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Returns the number of played moves
+     * @return The number of moves
+     */
+    public long getNumberOfMovesApplied() {
+        return numberOfMovesApplied;
+    }
+
+    /**
+     * Returns the number of moves refused because they were illegal
+     * @return The number of illegal moves
+     */
+    public long getNumberOfMovesRejected() {
+        return numberOfMovesRejected;
+    }
+
+    /**
+     * Returns the number of games which reached the end
+     * @return The number of finished games
+     */
+    public long getNumberOfGamesFinished() {
+        return numberOfGamesFinished;
+    }
+
+    /**
+     * Returns the latencies of the played moves, including the evaluation of the new game status
+     * @return The {@link LatencyHistogramSnapshot} of the moves
+     */
+    public @NotNull LatencyHistogramSnapshot getMoveApplication() {
+        return moveApplication;
+    }
+
+    /**
+     * Returns the latencies of the game status evaluations
+     * @return The {@link LatencyHistogramSnapshot} of the status evaluations
+     */
+    public @NotNull LatencyHistogramSnapshot getStatusEvaluation() {
+        return statusEvaluation;
+    }
+
+    /**
+     * Returns the latencies of the point counts
+     * @return The {@link LatencyHistogramSnapshot} of the point counts
+     */
+    public @NotNull LatencyHistogramSnapshot getScoring() {
+        return scoring;
+    }
+
+    @Override
+    public String toString() {
+        return boardSize + "x" + boardSize + ": " + numberOfMovesApplied + " moves, " + numberOfMovesRejected
+                + " illegal moves, " + numberOfGamesFinished + " finished games\n"
+                + "  move application: " + moveApplication + "\n"
+                + "  status evaluation: " + statusEvaluation + "\n"
+                + "  scoring: " + scoring;
+    }
+}
@@ -0,0 +1,144 @@
+package it.units.sdm.project.game.metrics;
+
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.game.GameProbe;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link GameProbe} counting the played moves, the refused illegal moves and the finished games, and recording the
+ * latencies of the moves, of the status evaluations and of the point counts in {@link LatencyHistogram}s, separately
+ * for each board size. Nothing is locked and nothing is allocated while recording, except for the first operation on
+ * each board size, so it can stay installed in production. The collected metrics can be read with
+ * {@link EngineMetrics#snapshot()}, or through JMX once registered:
+ * <pre>{@code
+ * EngineMetrics metrics = EngineMetrics.registerPlatformMBean();
+ * GameProbes.install(metrics);
+ * ...
+ * long p99 = metrics.snapshot().getBoardSizeMetrics(8).getMoveApplication().getP99Nanoseconds();
+ * }</pre>
+ */
+public final class EngineMetrics implements GameProbe, EngineMetricsMXBean {
+    /**
+     * The JMX object name of the {@link EngineMetrics} registered by {@link EngineMetrics#registerPlatformMBean()}
+     */
+    public static final String OBJECT_NAME = "it.units.sdm.project:type=EngineMetrics";
+    @NotNull
+    private final AtomicReferenceArray<BoardSizeMetrics> metricsByBoardSize =
+            new AtomicReferenceArray<>(Board.MAX_BOARD_SIZE + 1);
+
+    /**
+     * Creates a new {@link EngineMetrics} and registers it to the platform MBean server as
+     * {@value EngineMetrics#OBJECT_NAME}
+     * @return The registered {@link EngineMetrics}
+     * @throws IllegalStateException In case another {@link EngineMetrics} is already registered
+     */
+    public static @NotNull EngineMetrics registerPlatformMBean() throws IllegalStateException {
+        EngineMetrics metrics = new EngineMetrics();
+        try {
+            metrics.register(ManagementFactory.getPlatformMBeanServer());
+        } catch (JMException e) {
+            throw new IllegalStateException("The engine metrics can't be registered", e);
+        }
+        return metrics;
+    }
+
+    /**
+     * Registers this {@link EngineMetrics} to an MBean server as {@value EngineMetrics#OBJECT_NAME}
+     * @param server The MBean server
+     * @throws JMException In case the registration fails, for example because the name is already taken
+     */
+    public void register(@NotNull MBeanServer server) throws JMException {
+        server.registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * Takes a snapshot of the collected metrics
+     * @return The {@link EngineMetricsSnapshot}, holding the board sizes games were played on
+     */
+    public @NotNull EngineMetricsSnapshot snapshot() {
+        List<BoardSizeMetricsSnapshot> boardSizeMetrics = new ArrayList<>();
+        for (int boardSize = Board.MIN_BOARD_SIZE; boardSize < metricsByBoardSize.length(); boardSize++) {
+            BoardSizeMetrics metrics = metricsByBoardSize.get(boardSize);
+            if (metrics != null) boardSizeMetrics.add(metrics.snapshot());
+        }
+        return new EngineMetricsSnapshot(boardSizeMetrics);
+    }
+
+    @Override
+    public long startTimer() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void onMoveApplied(int boardSize, long numberOfFreeCells, long startTime) {
+        BoardSizeMetrics metrics = getMetrics(boardSize);
+        metrics.numberOfMovesApplied.increment();
+        metrics.moveApplication.record(System.nanoTime() - startTime);
+    }
+
+    @Override
+    public void onMoveRejected(int boardSize) {
+        getMetrics(boardSize).numberOfMovesRejected.increment();
+    }
+
+    @Override
+    public void onGameFinished(int boardSize) {
+        getMetrics(boardSize).numberOfGamesFinished.increment();
+    }
+
+    @Override
+    public void onStatusComputed(int boardSize, long numberOfFreeCells, long startTime) {
+        getMetrics(boardSize).statusEvaluation.record(System.nanoTime() - startTime);
+    }
+
+    @Override
+    public void onScoreComputed(int boardSize, long numberOfFreeCells, long startTime) {
+        getMetrics(boardSize).scoring.record(System.nanoTime() - startTime);
+    }
+
+    @Override
+    public long getNumberOfMovesApplied() {
+        return sum(metrics -> metrics.numberOfMovesApplied);
+    }
+
+    @Override
+    public long getNumberOfMovesRejected() {
+        return sum(metrics -> metrics.numberOfMovesRejected);
+    }
+
+    @Override
+    public long getNumberOfGamesFinished() {
+        return sum(metrics -> metrics.numberOfGamesFinished);
+    }
+
+    @Override
+    public @NotNull List<BoardSizeMetricsSnapshot> getBoardSizeMetrics() {
+        return snapshot().getBoardSizeMetrics();
+    }
+
+    private @NotNull BoardSizeMetrics getMetrics(int boardSize) {
+        BoardSizeMetrics metrics = metricsByBoardSize.get(boardSize);
+        if (metrics != null) return metrics;
+        metricsByBoardSize.compareAndSet(boardSize, null, new BoardSizeMetrics(boardSize));
+        return metricsByBoardSize.get(boardSize);
+    }
+
+    private long sum(@NotNull Function<BoardSizeMetrics, LongAdder> counter) {
+        long sum = 0;
+        for (int boardSize = Board.MIN_BOARD_SIZE; boardSize < metricsByBoardSize.length(); boardSize++) {
+            BoardSizeMetrics metrics = metricsByBoardSize.get(boardSize);
+            if (metrics != null) sum += counter.apply(metrics).sum();
+        }
+        return sum;
+    }
+}
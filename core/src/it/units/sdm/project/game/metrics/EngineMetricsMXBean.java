@@ -0,0 +1,37 @@
+package it.units.sdm.project.game.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The JMX view of an {@link EngineMetrics}, registered as {@value EngineMetrics#OBJECT_NAME}. The metrics of each
+ * board size are exposed as composite data, holding the counters and the count, mean, p50, p99 and maximum of each
+ * latency histogram.
+ */
+public interface EngineMetricsMXBean {
+    /**
+     * Returns the number of moves played on boards of any size
+     * @return The number of moves
+     */
+    long getNumberOfMovesApplied();
+
+    /**
+     * Returns the number of illegal moves refused on boards of any size
+     * @return The number of illegal moves
+     */
+    long getNumberOfMovesRejected();
+
+    /**
+     * Returns the number of games finished on boards of any size
+     * @return The number of finished games
+     */
+    long getNumberOfGamesFinished();
+
+    /**
+     * Returns the metrics of each board size games were played on
+     * @return The list of {@link BoardSizeMetricsSnapshot}s, sorted by board size
+     */
+    @NotNull
+    List<BoardSizeMetricsSnapshot> getBoardSizeMetrics();
+}
@@ -0,0 +1,73 @@
+package it.units.sdm.project.game.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The metrics collected by an {@link EngineMetrics} up to a point in time, by board size
+ */
+public final class EngineMetricsSnapshot {
+    @NotNull
+    private final List<BoardSizeMetricsSnapshot> boardSizeMetrics;
+
+    EngineMetricsSnapshot(@NotNull List<BoardSizeMetricsSnapshot> boardSizeMetrics) {
+        this.boardSizeMetrics = Collections.unmodifiableList(boardSizeMetrics);
+    }
+
+    /**
+     * Returns the metrics of each board size games were played on
+     * @return The unmodifiable list of {@link BoardSizeMetricsSnapshot}s, sorted by board size
+     */
+    public @NotNull List<BoardSizeMetricsSnapshot> getBoardSizeMetrics() {
+        return boardSizeMetrics;
+    }
+
+    /**
+     * Returns the metrics of the games played on boards of a given size
+     * @param boardSize The number of rows and columns of the boards
+     * @return The {@link BoardSizeMetricsSnapshot}, or {@code null} if no game was played on boards of that size
+     */
+    public @Nullable BoardSizeMetricsSnapshot getBoardSizeMetrics(int boardSize) {
+        for (BoardSizeMetricsSnapshot metrics : boardSizeMetrics) {
+            if (metrics.getBoardSize() == boardSize) return metrics;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of moves played on boards of any size
+     * @return The number of moves
+     */
+    public long getNumberOfMovesApplied() {
+        return boardSizeMetrics.stream().mapToLong(BoardSizeMetricsSnapshot::getNumberOfMovesApplied).sum();
+    }
+
+    /**
+     * Returns the number of illegal moves refused on boards of any size
+     * @return The number of illegal moves
+     */
+    public long getNumberOfMovesRejected() {
+        return boardSizeMetrics.stream().mapToLong(BoardSizeMetricsSnapshot::getNumberOfMovesRejected).sum();
+    }
+
+    /**
+     * Returns the number of games finished on boards of any size
+     * @return The number of finished games
+     */
+    public long getNumberOfGamesFinished() {
+        return boardSizeMetrics.stream().mapToLong(BoardSizeMetricsSnapshot::getNumberOfGamesFinished).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (BoardSizeMetricsSnapshot metrics : boardSizeMetrics) {
+            if (builder.length() > 0) builder.append('\n');
+            builder.append(metrics);
+        }
+        return builder.toString();
+    }
+}
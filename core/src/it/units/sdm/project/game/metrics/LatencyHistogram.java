@@ -0,0 +1,64 @@
+package it.units.sdm.project.game.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, in nanoseconds, which many threads can record into at the same time with no lock.
+ * The latencies are counted in log-linear buckets: each power of two is split into 16 buckets of the same width,
+ * so any percentile is known with a relative error below 1/16, using a fixed array of counters whatever the range
+ * of the recorded values. The latencies below 32 nanoseconds are counted exactly.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int NUMBER_OF_SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int NUMBER_OF_BUCKETS = NUMBER_OF_SUB_BUCKETS * (Long.SIZE - SUB_BUCKET_BITS);
+    @NotNull
+    private final AtomicLongArray counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    @NotNull
+    private final LongAdder totalNanoseconds = new LongAdder();
+    @NotNull
+    private final LongAccumulator maxNanoseconds = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency
+     * @param nanoseconds The latency, where negative values are recorded as 0
+     */
+    public void record(long nanoseconds) {
+        long latency = Math.max(0, nanoseconds);
+        counts.incrementAndGet(getBucketIndex(latency));
+        totalNanoseconds.add(latency);
+        maxNanoseconds.accumulate(latency);
+    }
+
+    /**
+     * Takes a snapshot of the recorded latencies. The latencies recorded while the snapshot is taken may be only
+     * partially included
+     * @return The {@link LatencyHistogramSnapshot}
+     */
+    public @NotNull LatencyHistogramSnapshot snapshot() {
+        long[] bucketCounts = new long[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            bucketCounts[i] = counts.get(i);
+        }
+        return new LatencyHistogramSnapshot(bucketCounts, totalNanoseconds.sum(), maxNanoseconds.get());
+    }
+
+    static int getBucketIndex(long nanoseconds) {
+        if (nanoseconds < NUMBER_OF_SUB_BUCKETS) return (int) nanoseconds;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanoseconds);
+        int subBucket = (int) (nanoseconds >>> (exponent - SUB_BUCKET_BITS)) & (NUMBER_OF_SUB_BUCKETS - 1);
+        return NUMBER_OF_SUB_BUCKETS * (exponent - SUB_BUCKET_BITS + 1) + subBucket;
+    }
+
+    static long getHighestValue(int bucketIndex) {
+        if (bucketIndex < 2 * NUMBER_OF_SUB_BUCKETS) return bucketIndex;
+        int exponent = bucketIndex / NUMBER_OF_SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucketIndex % NUMBER_OF_SUB_BUCKETS;
+        long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        return (NUMBER_OF_SUB_BUCKETS + subBucket) * bucketWidth + bucketWidth - 1;
+    }
+}
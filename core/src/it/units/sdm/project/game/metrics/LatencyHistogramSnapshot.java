@@ -0,0 +1,93 @@
+package it.units.sdm.project.game.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The latencies recorded by a {@link LatencyHistogram} up to a point in time. The percentiles are the highest
+ * latency of the bucket they fall into, so they're never underestimated by more than the maximum.
+ */
+public final class LatencyHistogramSnapshot {
+    @NotNull
+    private final long[] bucketCounts;
+    private final long count;
+    private final long totalNanoseconds;
+    private final long maxNanoseconds;
+
+    LatencyHistogramSnapshot(@NotNull long[] bucketCounts, long totalNanoseconds, long maxNanoseconds) {
+        this.bucketCounts = bucketCounts;
+        long count = 0;
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+        this.count = count;
+        this.totalNanoseconds = totalNanoseconds;
+        this.maxNanoseconds = maxNanoseconds;
+    }
+
+    /**
+     * Returns the number of recorded latencies
+     * @return The number of latencies
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the average of the recorded latencies
+     * @return The average latency in nanoseconds, or 0 if no latency was recorded
+     */
+    public double getMeanNanoseconds() {
+        return count == 0 ? 0 : (double) totalNanoseconds / count;
+    }
+
+    /**
+     * Returns the median of the recorded latencies
+     * @return The 50th percentile in nanoseconds
+     */
+    public long getP50Nanoseconds() {
+        return getPercentileNanoseconds(50);
+    }
+
+    /**
+     * Returns the 99th percentile of the recorded latencies
+     * @return The 99th percentile in nanoseconds
+     */
+    public long getP99Nanoseconds() {
+        return getPercentileNanoseconds(99);
+    }
+
+    /**
+     * Returns the highest recorded latency
+     * @return The maximum latency in nanoseconds, or 0 if no latency was recorded
+     */
+    public long getMaxNanoseconds() {
+        return maxNanoseconds;
+    }
+
+    /**
+     * Returns a percentile of the recorded latencies, that is the latency which is higher than or equal to the
+     * given percentage of the recorded ones
+     * @param percentile The percentile, between 0 excluded and 100 included
+     * @return The percentile in nanoseconds, or 0 if no latency was recorded
+     * @throws IllegalArgumentException In case the percentile is out of range
+     */
+    public long getPercentileNanoseconds(double percentile) throws IllegalArgumentException {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("The percentile must be between 0 excluded and 100 included");
+        }
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulativeCount += bucketCounts[i];
+            if (cumulativeCount >= rank) return Math.min(LatencyHistogram.getHighestValue(i), maxNanoseconds);
+        }
+        return maxNanoseconds;
+    }
+
+    @Override
+    public String toString() {
+        return count + " operations, p50 " + getP50Nanoseconds() + " ns, p99 " + getP99Nanoseconds() + " ns, max "
+                + maxNanoseconds + " ns";
+    }
+}
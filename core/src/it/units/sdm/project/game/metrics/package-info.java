@@ -0,0 +1,6 @@
+/**
+ * Contains the {@link it.units.sdm.project.game.GameProbe} collecting counters and latency histograms of the game
+ * logic, by board size, and exposing them as snapshots and through JMX. JMX and the concurrent counters are JVM-only
+ * features, so this package is only available on the desktop and terminal platforms and is excluded from the GWT build.
+ */
+package it.units.sdm.project.game.metrics;
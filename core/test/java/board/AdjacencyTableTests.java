@@ -0,0 +1,70 @@
+package board;
+
+import it.units.sdm.project.board.AdjacencyTable;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdjacencyTableTests {
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideStartingPositionAndAdjacent8x8BoardPositionsWithExceptionsForInvalidStartingPosition")
+    void testAdjacentPositionsFor8x8Board(Position position, Set<Position> adjacentPositions, Class<Exception> expectedException) {
+        AdjacencyTable adjacencyTable = AdjacencyTable.forBoardSize(8);
+        if (expectedException != null) {
+            assertThrows(expectedException, () -> adjacencyTable.toCellIndex(position));
+        } else {
+            int cellIndex = adjacencyTable.toCellIndex(position);
+            Set<Position> tablePositions = new HashSet<>();
+            for (int i = 0; i < adjacencyTable.getNumberOfAdjacentCells(cellIndex); i++) {
+                Position adjacentPosition = adjacencyTable.getAdjacentPosition(cellIndex, i);
+                assertEquals(adjacencyTable.toCellIndex(adjacentPosition), adjacencyTable.getAdjacentCell(cellIndex, i));
+                tablePositions.add(adjacentPosition);
+            }
+            assertEquals(adjacentPositions, tablePositions);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Board.MIN_BOARD_SIZE, 3, 10, Board.MAX_BOARD_SIZE})
+    void testNumberOfAdjacentCellsForEveryCell(int boardSize) {
+        AdjacencyTable adjacencyTable = AdjacencyTable.forBoardSize(boardSize);
+        int totalAdjacentCells = 0;
+        for (int cellIndex = 0; cellIndex < adjacencyTable.getNumberOfCells(); cellIndex++) {
+            totalAdjacentCells += adjacencyTable.getNumberOfAdjacentCells(cellIndex);
+        }
+        int innerCells = (boardSize - 2) * (boardSize - 2);
+        int sideCells = 4 * (boardSize - 2);
+        assertEquals(8 * innerCells + 5 * sideCells + 3 * 4, totalAdjacentCells);
+    }
+
+    @Test
+    void testTablesAreSharedBetweenBoardsOfTheSameSize() {
+        assertSame(AdjacencyTable.forBoardSize(8), AdjacencyTable.forBoardSize(8));
+        assertNotSame(AdjacencyTable.forBoardSize(8), AdjacencyTable.forBoardSize(9));
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideBoardSizesWithExceptionsForInvalidBoardSizes")
+    void testBoardSizeValidity(int boardSize, Class<Exception> expectedException) {
+        if (expectedException != null) {
+            assertThrows(expectedException, () -> AdjacencyTable.forBoardSize(boardSize));
+        } else {
+            assertDoesNotThrow(() -> AdjacencyTable.forBoardSize(boardSize));
+        }
+    }
+
+    @Test
+    void testToCellIndexWithPositionOutsideTheBoard() {
+        assertThrows(InvalidPositionException.class, () -> AdjacencyTable.forBoardSize(4).toCellIndex(Position.fromCoordinates(2, 4)));
+    }
+}
@@ -0,0 +1,124 @@
+package board;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static board.providers.BoardProviders.fillBoardWithWhiteStones;
+
+class ArrayBoardTests {
+
+    private final int numberOfRowsAndColumns = 8;
+    private final Board<Piece> board = new ArrayBoard<>(numberOfRowsAndColumns);
+
+    @BeforeEach
+    void clearBoard() {
+        board.clearBoard();
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideBoardSizesWithExceptionsForInvalidBoardSizes")
+    void testBoardSizeValidity(int boardSize, Class<Exception> expectedException) {
+        if (expectedException != null) {
+            assertThrows(expectedException, () -> new ArrayBoard<>(boardSize));
+        } else {
+            assertDoesNotThrow(() -> new ArrayBoard<>(boardSize));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#providePositionsFor8x8BoardWithExceptionsForInvalidPositions")
+    void putPieceThenGetPieceAndCheckIfEquals(int row, int column, Class<Exception> expectedException) {
+        Piece expectedStone = new Stone(Color.WHITE);
+        if (expectedException == null) {
+            board.putPiece(expectedStone, Position.fromCoordinates(row, column));
+            assertEquals(expectedStone, board.getPiece(Position.fromCoordinates(row, column)));
+        } else {
+            assertThrows(expectedException, () -> board.putPiece(expectedStone, Position.fromCoordinates(row, column)));
+            assertThrows(expectedException, () -> board.getPiece(Position.fromCoordinates(row, column)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#providePositionsFor8x8BoardWithExceptionsForInvalidPositions")
+    void testClearCellByFillingBoardAndThenClearingOneCell(int row, int column, Class<Exception> expectedException) {
+        fillBoardWithWhiteStones(board);
+        if (expectedException == null) {
+            board.clearCell(Position.fromCoordinates(row, column));
+            assertFalse(board.isCellOccupied(Position.fromCoordinates(row, column)));
+        } else {
+            assertThrows(expectedException, () -> board.clearCell(Position.fromCoordinates(row, column)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provide8x8NotEmptyBoardStringRepresentationWithPositionsToOccupyWithPieces")
+    void testPrintingOfBoardWithAWhiteAndABlackPiece(String printedBoard, Position whitePiecePosition, Position blackPiecePosition) {
+        board.putPiece(new Stone(Color.WHITE), whitePiecePosition);
+        board.putPiece(new Stone(Color.BLACK), blackPiecePosition);
+        assertEquals(printedBoard, board.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideBoardSizeForEmptyBoardStringRepresentation")
+    void testPrintingOfEmptyBoard(int boardSize, String printedBoard) {
+        Board<Piece> board = new ArrayBoard<>(boardSize);
+        assertEquals(printedBoard, board.toString());
+    }
+
+    @Test
+    void testGetPositionsHasTheSameOrderingAsMapBoard() {
+        Board<Piece> mapBoard = new MapBoard<>(numberOfRowsAndColumns);
+        assertIterableEquals(mapBoard.getPositions(), board.getPositions());
+    }
+
+    @Test
+    void testGetNumberOfFreeCellsWhenOverwritingAnOccupiedCell() {
+        Position position = Position.fromCoordinates(2, 3);
+        board.putPiece(new Stone(Color.WHITE), position);
+        board.putPiece(new Stone(Color.BLACK), position);
+        assertEquals(numberOfRowsAndColumns * numberOfRowsAndColumns - 1, board.getNumberOfFreeCells());
+        assertEquals(new Stone(Color.BLACK), board.getPiece(position));
+        board.clearCell(position);
+        board.clearCell(position);
+        assertEquals(numberOfRowsAndColumns * numberOfRowsAndColumns, board.getNumberOfFreeCells());
+    }
+
+    @Test
+    void testGetModificationCountIsIncrementedByEveryChange() {
+        long modificationCount = board.getModificationCount();
+        board.putPiece(new Stone(Color.WHITE), Position.fromCoordinates(0, 0));
+        assertTrue(board.getModificationCount() > modificationCount);
+        modificationCount = board.getModificationCount();
+        board.getPiece(Position.fromCoordinates(0, 0));
+        assertEquals(modificationCount, board.getModificationCount());
+        board.clearCell(Position.fromCoordinates(0, 0));
+        assertTrue(board.getModificationCount() > modificationCount);
+        modificationCount = board.getModificationCount();
+        board.clearBoard();
+        assertTrue(board.getModificationCount() > modificationCount);
+    }
+
+    @Test
+    void testZobristHashIsUpdatedByEveryChange() {
+        assertEquals(0, board.getZobristHash());
+        Position firstPosition = Position.fromCoordinates(0, 0);
+        Position secondPosition = Position.fromCoordinates(3, 5);
+        board.putPiece(new Stone(Color.WHITE), firstPosition);
+        long whiteStoneHash = board.getZobristHash();
+        assertNotEquals(0, whiteStoneHash);
+        board.putPiece(new Stone(Color.BLACK), secondPosition);
+        assertNotEquals(whiteStoneHash, board.getZobristHash());
+        board.putPiece(new Stone(Color.BLACK), firstPosition);
+        board.putPiece(new Stone(Color.WHITE), firstPosition);
+        board.clearCell(secondPosition);
+        board.clearCell(Position.fromCoordinates(7, 7));
+        assertEquals(whiteStoneHash, board.getZobristHash());
+        board.clearBoard();
+        assertEquals(0, board.getZobristHash());
+    }
+}
@@ -0,0 +1,201 @@
+package board;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.*;
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTests {
+
+    private final int numberOfRowsAndColumns = 8;
+    private final BitBoard board = new BitBoard(numberOfRowsAndColumns);
+
+    @BeforeEach
+    void clearBoard() {
+        board.clearBoard();
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideBoardSizesWithExceptionsForInvalidBoardSizes")
+    void testBoardSizeValidity(int boardSize, Class<Exception> expectedException) {
+        if (expectedException != null) {
+            assertThrows(expectedException, () -> new BitBoard(boardSize));
+        } else {
+            assertDoesNotThrow(() -> new BitBoard(boardSize));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#providePositionsFor8x8BoardWithExceptionsForInvalidPositions")
+    void putPieceThenGetPieceAndCheckIfEquals(int row, int column, Class<Exception> expectedException) {
+        Stone expectedStone = new Stone(Color.BLACK);
+        if (expectedException == null) {
+            board.putPiece(expectedStone, Position.fromCoordinates(row, column));
+            assertEquals(expectedStone, board.getPiece(Position.fromCoordinates(row, column)));
+        } else {
+            assertThrows(expectedException, () -> board.putPiece(expectedStone, Position.fromCoordinates(row, column)));
+            assertThrows(expectedException, () -> board.getPiece(Position.fromCoordinates(row, column)));
+        }
+    }
+
+    @Test
+    void testPutPieceReplacesTheStoneOfTheOtherColor() {
+        Position position = Position.fromCoordinates(3, 3);
+        board.putPiece(new Stone(Color.WHITE), position);
+        board.putPiece(new Stone(Color.BLACK), position);
+        assertEquals(new Stone(Color.BLACK), board.getPiece(position));
+        assertEquals(numberOfRowsAndColumns * numberOfRowsAndColumns - 1, board.getNumberOfFreeCells());
+    }
+
+    @Test
+    void testGetNumberOfFreeCellsByFillingBoardAndThenClearingCells() {
+        for (Position position : board.getPositions()) {
+            board.putPiece(new Stone(Color.WHITE), position);
+        }
+        assertEquals(0, board.getNumberOfFreeCells());
+        board.clearCell(Position.fromCoordinates(0, 0));
+        board.clearCell(Position.fromCoordinates(7, 7));
+        assertEquals(2, board.getNumberOfFreeCells());
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provide8x8NotEmptyBoardStringRepresentationWithPositionsToOccupyWithPieces")
+    void testPrintingOfBoardWithAWhiteAndABlackPiece(String printedBoard, Position whitePiecePosition, Position blackPiecePosition) {
+        board.putPiece(new Stone(Color.WHITE), whitePiecePosition);
+        board.putPiece(new Stone(Color.BLACK), blackPiecePosition);
+        assertEquals(printedBoard, board.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideStartingPositionAndAdjacent8x8BoardPositionsWithExceptionsForInvalidStartingPosition")
+    void testAreAdjacentCellsOccupied(Position position, Set<Position> adjacentPositions, Class<Exception> expectedException) {
+        if (expectedException != null) {
+            assertThrows(expectedException, () -> board.areAdjacentCellsOccupied(position));
+        } else {
+            adjacentPositions.forEach(adjacentPosition -> board.putPiece(new Stone(Color.WHITE), adjacentPosition));
+            assertTrue(board.areAdjacentCellsOccupied(position));
+            board.clearCell(adjacentPositions.iterator().next());
+            assertFalse(board.areAdjacentCellsOccupied(position));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 5, 8, 9, 16, 26})
+    void testAdjacentCellsBitmaskMatchesAdjacentPositions(int boardSize) {
+        BitBoard bitBoard = new BitBoard(boardSize);
+        long[] adjacentCells = new long[bitBoard.getNumberOfWords()];
+        for (int cellIndex = 0; cellIndex < bitBoard.getNumberOfCells(); cellIndex++) {
+            bitBoard.copyAdjacentCells(cellIndex, adjacentCells);
+            assertEquals(bitBoard.getAdjacentPositions(bitBoard.toPosition(cellIndex)), toPositions(bitBoard, adjacentCells));
+        }
+    }
+
+    @Test
+    void testFreeAndOccupiedCellsBitmasks() {
+        Position whitePosition = Position.fromCoordinates(0, 1);
+        Position blackPosition = Position.fromCoordinates(7, 6);
+        board.putPiece(new Stone(Color.WHITE), whitePosition);
+        board.putPiece(new Stone(Color.BLACK), blackPosition);
+        long[] bitmask = new long[board.getNumberOfWords()];
+        board.copyOccupiedCells(bitmask);
+        assertEquals(Set.of(whitePosition, blackPosition), toPositions(board, bitmask));
+        board.copyStones(Color.BLACK, bitmask);
+        assertEquals(Set.of(blackPosition), toPositions(board, bitmask));
+        board.copyFreeCells(bitmask);
+        assertEquals(board.getNumberOfFreeCells(), toPositions(board, bitmask).size());
+        assertFalse(toPositions(board, bitmask).contains(whitePosition));
+    }
+
+    private static Set<Position> toPositions(BitBoard bitBoard, long[] bitmask) {
+        Set<Position> positions = new HashSet<>();
+        for (int cellIndex = 0; cellIndex < bitBoard.getNumberOfCells(); cellIndex++) {
+            if ((bitmask[cellIndex / 64] & (1L << (cellIndex % 64))) != 0) {
+                positions.add(bitBoard.toPosition(cellIndex));
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    void testGetModificationCountIsIncrementedByEveryChange() {
+        long modificationCount = board.getModificationCount();
+        board.putPiece(new Stone(Color.WHITE), Position.fromCoordinates(0, 0));
+        assertTrue(board.getModificationCount() > modificationCount);
+        modificationCount = board.getModificationCount();
+        board.getPiece(Position.fromCoordinates(0, 0));
+        assertEquals(modificationCount, board.getModificationCount());
+        board.clearCell(Position.fromCoordinates(0, 0));
+        assertTrue(board.getModificationCount() > modificationCount);
+        modificationCount = board.getModificationCount();
+        board.clearBoard();
+        assertTrue(board.getModificationCount() > modificationCount);
+    }
+
+    @Test
+    void testZobristHashIsUpdatedByEveryChange() {
+        assertEquals(0, board.getZobristHash());
+        Position firstPosition = Position.fromCoordinates(0, 0);
+        Position secondPosition = Position.fromCoordinates(3, 5);
+        board.putPiece(new Stone(Color.WHITE), firstPosition);
+        long whiteStoneHash = board.getZobristHash();
+        assertNotEquals(0, whiteStoneHash);
+        board.putPiece(new Stone(Color.BLACK), secondPosition);
+        assertNotEquals(whiteStoneHash, board.getZobristHash());
+        board.putPiece(new Stone(Color.BLACK), firstPosition);
+        board.putPiece(new Stone(Color.WHITE), firstPosition);
+        board.clearCell(secondPosition);
+        board.clearCell(Position.fromCoordinates(7, 7));
+        assertEquals(whiteStoneHash, board.getZobristHash());
+        board.clearBoard();
+        assertEquals(0, board.getZobristHash());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void testZobristHashMatchesTheOtherBoardsWithTheSameStones(long seed) {
+        Board<Stone> mapBoard = new MapBoard<>(numberOfRowsAndColumns);
+        Board<Stone> arrayBoard = new ArrayBoard<>(numberOfRowsAndColumns);
+        Random random = new Random(seed);
+        for (int i = 0; i < 40; i++) {
+            Position position = Position.fromCoordinates(random.nextInt(numberOfRowsAndColumns), random.nextInt(numberOfRowsAndColumns));
+            Stone stone = new Stone(random.nextBoolean() ? Color.WHITE : Color.BLACK);
+            board.putPiece(stone, position);
+            arrayBoard.putPiece(stone, position);
+            mapBoard.putPiece(stone, position);
+        }
+        for (int i = 0; i < numberOfRowsAndColumns; i++) {
+            Position position = Position.fromCoordinates(i, i);
+            board.clearCell(position);
+            arrayBoard.clearCell(position);
+            mapBoard.clearCell(position);
+        }
+        assertNotEquals(0, board.getZobristHash());
+        assertEquals(board.getZobristHash(), arrayBoard.getZobristHash());
+        assertEquals(board.getZobristHash(), mapBoard.getZobristHash());
+    }
+
+    @Test
+    void testCopyPiecesReplacesTheStones() {
+        Board<Stone> arrayBoard = new ArrayBoard<>(numberOfRowsAndColumns);
+        arrayBoard.putPiece(new Stone(Color.WHITE), Position.fromCoordinates(0, 0));
+        arrayBoard.putPiece(new Stone(Color.BLACK), Position.fromCoordinates(3, 5));
+        board.putPiece(new Stone(Color.BLACK), Position.fromCoordinates(7, 7));
+        board.copyPieces(arrayBoard);
+        assertEquals(Color.WHITE, board.getStoneColor(board.toCellIndex(Position.fromCoordinates(0, 0))));
+        assertEquals(Color.BLACK, board.getStoneColor(board.toCellIndex(Position.fromCoordinates(3, 5))));
+        assertFalse(board.isCellOccupied(Position.fromCoordinates(7, 7)));
+        assertEquals(numberOfRowsAndColumns * numberOfRowsAndColumns - 2, board.getNumberOfFreeCells());
+        assertEquals(arrayBoard.getZobristHash(), board.getZobristHash());
+        assertThrows(InvalidBoardSizeException.class, () -> board.copyPieces(new ArrayBoard<Stone>(4)));
+    }
+}
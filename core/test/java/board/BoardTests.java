@@ -1,5 +1,6 @@
 package board;
 
+import com.badlogic.gdx.graphics.Color;
 import it.units.sdm.project.board.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +66,44 @@ class BoardTests {
         assertEquals(2, board.getNumberOfFreeCells());
     }
 
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideCoordinatesFor8x8BoardAndWhetherInsideTheBoard")
+    void testContainsWithCoordinatesInsideAndOutsideTheBoard(int row, int column, boolean shouldBeInside) {
+        assertEquals(numberOfRowsAndColumns, board.getSize());
+        assertEquals(shouldBeInside, assertDoesNotThrow(() -> board.contains(row, column)));
+    }
+
+    @Test
+    void testGetModificationCountIsIncrementedByEveryChange() {
+        long modificationCount = board.getModificationCount();
+        board.putPiece(new Stone(Color.WHITE), Position.fromCoordinates(0, 0));
+        assertTrue(board.getModificationCount() > modificationCount);
+        modificationCount = board.getModificationCount();
+        board.getPiece(Position.fromCoordinates(0, 0));
+        assertEquals(modificationCount, board.getModificationCount());
+        board.clearCell(Position.fromCoordinates(0, 0));
+        assertTrue(board.getModificationCount() > modificationCount);
+        modificationCount = board.getModificationCount();
+        board.clearBoard();
+        assertTrue(board.getModificationCount() > modificationCount);
+    }
+
+    @Test
+    void testZobristHashIsUpdatedByEveryChange() {
+        assertEquals(0, board.getZobristHash());
+        Position firstPosition = Position.fromCoordinates(0, 0);
+        Position secondPosition = Position.fromCoordinates(3, 5);
+        board.putPiece(new Stone(Color.WHITE), firstPosition);
+        long whiteStoneHash = board.getZobristHash();
+        assertNotEquals(0, whiteStoneHash);
+        board.putPiece(new Stone(Color.BLACK), secondPosition);
+        assertNotEquals(whiteStoneHash, board.getZobristHash());
+        board.putPiece(new Stone(Color.BLACK), firstPosition);
+        board.putPiece(new Stone(Color.WHITE), firstPosition);
+        board.clearCell(secondPosition);
+        board.clearCell(Position.fromCoordinates(7, 7));
+        assertEquals(whiteStoneHash, board.getZobristHash());
+        board.clearBoard();
+        assertEquals(0, board.getZobristHash());
+    }
 }
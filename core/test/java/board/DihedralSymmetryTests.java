@@ -0,0 +1,85 @@
+package board;
+
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.DihedralSymmetry;
+import it.units.sdm.project.board.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DihedralSymmetryTests {
+
+    @ParameterizedTest
+    @MethodSource("board.providers.BoardProviders#provideBoardSizesWithExceptionsForInvalidBoardSizes")
+    void testBoardSizeValidity(int boardSize, Class<Exception> expectedException) {
+        if (expectedException != null) {
+            assertThrows(expectedException, () -> DihedralSymmetry.forBoardSize(boardSize));
+        } else {
+            assertEquals(boardSize, DihedralSymmetry.forBoardSize(boardSize).getBoardSize());
+        }
+    }
+
+    @Test
+    void testTheSameSymmetriesAreSharedByBoardsOfTheSameSize() {
+        assertSame(DihedralSymmetry.forBoardSize(8), DihedralSymmetry.forBoardSize(8));
+        assertNotSame(DihedralSymmetry.forBoardSize(8), DihedralSymmetry.forBoardSize(9));
+    }
+
+    @Test
+    void testRotationsAndReflectionsOfACorner() {
+        DihedralSymmetry dihedralSymmetry = DihedralSymmetry.forBoardSize(4);
+        Position corner = Position.fromCoordinates(0, 1);
+        assertEquals(corner, dihedralSymmetry.transformPosition(DihedralSymmetry.IDENTITY, corner));
+        assertEquals(Position.fromCoordinates(1, 3), dihedralSymmetry.transformPosition(1, corner));
+        assertEquals(Position.fromCoordinates(3, 2), dihedralSymmetry.transformPosition(2, corner));
+        assertEquals(Position.fromCoordinates(2, 0), dihedralSymmetry.transformPosition(3, corner));
+        assertEquals(Position.fromCoordinates(0, 2), dihedralSymmetry.transformPosition(4, corner));
+        assertEquals(Position.fromCoordinates(1, 0), dihedralSymmetry.transformPosition(5, corner));
+        assertEquals(Position.fromCoordinates(3, 1), dihedralSymmetry.transformPosition(6, corner));
+        assertEquals(Position.fromCoordinates(2, 3), dihedralSymmetry.transformPosition(7, corner));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Board.MIN_BOARD_SIZE, 3, 8, Board.MAX_BOARD_SIZE})
+    void testEverySymmetryIsAPermutationUndoneByItsInverse(int boardSize) {
+        DihedralSymmetry dihedralSymmetry = DihedralSymmetry.forBoardSize(boardSize);
+        for (int symmetry = 0; symmetry < DihedralSymmetry.NUMBER_OF_SYMMETRIES; symmetry++) {
+            Set<Integer> transformedCells = new HashSet<>();
+            for (int cellIndex = 0; cellIndex < boardSize * boardSize; cellIndex++) {
+                int transformedCell = dihedralSymmetry.transformCell(symmetry, cellIndex);
+                transformedCells.add(transformedCell);
+                assertEquals(cellIndex, dihedralSymmetry.transformCell(DihedralSymmetry.getInverse(symmetry), transformedCell));
+            }
+            assertEquals(boardSize * boardSize, transformedCells.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 8, 9, Board.MAX_BOARD_SIZE})
+    void testBitmasksAreTransformedCellByCell(int boardSize) {
+        DihedralSymmetry dihedralSymmetry = DihedralSymmetry.forBoardSize(boardSize);
+        int numberOfWords = (boardSize * boardSize + 63) / 64;
+        long[] cells = new long[numberOfWords];
+        Random random = new Random(boardSize);
+        for (int cellIndex = 0; cellIndex < boardSize * boardSize; cellIndex++) {
+            if (random.nextBoolean()) cells[cellIndex / 64] |= 1L << (cellIndex % 64);
+        }
+        long[] transformedCells = new long[numberOfWords];
+        for (int symmetry = 0; symmetry < DihedralSymmetry.NUMBER_OF_SYMMETRIES; symmetry++) {
+            dihedralSymmetry.transformCells(symmetry, cells, transformedCells);
+            for (int cellIndex = 0; cellIndex < boardSize * boardSize; cellIndex++) {
+                int transformedCell = dihedralSymmetry.transformCell(symmetry, cellIndex);
+                assertEquals((cells[cellIndex / 64] >>> (cellIndex % 64) & 1),
+                        (transformedCells[transformedCell / 64] >>> (transformedCell % 64) & 1));
+            }
+            if (numberOfWords == 1) assertEquals(transformedCells[0], dihedralSymmetry.transformCells(symmetry, cells[0]));
+        }
+    }
+}
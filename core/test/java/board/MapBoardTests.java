@@ -3,6 +3,7 @@ package board;
 import it.units.sdm.project.board.*;
 import com.badlogic.gdx.graphics.Color;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -68,4 +69,16 @@ class MapBoardTests {
         Board<Piece> board = new MapBoard<>(boardSize);
         assertEquals(printedBoard, board.toString());
     }
+
+    @Test
+    void testGetNumberOfFreeCellsWhenOverwritingAnOccupiedCell() {
+        Position position = Position.fromCoordinates(2, 3);
+        board.putPiece(new Stone(Color.WHITE), position);
+        board.putPiece(new Stone(Color.BLACK), position);
+        assertEquals(numberOfRowsAndColumns * numberOfRowsAndColumns - 1, board.getNumberOfFreeCells());
+        assertEquals(new Stone(Color.BLACK), board.getPiece(position));
+        board.clearCell(position);
+        board.clearCell(position);
+        assertEquals(numberOfRowsAndColumns * numberOfRowsAndColumns, board.getNumberOfFreeCells());
+    }
 }
@@ -1,11 +1,14 @@
 package board;
 
 import it.units.sdm.project.exceptions.InvalidPositionException;
+import it.units.sdm.project.board.Board;
 import it.units.sdm.project.board.Position;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Objects;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PositionTests {
@@ -48,4 +51,24 @@ class PositionTests {
     void testEqualsByComparingPositionWithCandidateObject(@NotNull Position position, Object candidate, boolean shouldBeEqual) {
         assertEquals(shouldBeEqual, position.equals(candidate));
     }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.PositionProviders#providePositionStringRepresentations")
+    void testFromCoordinatesReturnsCachedInstances(int row, int column) {
+        assertSame(Position.fromCoordinates(row, column), Position.fromCoordinates(row, column));
+    }
+
+    @ParameterizedTest
+    @MethodSource("board.providers.PositionProviders#providePositionCoordinatesWithExceptionsForInvalidCoordinate")
+    void testHashCodeAndOrdinal(int row, int column, Class<Exception> expectedException) {
+        if (expectedException == null) {
+            Position position = Position.fromCoordinates(row, column);
+            assertEquals(Objects.hash(row, column), position.hashCode());
+            if (row < Board.MAX_BOARD_SIZE) {
+                assertEquals(row * Board.MAX_BOARD_SIZE + column, position.getOrdinal());
+            } else {
+                assertEquals(-1, position.getOrdinal());
+            }
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package board;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.ZobristKeys;
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristKeysTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, Board.MAX_BOARD_SIZE + 1})
+    void testInvalidBoardSizesAreRejected(int boardSize) {
+        assertThrows(InvalidBoardSizeException.class, () -> ZobristKeys.forBoardSize(boardSize));
+    }
+
+    @Test
+    void testTheSameKeysAreSharedByBoardsOfTheSameSize() {
+        assertSame(ZobristKeys.forBoardSize(8), ZobristKeys.forBoardSize(8));
+        assertNotSame(ZobristKeys.forBoardSize(8), ZobristKeys.forBoardSize(9));
+        assertEquals(64, ZobristKeys.forBoardSize(8).getNumberOfCells());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Board.MIN_BOARD_SIZE, 3, 10, Board.MAX_BOARD_SIZE})
+    void testAllKeysAreDistinct(int boardSize) {
+        ZobristKeys keys = ZobristKeys.forBoardSize(boardSize);
+        Set<Long> distinctKeys = new HashSet<>();
+        distinctKeys.add(keys.getLastCellKey(ZobristKeys.NO_LAST_CELL));
+        distinctKeys.add(keys.getBlackToMoveKey());
+        distinctKeys.add(keys.getPassKey());
+        for (int cellIndex = 0; cellIndex < keys.getNumberOfCells(); cellIndex++) {
+            distinctKeys.add(keys.getStoneKey(Color.WHITE, cellIndex));
+            distinctKeys.add(keys.getStoneKey(Color.BLACK, cellIndex));
+            distinctKeys.add(keys.getLastCellKey(cellIndex));
+        }
+        assertEquals(3 * keys.getNumberOfCells() + 3, distinctKeys.size());
+        assertFalse(distinctKeys.contains(0L));
+    }
+
+    @Test
+    void testPositionHashCombinesEveryPartOfThePosition() {
+        ZobristKeys keys = ZobristKeys.forBoardSize(4);
+        long stonesHash = keys.getStoneKey(Color.WHITE, 0) ^ keys.getStoneKey(Color.BLACK, 5);
+        long positionHash = keys.getPositionHash(stonesHash, 5, false, false);
+        assertEquals(stonesHash ^ keys.getLastCellKey(5), positionHash);
+        assertEquals(positionHash ^ keys.getBlackToMoveKey(), keys.getPositionHash(stonesHash, 5, true, false));
+        assertEquals(positionHash ^ keys.getPassKey(), keys.getPositionHash(stonesHash, 5, false, true));
+        assertNotEquals(positionHash, keys.getPositionHash(stonesHash, 0, false, false));
+    }
+}
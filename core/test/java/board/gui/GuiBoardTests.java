@@ -3,7 +3,9 @@ package board.gui;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.graphics.Color;
 import com.kotcrab.vis.ui.VisUI;
+import it.units.sdm.project.board.BitBoard;
 import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
 import it.units.sdm.project.board.gui.GuiBoard;
 import it.units.sdm.project.board.gui.GuiStone;
 import org.junit.jupiter.api.AfterAll;
@@ -88,9 +90,33 @@ class GuiBoardTests {
         assertEquals(boardSize * boardSize, board.getPositions().size());
     }
 
+    @Test
+    void testGetNumberOfFreeCellsWhenOverwritingAnOccupiedCell() {
+        Position position = Position.fromCoordinates(2, 3);
+        board.putPiece(new GuiStone(Color.WHITE, VisUI.getSkin().getRegion("white_checker")), position);
+        GuiStone blackStone = new GuiStone(Color.BLACK, VisUI.getSkin().getRegion("black_checker"));
+        board.putPiece(blackStone, position);
+        assertEquals(boardSize * boardSize - 1, board.getNumberOfFreeCells());
+        assertEquals(blackStone, board.getPiece(position));
+        board.clearCell(position);
+        assertEquals(boardSize * boardSize, board.getNumberOfFreeCells());
+    }
+
     @AfterAll
     static void cleanup() {
         VisUI.dispose();
         application.exit();
     }
+
+    @Test
+    void testZobristHashMatchesTheStonesOnTheBoard() {
+        Position position = Position.fromCoordinates(2, 3);
+        BitBoard bitBoard = new BitBoard(boardSize);
+        board.putPiece(new GuiStone(Color.WHITE, VisUI.getSkin().getRegion("white_checker")), position);
+        board.putPiece(new GuiStone(Color.BLACK, VisUI.getSkin().getRegion("black_checker")), position);
+        bitBoard.putPiece(new Stone(Color.BLACK), position);
+        assertEquals(bitBoard.getZobristHash(), board.getZobristHash());
+        board.clearBoard();
+        assertEquals(0, board.getZobristHash());
+    }
 }
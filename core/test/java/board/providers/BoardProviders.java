@@ -32,6 +32,19 @@ public class BoardProviders {
         );
     }
 
+    public static @NotNull Stream<Arguments> provideCoordinatesFor8x8BoardAndWhetherInsideTheBoard() {
+        return Stream.of(
+                Arguments.of(0, 0, true),
+                Arguments.of(7, 7, true),
+                Arguments.of(3, 5, true),
+                Arguments.of(-1, 0, false),
+                Arguments.of(0, -1, false),
+                Arguments.of(8, 7, false),
+                Arguments.of(7, 8, false),
+                Arguments.of(Integer.MAX_VALUE, Integer.MIN_VALUE, false)
+        );
+    }
+
     /**
      * Each item in the returned {@link Stream} provides a starting {@link Position},
      * a {@link Set} of all the {@link Position}s that should be adjacent to the starting {@link Position}
@@ -0,0 +1,124 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.AdjacencyTable;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.FreedomBoardStatusObserver;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.IncrementalFreedomPointsCounter;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static utility.AllocationMeter.assertAllocationBudget;
+import static utility.FreedomRandomMovesUtils.playRandomMoves;
+
+/**
+ * These tests check that the hot paths used by the computer players and the engine don't allocate any object once
+ * they're warmed up, so that a change adding garbage to them fails the build. Each operation is measured on a game
+ * halfway through, so that it walks boards with both free and occupied cells.
+ */
+class AllocationBudgetTests {
+
+    private static final long NO_ALLOCATIONS = 0;
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+    // Written by the measured operations, so that their results are used
+    private long sink;
+
+    static Stream<Arguments> provideHalfFilledBoards() {
+        return Stream.of(
+                Arguments.of(new ArrayBoard<Stone>(8)),
+                Arguments.of(new BitBoard(8)),
+                Arguments.of(new BitBoard(10))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideHalfFilledBoards")
+    void testBoardAccessDoesntAllocate(Board<Stone> board) {
+        FreedomEngine<Stone> engine = createHalfPlayedGame(board);
+        Position[] positions = board.getPositions().toArray(new Position[0]);
+        assertAllocationBudget("getPiece", NO_ALLOCATIONS, () -> {
+            for (Position position : positions) {
+                if (board.getPiece(position) != null) sink++;
+            }
+        });
+        assertAllocationBudget("isCellOccupied", NO_ALLOCATIONS, () -> {
+            for (Position position : positions) {
+                if (board.isCellOccupied(position)) sink++;
+            }
+        });
+        assertAllocationBudget("getNumberOfFreeCells", NO_ALLOCATIONS, () -> sink += board.getNumberOfFreeCells());
+        assertAllocationBudget("getPositionHash", NO_ALLOCATIONS, () -> sink += engine.getPositionHash());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideHalfFilledBoards")
+    void testAdjacencyQueriesDontAllocate(Board<Stone> board) {
+        createHalfPlayedGame(board);
+        AdjacencyTable adjacencyTable = board.getAdjacencyTable();
+        Position[] positions = board.getPositions().toArray(new Position[0]);
+        assertAllocationBudget("getAdjacentCell", NO_ALLOCATIONS, () -> {
+            for (int cellIndex = 0; cellIndex < adjacencyTable.getNumberOfCells(); cellIndex++) {
+                for (int i = 0; i < adjacencyTable.getNumberOfAdjacentCells(cellIndex); i++) {
+                    sink += adjacencyTable.getAdjacentCell(cellIndex, i);
+                }
+            }
+        });
+        assertAllocationBudget("areAdjacentCellsOccupied", NO_ALLOCATIONS, () -> {
+            for (Position position : positions) {
+                if (board.areAdjacentCellsOccupied(position)) sink++;
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideHalfFilledBoards")
+    void testLegalMoveGenerationDoesntAllocate(Board<Stone> board) {
+        FreedomEngine<Stone> engine = createHalfPlayedGame(board);
+        FreedomMoveGenerator moveGenerator = new FreedomMoveGenerator(board);
+        int[] moves = new int[moveGenerator.getMaxNumberOfMoves()];
+        long[] legalCells = new long[moveGenerator.getNumberOfWords()];
+        Move lastMove = engine.getLastMove();
+        assertAllocationBudget("generateMoves", NO_ALLOCATIONS, () -> sink += moveGenerator.generateMoves(lastMove, moves));
+        assertAllocationBudget("generateMoves into a bitmask", NO_ALLOCATIONS,
+                () -> sink += moveGenerator.generateMoves(lastMove, legalCells));
+        assertAllocationBudget("generateLegalMoves", NO_ALLOCATIONS, () -> sink += engine.generateLegalMoves(moves));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideHalfFilledBoards")
+    void testScoringDoesntAllocate(Board<Stone> board) {
+        FreedomEngine<Stone> engine = createHalfPlayedGame(board);
+        FreedomPointsCounter pointsCounter = new FreedomPointsCounter(board);
+        IncrementalFreedomPointsCounter incrementalPointsCounter = new IncrementalFreedomPointsCounter(board);
+        FreedomBoardStatusObserver statusObserver = new FreedomBoardStatusObserver(board);
+        Move lastMove = engine.getLastMove();
+        assertAllocationBudget("getPlayerScore", NO_ALLOCATIONS,
+                () -> sink += pointsCounter.getPlayerScore(Color.WHITE) + pointsCounter.getPlayerScore(Color.BLACK));
+        assertAllocationBudget("incremental getPlayerScore", NO_ALLOCATIONS,
+                () -> sink += incrementalPointsCounter.getPlayerScore(Color.WHITE));
+        assertAllocationBudget("getCurrentGameStatus", NO_ALLOCATIONS,
+                () -> sink += statusObserver.getCurrentGameStatus(lastMove).ordinal());
+    }
+
+    private FreedomEngine<Stone> createHalfPlayedGame(Board<Stone> board) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(board, whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(board.getSize());
+        playRandomMoves(engine, random, playedEngine -> board.getNumberOfFreeCells() <= board.getSize() * board.getSize() / 2);
+        return engine;
+    }
+}
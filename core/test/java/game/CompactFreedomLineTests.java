@@ -0,0 +1,90 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.CompactFreedomLine;
+import it.units.sdm.project.game.FreedomLine;
+import it.units.sdm.project.game.FreedomLine.Direction;
+import it.units.sdm.project.game.FreedomLineScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static board.providers.BoardProviders.parseBoardFromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactFreedomLineTests {
+
+    @ParameterizedTest
+    @EnumSource(Direction.class)
+    void testPackAndUnpack(Direction direction) {
+        CompactFreedomLine line = new CompactFreedomLine(Position.fromCoordinates(3, 22), direction, 4, Color.BLACK);
+        CompactFreedomLine unpackedLine = CompactFreedomLine.unpack(line.getPackedLine());
+        assertEquals(line, unpackedLine);
+        assertEquals(Position.fromCoordinates(3, 22), unpackedLine.first());
+        assertEquals(direction, unpackedLine.getDirection());
+        assertEquals(4, unpackedLine.size());
+        assertEquals(Color.BLACK, unpackedLine.getColor());
+    }
+
+    @Test
+    void testGetCellPositions() {
+        CompactFreedomLine line = new CompactFreedomLine(Position.fromCoordinates(0, 3), Direction.DIAGONAL_LEFT, 4, Color.WHITE);
+        Set<Position> expectedPositions = Set.of(
+                Position.fromCoordinates(0, 3),
+                Position.fromCoordinates(1, 2),
+                Position.fromCoordinates(2, 1),
+                Position.fromCoordinates(3, 0));
+        assertEquals(expectedPositions, line.getCellPositions());
+        assertEquals(Position.fromCoordinates(0, 3), line.first());
+        assertEquals(Position.fromCoordinates(3, 0), line.last());
+    }
+
+    @Test
+    void testPackValidityChecks() {
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(26, 0, Direction.HORIZONTAL, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(0, -1, Direction.HORIZONTAL, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(0, 0, Direction.HORIZONTAL, 0, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(0, 0, Direction.HORIZONTAL, 4, Color.BLUE));
+    }
+
+    @Test
+    void testPackEndValidityChecks() {
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(0, 23, Direction.HORIZONTAL, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(23, 0, Direction.VERTICAL, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(0, 2, Direction.DIAGONAL_LEFT, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(23, 3, Direction.DIAGONAL_LEFT, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(0, 23, Direction.DIAGONAL_RIGHT, 4, Color.WHITE));
+        assertThrows(IllegalArgumentException.class, () -> CompactFreedomLine.pack(23, 0, Direction.DIAGONAL_RIGHT, 4, Color.WHITE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Direction.class)
+    void testLinesEndingOnTheBoardEdgeArePacked(Direction direction) {
+        int column = direction == Direction.DIAGONAL_LEFT ? 25 : 0;
+        CompactFreedomLine line = CompactFreedomLine.unpack(CompactFreedomLine.pack(0, column, direction, 26, Color.WHITE));
+        assertEquals(26, line.getCellPositions().size());
+        assertEquals(26, line.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("game.providers.FreedomPointsCounterProviders#printedBoardsProvider")
+    void testScannedLinesMatchFreedomLines(String printedBoard, int boardSize, int blackScore, int whiteScore) {
+        Board<Piece> board = parseBoardFromString(printedBoard, boardSize);
+        List<CompactFreedomLine> lines = new FreedomLineScanner(board).getLines();
+        assertEquals(blackScore, lines.stream().filter(line -> line.getColor() == Color.BLACK).count());
+        assertEquals(whiteScore, lines.stream().filter(line -> line.getColor() == Color.WHITE).count());
+        for (CompactFreedomLine line : lines) {
+            FreedomLine freedomLine = new FreedomLine(board, line.getCellPositions());
+            assertEquals(line.getColor(), freedomLine.getColor());
+            assertEquals(line.getCellPositions(), freedomLine.getCellPositions());
+        }
+    }
+
+}
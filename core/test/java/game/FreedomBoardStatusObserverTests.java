@@ -1,10 +1,17 @@
 package game;
 
 import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.MapBoard;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
 import it.units.sdm.project.game.FreedomBoardStatusObserver;
+import it.units.sdm.project.game.FreedomScore;
 import it.units.sdm.project.game.Move;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -27,6 +34,32 @@ class FreedomBoardStatusObserverTests {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("game.providers.FreedomPointsCounterProviders#printedBoardsProvider")
+    void testGetCurrentScore(String printedBoard, int boardSize, int blackScore, int whiteScore) {
+        FreedomBoardStatusObserver freedomBoardStatusObserver = new FreedomBoardStatusObserver(parseBoardFromString(printedBoard, boardSize));
+        assertEquals(blackScore, freedomBoardStatusObserver.getCurrentScore().getBlackScore());
+        assertEquals(whiteScore, freedomBoardStatusObserver.getCurrentScore().getWhiteScore());
+    }
+
+    @Test
+    void testGetCurrentScoreIsCachedUntilTheBoardChanges() {
+        Board<Piece> board = new MapBoard<>(4);
+        FreedomBoardStatusObserver freedomBoardStatusObserver = new FreedomBoardStatusObserver(board);
+        FreedomScore emptyBoardScore = freedomBoardStatusObserver.getCurrentScore();
+        assertSame(emptyBoardScore, freedomBoardStatusObserver.getCurrentScore());
+        for (int column = 0; column < 4; column++) {
+            board.putPiece(new Stone(Color.WHITE), Position.fromCoordinates(0, column));
+        }
+        FreedomScore currentScore = freedomBoardStatusObserver.getCurrentScore();
+        assertEquals(new FreedomScore(1, 0), currentScore);
+        assertSame(currentScore, freedomBoardStatusObserver.getCurrentScore());
+        assertEquals(Color.WHITE, freedomBoardStatusObserver.getCurrentWinner());
+        board.clearBoard();
+        assertEquals(new FreedomScore(0, 0), freedomBoardStatusObserver.getCurrentScore());
+        assertNull(freedomBoardStatusObserver.getCurrentWinner());
+    }
+
     @ParameterizedTest
     @MethodSource("game.providers.FreedomBoardStatusObserverProvider#provide4x4BoardWithLastMovedPlayedAndExpectedGameStatus")
     void testGetCurrentGameStatus(@NotNull String printedBoard, @Nullable Move lastMove, @NotNull FreedomBoardStatusObserver.GameStatus expectedGameStatus) {
@@ -0,0 +1,196 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static utility.FreedomRandomMovesUtils.playRandomMove;
+
+class FreedomEngineTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+    private final FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(4), whitePlayer, blackPlayer, Stone::new);
+
+    @BeforeEach
+    void resetEngine() {
+        engine.reset();
+    }
+
+    @Test
+    void testFirstMoveCanBePlayedAnywhere() {
+        assertEquals(FREEDOM, engine.getGameStatus());
+        assertEquals(whitePlayer, engine.getNextPlayer());
+        assertEquals(16, engine.getLegalPositions().size());
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        assertEquals(new Move(whitePlayer, Position.fromCoordinates(0, 0)), engine.getLastMove());
+        assertEquals(Color.WHITE, engine.getBoard().getPiece(Position.fromCoordinates(0, 0)).getPieceColor());
+        assertEquals(blackPlayer, engine.getNextPlayer());
+    }
+
+    @Test
+    void testMustPlayNextToTheLastMoveWhenThereAreFreeAdjacentCells() {
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        assertEquals(NO_FREEDOM, engine.getGameStatus());
+        Set<Position> expectedLegalPositions = Set.of(
+                Position.fromCoordinates(0, 1),
+                Position.fromCoordinates(1, 0),
+                Position.fromCoordinates(1, 1));
+        assertEquals(expectedLegalPositions, engine.getLegalPositions());
+        assertFalse(engine.isPositionLegal(Position.fromCoordinates(3, 3)));
+        assertThrows(InvalidPositionException.class, () -> engine.nextMove(Position.fromCoordinates(3, 3)));
+        assertEquals(1, engine.getNumberOfMoves());
+    }
+
+    @Test
+    void testOccupiedAndOutOfBoardPositionsAreNotLegal() {
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        assertFalse(engine.isPositionLegal(Position.fromCoordinates(0, 0)));
+        assertFalse(engine.isPositionLegal(Position.fromCoordinates(0, 4)));
+        assertThrows(InvalidPositionException.class, () -> engine.nextMove(Position.fromCoordinates(0, 0)));
+    }
+
+    @Test
+    void testLastMoveCanBePassed() {
+        assertThrows(IllegalStateException.class, engine::passLastMove);
+        playUntilLastMove();
+        assertEquals(LAST_MOVE, engine.getGameStatus());
+        assertEquals(1, engine.getLegalPositions().size());
+        engine.passLastMove();
+        assertEquals(GAME_OVER, engine.getGameStatus());
+        assertTrue(engine.getLegalPositions().isEmpty());
+        assertNull(engine.undo());
+        assertEquals(LAST_MOVE, engine.getGameStatus());
+        engine.nextMove(engine.getLegalPositions().first());
+        assertEquals(GAME_OVER, engine.getGameStatus());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void testUndoRestoresThePreviousStates(long seed) {
+        Random random = new Random(seed);
+        List<Set<Position>> legalPositionsHistory = new ArrayList<>();
+        while (engine.getGameStatus() != GAME_OVER) {
+            legalPositionsHistory.add(engine.getLegalPositions());
+            playRandomMove(engine, random);
+        }
+        assertEquals(16, engine.getNumberOfMoves());
+        assertEquals(0, engine.getBoard().getNumberOfFreeCells());
+        for (int i = legalPositionsHistory.size() - 1; i >= 0; i--) {
+            Move undoneMove = engine.undo();
+            assertNotNull(undoneMove);
+            assertNull(engine.getBoard().getPiece(undoneMove.getPosition()));
+            assertEquals(legalPositionsHistory.get(i), engine.getLegalPositions());
+        }
+        assertNull(engine.undo());
+        assertEquals(FREEDOM, engine.getGameStatus());
+    }
+
+    @Test
+    void testReset() {
+        playUntilLastMove();
+        engine.reset();
+        assertEquals(FREEDOM, engine.getGameStatus());
+        assertNull(engine.getLastMove());
+        assertEquals(16, engine.getBoard().getNumberOfFreeCells());
+    }
+
+    private void playUntilLastMove() {
+        while (engine.getGameStatus() != LAST_MOVE) {
+            engine.nextMove(engine.getLegalPositions().first());
+        }
+    }
+
+    @Test
+    void testPositionHashDependsOnStonesAndLastMoveButNotOnMoveOrder() {
+        FreedomEngine<Stone> otherEngine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        assertEquals(engine.getPositionHash(), otherEngine.getPositionHash());
+        playMoves(engine, new int[][]{{0, 0}, {1, 1}, {1, 0}, {0, 1}});
+        playMoves(otherEngine, new int[][]{{1, 0}, {1, 1}, {0, 0}, {0, 1}});
+        assertEquals(engine.getPositionHash(), otherEngine.getPositionHash());
+        otherEngine.reset();
+        playMoves(otherEngine, new int[][]{{1, 0}, {0, 1}, {0, 0}, {1, 1}});
+        assertEquals(engine.getBoard().getZobristHash(), otherEngine.getBoard().getZobristHash());
+        assertNotEquals(engine.getPositionHash(), otherEngine.getPositionHash());
+    }
+
+    @Test
+    void testPositionHashIsRestoredByUndo() {
+        long initialHash = engine.getPositionHash();
+        engine.nextMove(Position.fromCoordinates(2, 2));
+        long hashAfterFirstMove = engine.getPositionHash();
+        assertNotEquals(initialHash, hashAfterFirstMove);
+        engine.nextMove(Position.fromCoordinates(1, 1));
+        engine.undo();
+        assertEquals(hashAfterFirstMove, engine.getPositionHash());
+        engine.undo();
+        assertEquals(initialHash, engine.getPositionHash());
+    }
+
+    @Test
+    void testPositionHashChangesWhenTheLastMoveIsPassed() {
+        playUntilLastMove();
+        long lastMoveHash = engine.getPositionHash();
+        engine.passLastMove();
+        assertNotEquals(lastMoveHash, engine.getPositionHash());
+        engine.undo();
+        assertEquals(lastMoveHash, engine.getPositionHash());
+    }
+
+    @Test
+    void testACopyHasTheSameGameAndIsIndependent() {
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        engine.nextMove(Position.fromCoordinates(1, 1));
+        FreedomEngine<Stone> copy = engine.copy(new BitBoard(4), Stone::new);
+        assertEquals(engine.getMoves(), copy.getMoves());
+        assertEquals(engine.getGameStatus(), copy.getGameStatus());
+        assertEquals(engine.getLegalPositions(), copy.getLegalPositions());
+        assertEquals(engine.getPositionHash(), copy.getPositionHash());
+        copy.nextMove(copy.getLegalPositions().first());
+        assertEquals(2, engine.getNumberOfMoves());
+        assertNull(engine.getBoard().getPiece(copy.getLastMove().getPosition()));
+    }
+
+    @Test
+    void testACopyKeepsThePiecesTheGameStartedFrom() {
+        Board<Stone> board = new ArrayBoard<>(4);
+        board.putPiece(new Stone(Color.BLACK), Position.fromCoordinates(2, 2));
+        FreedomEngine<Stone> startedEngine = new FreedomEngine<>(board, whitePlayer, blackPlayer, Stone::new);
+        startedEngine.nextMove(Position.fromCoordinates(0, 0));
+        FreedomEngine<Stone> copy = startedEngine.copy(new BitBoard(4), Stone::new);
+        assertEquals(Color.BLACK, copy.getBoard().getPiece(Position.fromCoordinates(2, 2)).getPieceColor());
+        assertEquals(Color.WHITE, copy.getBoard().getPiece(Position.fromCoordinates(0, 0)).getPieceColor());
+        assertEquals(board.getNumberOfFreeCells(), copy.getBoard().getNumberOfFreeCells());
+        assertEquals(startedEngine.getLegalPositions(), copy.getLegalPositions());
+        assertEquals(startedEngine.getPositionHash(), copy.getPositionHash());
+    }
+
+    @Test
+    void testACopyNeedsABoardOfTheSameSize() {
+        assertThrows(IllegalArgumentException.class, () -> engine.copy(new BitBoard(5), Stone::new));
+    }
+
+    private static void playMoves(FreedomEngine<Stone> engine, int[][] coordinates) {
+        for (int[] rowAndColumn : coordinates) {
+            engine.nextMove(Position.fromCoordinates(rowAndColumn[0], rowAndColumn[1]));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.MapBoard;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.game.FreedomLineScanner;
+import it.units.sdm.project.game.FreedomScore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static board.providers.BoardProviders.parseBoardFromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreedomLineScannerTests {
+
+    @ParameterizedTest
+    @MethodSource("game.providers.FreedomPointsCounterProviders#printedBoardsProvider")
+    void testCountLines(String printedBoard, int boardSize, int blackScore, int whiteScore) {
+        Board<Piece> board = parseBoardFromString(printedBoard, boardSize);
+        FreedomLineScanner lineScanner = new FreedomLineScanner(board);
+        assertEquals(blackScore, lineScanner.countLines(Color.BLACK));
+        assertEquals(whiteScore, lineScanner.countLines(Color.WHITE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("game.providers.FreedomPointsCounterProviders#printedBoardsProvider")
+    void testGetScore(String printedBoard, int boardSize, int blackScore, int whiteScore) {
+        Board<Piece> board = parseBoardFromString(printedBoard, boardSize);
+        FreedomLineScanner lineScanner = new FreedomLineScanner(board);
+        assertEquals(new FreedomScore(whiteScore, blackScore), lineScanner.getScore());
+    }
+
+    @ParameterizedTest
+    @MethodSource("game.providers.FreedomPointsCounterProviders#printedBoardsProvider")
+    void testCountLinesIsRepeatable(String printedBoard, int boardSize, int blackScore, int whiteScore) {
+        Board<Piece> board = parseBoardFromString(printedBoard, boardSize);
+        FreedomLineScanner lineScanner = new FreedomLineScanner(board);
+        lineScanner.countLines(Color.BLACK);
+        lineScanner.countLines(Color.WHITE);
+        assertEquals(blackScore, lineScanner.countLines(Color.BLACK));
+        assertEquals(whiteScore, lineScanner.countLines(Color.WHITE));
+    }
+
+    @Test
+    void testCountLinesColorValidityCheck() {
+        Board<Piece> board = new MapBoard<>(8);
+        FreedomLineScanner lineScanner = new FreedomLineScanner(board);
+        assertThrows(IllegalArgumentException.class, () -> lineScanner.countLines(Color.BLUE));
+    }
+
+}
@@ -50,6 +50,15 @@ class FreedomLineTests {
         assertEquals(shouldBeEqual, freedomLine.equals(object));
     }
 
+    @Test
+    void testEqualFreedomLinesHaveEqualHashCodes() {
+        FreedomLine freedomLine = new FreedomLine(board, Set.of(Position.fromCoordinates(0, 1), Position.fromCoordinates(0, 2)));
+        FreedomLine sameFreedomLine = new FreedomLine(board, Position.fromCoordinates(0, 2));
+        sameFreedomLine.addPosition(Position.fromCoordinates(0, 1));
+        assertEquals(freedomLine, sameFreedomLine);
+        assertEquals(freedomLine.hashCode(), sameFreedomLine.hashCode());
+    }
+
     @ParameterizedTest
     @MethodSource("game.providers.FreedomLineProviders#provideInitialLinePositionFor8x8BoardWithExceptionsForInvalidPosition")
     void testFreedomLineCustomConstructor(int row, int column, Class<Exception> expectedException) {
@@ -0,0 +1,89 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.*;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreedomMoveGeneratorTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    static Stream<Arguments> provideEmptyBoards() {
+        return Stream.of(
+                Arguments.of(new MapBoard<Stone>(5)),
+                Arguments.of(new ArrayBoard<Stone>(8)),
+                Arguments.of(new BitBoard(4)),
+                Arguments.of(new BitBoard(9))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideEmptyBoards")
+    void testGeneratedMovesMatchTheLegalPositions(Board<Stone> board) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(board, whitePlayer, blackPlayer, Stone::new);
+        FreedomMoveGenerator moveGenerator = new FreedomMoveGenerator(board);
+        int[] moves = new int[moveGenerator.getMaxNumberOfMoves()];
+        long[] legalCells = new long[moveGenerator.getNumberOfWords()];
+        Random random = new Random(board.getSize());
+        while (engine.getGameStatus() != GAME_OVER) {
+            int numberOfMoves = moveGenerator.generateMoves(engine.getLastMove(), moves);
+            int numberOfLegalCells = moveGenerator.generateMoves(engine.getLastMove(), legalCells);
+            List<Position> legalPositions = new ArrayList<>();
+            for (Position position : board.getPositions()) {
+                if (engine.isPositionLegal(position)) legalPositions.add(position);
+            }
+            boolean isLastMove = engine.getGameStatus() == LAST_MOVE;
+            assertEquals(isLastMove, moveGenerator.isPassLegal());
+            assertEquals(legalPositions.size() + (isLastMove ? 1 : 0), numberOfMoves);
+            assertEquals(legalPositions.size(), numberOfLegalCells);
+            for (int i = 0; i < legalPositions.size(); i++) {
+                Position generatedPosition = moveGenerator.toPosition(moves[i]);
+                assertEquals(legalPositions.get(i), generatedPosition);
+                int cellIndex = generatedPosition.getRow() * board.getSize() + generatedPosition.getColumn();
+                assertEquals(cellIndex, moves[i]);
+                assertNotEquals(0, legalCells[cellIndex / 64] & (1L << (cellIndex % 64)));
+            }
+            if (isLastMove) assertEquals(FreedomMoveGenerator.PASS, moves[numberOfMoves - 1]);
+            assertEquals(legalPositions.size(), bitCount(legalCells));
+            engine.nextMove(legalPositions.get(random.nextInt(legalPositions.size())));
+        }
+        assertEquals(0, moveGenerator.generateMoves(engine.getLastMove(), moves));
+        assertEquals(0, engine.generateLegalMoves(moves));
+    }
+
+    @Test
+    void testNoMovesAfterPassingTheLastMove() {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        while (engine.getGameStatus() != LAST_MOVE) {
+            engine.nextMove(engine.getLegalPositions().first());
+        }
+        int[] moves = new int[engine.getMoveGenerator().getMaxNumberOfMoves()];
+        assertEquals(2, engine.generateLegalMoves(moves));
+        engine.passLastMove();
+        assertEquals(0, engine.generateLegalMoves(moves));
+        assertEquals(0, engine.generateLegalMoves(new long[engine.getMoveGenerator().getNumberOfWords()]));
+    }
+
+    private static int bitCount(long[] bitmask) {
+        int bits = 0;
+        for (long word : bitmask) {
+            bits += Long.bitCount(word);
+        }
+        return bits;
+    }
+}
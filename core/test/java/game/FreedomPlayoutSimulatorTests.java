@@ -0,0 +1,110 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.MapBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.exceptions.InvalidBoardSizeException;
+import it.units.sdm.project.game.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static utility.FreedomRandomMovesUtils.playRandomMoves;
+
+class FreedomPlayoutSimulatorTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    @Test
+    void testPlayoutsAreReproducibleWithTheSameSeed() {
+        FreedomPlayoutSimulator simulator = new FreedomPlayoutSimulator(6, 42);
+        FreedomPlayoutStatistics statistics = simulator.simulate(500);
+        simulator.setSeed(42);
+        FreedomPlayoutStatistics sameStatistics = simulator.simulate(500);
+        assertEquals(500, statistics.getNumberOfPlayouts());
+        assertEquals(statistics.getWhiteWins(), sameStatistics.getWhiteWins());
+        assertEquals(statistics.getBlackWins(), sameStatistics.getBlackWins());
+        assertEquals(statistics.getTies(), sameStatistics.getTies());
+        assertTrue(statistics.getPlayoutsPerSecond() > 0);
+    }
+
+    @Test
+    void testStartingPositionIsRestoredAfterEachPlayout() {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(5), whitePlayer, blackPlayer, Stone::new);
+        for (int i = 0; i < 5; i++) {
+            engine.nextMove(engine.getLegalPositions().first());
+        }
+        FreedomPlayoutSimulator simulator = new FreedomPlayoutSimulator(5, 7);
+        simulator.setPosition(engine);
+        String startingPosition = simulator.getBoard().toString();
+        simulator.simulate(100);
+        assertEquals(engine.getBoard().toString(), startingPosition);
+        assertEquals(startingPosition, simulator.getBoard().toString());
+        assertEquals(20, simulator.getBoard().getNumberOfFreeCells());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void testPlayoutOfAFinishedGameReturnsTheCurrentWinner(long seed) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(6), whitePlayer, blackPlayer, Stone::new);
+        FreedomPlayoutSimulator simulator = new FreedomPlayoutSimulator(6, seed);
+        Random random = new Random(seed);
+        playRandomMoves(engine, random, playedEngine -> playedEngine.getGameStatus() == FreedomBoardStatusObserver.GameStatus.LAST_MOVE);
+        engine.passLastMove();
+        simulator.setPosition(engine);
+        Color winner = engine.getStatusObserver().getCurrentWinner();
+        FreedomPlayoutStatistics statistics = simulator.simulate(10);
+        assertEquals(winner == Color.WHITE ? 10 : 0, statistics.getWhiteWins());
+        assertEquals(winner == Color.BLACK ? 10 : 0, statistics.getBlackWins());
+        assertEquals(winner == null ? 10 : 0, statistics.getTies());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {4, 5, 6})
+    void testPushedMovesFollowTheEngine(long seed) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(5), whitePlayer, blackPlayer, Stone::new);
+        FreedomPlayoutSimulator simulator = new FreedomPlayoutSimulator(5, seed);
+        simulator.setPosition(engine);
+        String startingPosition = simulator.getBoard().toString();
+        int[] engineMoves = new int[simulator.getMaxNumberOfMoves()];
+        int[] simulatorMoves = new int[simulator.getMaxNumberOfMoves()];
+        Random random = new Random(seed);
+        int numberOfPushedMoves = 0;
+        while (engine.getGameStatus() != FreedomBoardStatusObserver.GameStatus.GAME_OVER) {
+            int numberOfMoves = engine.generateLegalMoves(engineMoves);
+            assertEquals(numberOfMoves, simulator.generateMoves(simulatorMoves));
+            assertArrayEquals(Arrays.copyOf(engineMoves, numberOfMoves), Arrays.copyOf(simulatorMoves, numberOfMoves));
+            assertEquals(engine.getNextPlayer().getColor(), simulator.getNextColor());
+            int cellIndex = engineMoves[random.nextInt(numberOfMoves)];
+            if (cellIndex == FreedomMoveGenerator.PASS) {
+                engine.passLastMove();
+            } else {
+                engine.nextMove(engine.getMoveGenerator().toPosition(cellIndex));
+            }
+            simulator.pushMove(cellIndex);
+            numberOfPushedMoves++;
+            assertEquals(engine.getBoard().toString(), simulator.getBoard().toString());
+        }
+        assertEquals(0, simulator.generateMoves(simulatorMoves));
+        assertEquals(engine.getStatusObserver().getCurrentWinner(), simulator.playout());
+        while (numberOfPushedMoves-- > 0) {
+            simulator.popMove();
+        }
+        assertEquals(startingPosition, simulator.getBoard().toString());
+        assertEquals(Color.WHITE, simulator.getNextColor());
+        assertThrows(IllegalStateException.class, simulator::popMove);
+    }
+
+    @Test
+    void testSetPositionBoardSizeCheck() {
+        FreedomPlayoutSimulator simulator = new FreedomPlayoutSimulator(8, 0);
+        assertThrows(InvalidBoardSizeException.class, () -> simulator.setPosition(new MapBoard<Stone>(6), null));
+    }
+}
@@ -0,0 +1,151 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.GameProbe;
+import it.units.sdm.project.game.GameProbes;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.ai.AlphaBetaComputerPlayer;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.LAST_MOVE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameProbeTests {
+
+    private static final long START_TIME = 42;
+    private final RecordingProbe probe = new RecordingProbe();
+    private final FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(4),
+            new Player(Color.WHITE, "white"), new Player(Color.BLACK, "black"), Stone::new);
+
+    @BeforeEach
+    void installProbe() {
+        GameProbes.install(probe);
+    }
+
+    @AfterEach
+    void uninstallProbe() {
+        GameProbes.install(GameProbe.DISABLED);
+    }
+
+    @Test
+    void testTheDisabledProbeIsInstalledByDefault() {
+        GameProbes.install(GameProbe.DISABLED);
+        assertSame(GameProbe.DISABLED, GameProbes.get());
+    }
+
+    @Test
+    void testAMoveReportsTheStatusAndTheMove() {
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        assertEquals(List.of("status 4 15 42", "move 4 15 42"), probe.events);
+    }
+
+    @Test
+    void testAnIllegalMoveIsReportedAsRejected() {
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        probe.events.clear();
+        assertThrows(InvalidPositionException.class, () -> engine.nextMove(Position.fromCoordinates(3, 3)));
+        assertEquals(List.of("rejected 4"), probe.events);
+    }
+
+    @Test
+    void testTheEndOfTheGameIsReported() {
+        while (engine.getGameStatus() != LAST_MOVE) {
+            engine.nextMove(engine.getLegalPositions().first());
+        }
+        probe.events.clear();
+        engine.passLastMove();
+        assertEquals(List.of("finished 4"), probe.events);
+    }
+
+    @Test
+    void testCombinedProbesAreBothReported() {
+        RecordingProbe secondProbe = new RecordingProbe();
+        GameProbes.install(GameProbes.combine(probe, secondProbe));
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        assertEquals(List.of("status 4 15 42", "move 4 15 42"), probe.events);
+        assertEquals(probe.events, secondProbe.events);
+    }
+
+    @Test
+    void testScoringIsReported() {
+        FreedomPointsCounter pointsCounter = new FreedomPointsCounter(engine.getBoard());
+        pointsCounter.getPlayerScore(Color.WHITE);
+        pointsCounter.getScore();
+        assertEquals(List.of("score 4 16 42", "score 4 16 42"), probe.events);
+    }
+
+    @Test
+    void testTheWinnerEvaluationIsReportedOnlyWhenTheBoardChanges() {
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        probe.events.clear();
+        engine.getStatusObserver().getCurrentWinner();
+        engine.getStatusObserver().getCurrentScore();
+        assertEquals(List.of("score 4 15 42"), probe.events);
+        engine.nextMove(Position.fromCoordinates(1, 1));
+        probe.events.clear();
+        engine.getStatusObserver().getCurrentScore();
+        assertEquals(List.of("score 4 14 42"), probe.events);
+    }
+
+    @Test
+    void testSearchesAreReported() {
+        new AlphaBetaComputerPlayer(10, 64, 16).chooseMove(engine);
+        String lastEvent = probe.events.get(probe.events.size() - 1);
+        assertTrue(lastEvent.startsWith("search " + ComputerPlayerFactory.ALPHA_BETA + " 4 16 "));
+        assertTrue(lastEvent.endsWith(" 42"));
+    }
+
+    private static final class RecordingProbe implements GameProbe {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public long startTimer() {
+            return START_TIME;
+        }
+
+        @Override
+        public void onMoveApplied(int boardSize, long numberOfFreeCells, long startTime) {
+            events.add("move " + boardSize + " " + numberOfFreeCells + " " + startTime);
+        }
+
+        @Override
+        public void onMoveRejected(int boardSize) {
+            events.add("rejected " + boardSize);
+        }
+
+        @Override
+        public void onGameFinished(int boardSize) {
+            events.add("finished " + boardSize);
+        }
+
+        @Override
+        public void onStatusComputed(int boardSize, long numberOfFreeCells, long startTime) {
+            events.add("status " + boardSize + " " + numberOfFreeCells + " " + startTime);
+        }
+
+        @Override
+        public void onScoreComputed(int boardSize, long numberOfFreeCells, long startTime) {
+            events.add("score " + boardSize + " " + numberOfFreeCells + " " + startTime);
+        }
+
+        @Override
+        public void onSearchFinished(@NotNull String algorithm, int boardSize, long numberOfFreeCells,
+                                     long numberOfNodes, long startTime) {
+            events.add("search " + algorithm + " " + boardSize + " " + numberOfFreeCells + " " + numberOfNodes + " "
+                    + startTime);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.Board;
+import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.IncrementalFreedomPointsCounter;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static board.providers.BoardProviders.parseBoardFromString;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalFreedomPointsCounterTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    @ParameterizedTest
+    @MethodSource("game.providers.FreedomPointsCounterProviders#printedBoardsProvider")
+    void testInitialScoresMatchTheFullBoardScan(String printedBoard, int boardSize, int blackScore, int whiteScore) {
+        IncrementalFreedomPointsCounter pointsCounter = new IncrementalFreedomPointsCounter(parseBoardFromString(printedBoard, boardSize));
+        assertEquals(blackScore, pointsCounter.getPlayerScore(blackPlayer));
+        assertEquals(whiteScore, pointsCounter.getPlayerScore(whitePlayer));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5, 8, 10})
+    void testScoresAfterEveryMoveAndUndoMatchTheFullBoardScan(int boardSize) {
+        Board<Piece> board = new ArrayBoard<>(boardSize);
+        IncrementalFreedomPointsCounter incrementalCounter = new IncrementalFreedomPointsCounter(board);
+        FreedomPointsCounter fullScanCounter = new FreedomPointsCounter(board);
+        List<Position> positions = new ArrayList<>(board.getPositions());
+        Collections.shuffle(positions, new Random(boardSize));
+        List<Move> playedMoves = new ArrayList<>();
+        for (Position position : positions) {
+            Move move = new Move(playedMoves.size() % 2 == 0 ? whitePlayer : blackPlayer, position);
+            board.putPiece(new Stone(move.getPlayer().getColor()), position);
+            incrementalCounter.onMovePlayed(move);
+            playedMoves.add(move);
+            assertScoresAreEqual(fullScanCounter, incrementalCounter);
+        }
+        for (int i = playedMoves.size() - 1; i >= 0; i--) {
+            board.clearCell(playedMoves.get(i).getPosition());
+            incrementalCounter.onMoveUndone(playedMoves.get(i));
+            assertScoresAreEqual(fullScanCounter, incrementalCounter);
+        }
+    }
+
+    @Test
+    void testGetPlayerScoreColorValidityCheck() {
+        IncrementalFreedomPointsCounter pointsCounter = new IncrementalFreedomPointsCounter(new ArrayBoard<>(8));
+        assertThrows(IllegalArgumentException.class, () -> pointsCounter.getPlayerScore(Color.BLUE));
+    }
+
+    private static void assertScoresAreEqual(FreedomPointsCounter expected, IncrementalFreedomPointsCounter actual) {
+        assertEquals(expected.getPlayerScore(Color.WHITE), actual.getPlayerScore(Color.WHITE));
+        assertEquals(expected.getPlayerScore(Color.BLACK), actual.getPlayerScore(Color.BLACK));
+    }
+}
@@ -22,6 +22,12 @@ class PlayerTests {
         assertEquals(Color.BLACK, blackPlayer.getColor());
     }
 
+    @Test
+    void testOpponentColor() {
+        assertEquals(Color.BLACK, Player.getOpponentColor(whitePlayer.getColor()));
+        assertEquals(Color.WHITE, Player.getOpponentColor(blackPlayer.getColor()));
+    }
+
     @Test
     void testUsernameGetter() {
         assertEquals("white", whitePlayer.getUsername());
@@ -0,0 +1,148 @@
+package game;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.DihedralSymmetry;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.Move;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.PositionCanonicalizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static utility.FreedomRandomMovesUtils.playRandomMove;
+import static utility.FreedomRandomMovesUtils.playRandomMoves;
+
+class PositionCanonicalizerTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void testSymmetricGamesHaveTheSameCanonicalPosition(long seed) {
+        int boardSize = 9;
+        DihedralSymmetry dihedralSymmetry = DihedralSymmetry.forBoardSize(boardSize);
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(boardSize);
+        List<Position> positions = playRandomGame(new FreedomEngine<>(new BitBoard(boardSize), whitePlayer, blackPlayer, Stone::new), new Random(seed));
+        for (int numberOfMoves = 0; numberOfMoves <= positions.size(); numberOfMoves++) {
+            Set<Long> canonicalHashes = new HashSet<>();
+            Set<Integer> canonicalLastCells = new HashSet<>();
+            for (int symmetry = 0; symmetry < DihedralSymmetry.NUMBER_OF_SYMMETRIES; symmetry++) {
+                FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(boardSize), whitePlayer, blackPlayer, Stone::new);
+                for (Position position : positions.subList(0, numberOfMoves)) {
+                    engine.nextMove(dihedralSymmetry.transformPosition(symmetry, position));
+                }
+                canonicalizer.canonicalize(engine);
+                canonicalHashes.add(canonicalizer.getCanonicalHash());
+                canonicalLastCells.add(canonicalizer.getCanonicalLastCellIndex());
+            }
+            assertEquals(1, canonicalHashes.size());
+            assertEquals(1, canonicalLastCells.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void testTheSymmetryMapsThePositionToItsCanonicalRepresentative(long seed) {
+        int boardSize = 6;
+        DihedralSymmetry dihedralSymmetry = DihedralSymmetry.forBoardSize(boardSize);
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(boardSize);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(boardSize), whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(seed);
+        playRandomMoves(engine, random, playedEngine -> playedEngine.getNumberOfMoves() >= 10);
+        int symmetry = canonicalizer.canonicalize(engine);
+        long[] stones = new long[1];
+        long[] canonicalStones = new long[1];
+        for (Color color : new Color[]{Color.WHITE, Color.BLACK}) {
+            ((BitBoard) engine.getBoard()).copyStones(color, stones);
+            canonicalizer.copyCanonicalStones(color, canonicalStones);
+            assertEquals(dihedralSymmetry.transformCells(symmetry, stones[0]), canonicalStones[0]);
+        }
+        Move lastMove = engine.getLastMove();
+        assertNotNull(lastMove);
+        int lastCellIndex = engine.getBoard().getAdjacencyTable().toCellIndex(lastMove.getPosition());
+        if (canonicalizer.getCanonicalLastCellIndex() != PositionCanonicalizer.NO_LAST_CELL) {
+            assertEquals(dihedralSymmetry.transformCell(symmetry, lastCellIndex), canonicalizer.getCanonicalLastCellIndex());
+            assertEquals(lastCellIndex, dihedralSymmetry.transformCell(DihedralSymmetry.getInverse(symmetry), canonicalizer.getCanonicalLastCellIndex()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void testTheLastCellIsDroppedWhenItDoesntRestrictTheNextMove(long seed) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(4);
+        Random random = new Random(seed);
+        while (engine.getGameStatus() != GAME_OVER) {
+            canonicalizer.canonicalize(engine);
+            if (engine.getGameStatus() == NO_FREEDOM) {
+                assertNotEquals(PositionCanonicalizer.NO_LAST_CELL, canonicalizer.getCanonicalLastCellIndex());
+            } else {
+                assertEquals(PositionCanonicalizer.NO_LAST_CELL, canonicalizer.getCanonicalLastCellIndex());
+            }
+            playRandomMove(engine, random);
+        }
+    }
+
+    @Test
+    void testTheCanonicalHashMatchesTheEngineHashForCanonicalPositions() {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(5), whitePlayer, blackPlayer, Stone::new);
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(5);
+        assertEquals(DihedralSymmetry.IDENTITY, canonicalizer.canonicalize(engine));
+        assertEquals(engine.getPositionHash(), canonicalizer.getCanonicalHash());
+        engine.nextMove(Position.fromCoordinates(2, 2));
+        canonicalizer.canonicalize(engine);
+        assertEquals(engine.getPositionHash(), canonicalizer.getCanonicalHash());
+    }
+
+    @Test
+    void testThePlayerToMoveIsPartOfTheCanonicalHash() {
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(4);
+        long[] whiteStones = {1L};
+        long[] blackStones = {0L};
+        canonicalizer.canonicalize(whiteStones, blackStones, PositionCanonicalizer.NO_LAST_CELL);
+        long blackToMoveHash = canonicalizer.getCanonicalHash();
+        whiteStones[0] = 0L;
+        blackStones[0] = 1L;
+        canonicalizer.canonicalize(whiteStones, blackStones, PositionCanonicalizer.NO_LAST_CELL);
+        assertNotEquals(blackToMoveHash, canonicalizer.getCanonicalHash());
+    }
+
+    @Test
+    void testSymmetricMovesHaveTheSameCanonicalMove() {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        PositionCanonicalizer canonicalizer = new PositionCanonicalizer(4);
+        canonicalizer.canonicalize(engine);
+        Set<Integer> cornerMoves = new HashSet<>();
+        for (int cellIndex : new int[]{0, 3, 12, 15}) {
+            cornerMoves.add(canonicalizer.getCanonicalMove(cellIndex));
+        }
+        assertEquals(1, cornerMoves.size());
+        assertNotEquals(canonicalizer.getCanonicalMove(0), canonicalizer.getCanonicalMove(1));
+        engine.nextMove(Position.fromCoordinates(0, 0));
+        canonicalizer.canonicalize(engine);
+        assertEquals(canonicalizer.getCanonicalMove(1), canonicalizer.getCanonicalMove(4));
+        assertNotEquals(canonicalizer.getCanonicalMove(1), canonicalizer.getCanonicalMove(5));
+    }
+
+    private static List<Position> playRandomGame(FreedomEngine<Stone> engine, Random random) {
+        List<Position> positions = new ArrayList<>();
+        while (engine.getGameStatus() != GAME_OVER) {
+            positions.add(playRandomMove(engine, random));
+        }
+        return positions;
+    }
+}
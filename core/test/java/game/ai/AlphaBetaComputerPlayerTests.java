@@ -0,0 +1,111 @@
+package game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.ai.AlphaBetaComputerPlayer;
+import it.units.sdm.project.game.ai.AlphaBetaStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Objects;
+import java.util.Random;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static utility.FreedomRandomMovesUtils.playRandomMoves;
+
+class AlphaBetaComputerPlayerTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5, 7})
+    void testAWholeGameIsPlayedWithLegalMoves(int boardSize) {
+        AlphaBetaComputerPlayer computerPlayer = new AlphaBetaComputerPlayer(10, 64, 16);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(boardSize), whitePlayer, blackPlayer, Stone::new);
+        while (engine.getGameStatus() != GAME_OVER) {
+            Position chosenPosition = computerPlayer.chooseMove(engine);
+            if (chosenPosition == null) {
+                assertEquals(LAST_MOVE, engine.getGameStatus());
+                engine.passLastMove();
+            } else {
+                assertTrue(engine.isPositionLegal(chosenPosition));
+                engine.nextMove(chosenPosition);
+            }
+            AlphaBetaStatistics statistics = Objects.requireNonNull(computerPlayer.getLastStatistics());
+            assertTrue(statistics.getDepthReached() >= 1);
+            assertTrue(statistics.getNumberOfNodes() > 0);
+        }
+        assertThrows(IllegalStateException.class, () -> computerPlayer.chooseMove(engine));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 10})
+    void testTheSearchFindsTheGameTheoreticValue(long seed) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(5), whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(seed);
+        playRandomMoves(engine, random, playedEngine -> playedEngine.getNumberOfMoves() >= 13);
+        Color nextColor = engine.getNextPlayer().getColor();
+        int expectedOutcome = solve(engine) * (nextColor == Color.WHITE ? 1 : -1);
+        AlphaBetaComputerPlayer computerPlayer = new AlphaBetaComputerPlayer(60_000, 64, 16);
+        Position chosenPosition = computerPlayer.chooseMove(engine);
+        AlphaBetaStatistics statistics = Objects.requireNonNull(computerPlayer.getLastStatistics());
+        assertEquals(expectedOutcome, Integer.signum(statistics.getValue()));
+        if (chosenPosition == null) {
+            engine.passLastMove();
+        } else {
+            engine.nextMove(chosenPosition);
+        }
+        assertEquals(expectedOutcome, solve(engine) * (nextColor == Color.WHITE ? 1 : -1));
+    }
+
+    @Test
+    void testNodesPerSecondAreReported() {
+        AlphaBetaComputerPlayer computerPlayer = new AlphaBetaComputerPlayer(50);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(10), whitePlayer, blackPlayer, Stone::new);
+        assertNull(computerPlayer.getLastStatistics());
+        computerPlayer.chooseMove(engine);
+        AlphaBetaStatistics statistics = Objects.requireNonNull(computerPlayer.getLastStatistics());
+        assertTrue(statistics.getNodesPerSecond() > 0);
+        assertFalse(statistics.isOutcomeProven());
+        assertTrue(statistics.getElapsedNanoseconds() < 2_000_000_000L);
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new AlphaBetaComputerPlayer(-1));
+        assertThrows(IllegalArgumentException.class, () -> new AlphaBetaComputerPlayer(100, 0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new AlphaBetaComputerPlayer(100, 10, 29));
+    }
+
+    // Plain minimax on the engine: 1 if white wins with perfect play, -1 if black wins, 0 in case of a tie
+    private static int solve(FreedomEngine<Stone> engine) {
+        if (engine.getGameStatus() == GAME_OVER) {
+            Color winner = engine.getStatusObserver().getCurrentWinner();
+            if (winner == null) return 0;
+            return winner == Color.WHITE ? 1 : -1;
+        }
+        boolean isWhiteToMove = engine.getNextPlayer().getColor() == Color.WHITE;
+        int bestOutcome = isWhiteToMove ? -2 : 2;
+        int[] moves = new int[engine.getMoveGenerator().getMaxNumberOfMoves()];
+        int numberOfMoves = engine.generateLegalMoves(moves);
+        for (int i = 0; i < numberOfMoves; i++) {
+            if (moves[i] == FreedomMoveGenerator.PASS) {
+                engine.passLastMove();
+            } else {
+                engine.nextMove(engine.getMoveGenerator().toPosition(moves[i]));
+            }
+            int outcome = solve(engine);
+            engine.undo();
+            bestOutcome = isWhiteToMove ? Math.max(bestOutcome, outcome) : Math.min(bestOutcome, outcome);
+        }
+        return bestOutcome;
+    }
+}
@@ -0,0 +1,106 @@
+package game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
+import it.units.sdm.project.game.ai.MctsComputerPlayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsComputerPlayerTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+    private final MctsComputerPlayer computerPlayer = new MctsComputerPlayer(20, 2, 42);
+
+    @AfterEach
+    void disposeComputerPlayer() {
+        computerPlayer.dispose();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 5, 6})
+    void testAWholeGameIsPlayedWithLegalMoves(int boardSize) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(boardSize), whitePlayer, blackPlayer, Stone::new);
+        while (engine.getGameStatus() != GAME_OVER) {
+            Position chosenPosition = computerPlayer.chooseMove(engine);
+            if (chosenPosition == null) {
+                assertEquals(LAST_MOVE, engine.getGameStatus());
+                engine.passLastMove();
+            } else {
+                assertTrue(engine.isPositionLegal(chosenPosition));
+                engine.nextMove(chosenPosition);
+            }
+            assertTrue(computerPlayer.getLastNumberOfPlayouts() > 0);
+        }
+        assertThrows(IllegalStateException.class, () -> computerPlayer.chooseMove(engine));
+    }
+
+    @Test
+    void testTheThinkingTimeIsHonoured() {
+        MctsComputerPlayer slowComputerPlayer = new MctsComputerPlayer(200, 2, 7);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(8), whitePlayer, blackPlayer, Stone::new);
+        long startTime = System.nanoTime();
+        slowComputerPlayer.chooseMove(engine);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        slowComputerPlayer.dispose();
+        assertTrue(elapsedMillis >= 200);
+        assertTrue(elapsedMillis < 2000);
+    }
+
+    @Test
+    void testTheTreeIsReusedBetweenConsecutiveMoves() {
+        MctsComputerPlayer reusingComputerPlayer = new MctsComputerPlayer(100, 1, 3);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        Position chosenPosition = reusingComputerPlayer.chooseMove(engine);
+        assertEquals(0, reusingComputerPlayer.getLastNumberOfReusedPlayouts());
+        engine.nextMove(chosenPosition);
+        engine.nextMove(engine.getLegalPositions().first());
+        reusingComputerPlayer.chooseMove(engine);
+        assertTrue(reusingComputerPlayer.getLastNumberOfReusedPlayouts() > 0);
+        engine.reset();
+        reusingComputerPlayer.chooseMove(engine);
+        reusingComputerPlayer.dispose();
+        assertEquals(0, reusingComputerPlayer.getLastNumberOfReusedPlayouts());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsComputerPlayer(-1));
+        assertThrows(IllegalArgumentException.class, () -> new MctsComputerPlayer(100, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> ComputerPlayerFactory.create("unknown", 100));
+        assertThrows(IllegalArgumentException.class, () -> ComputerPlayerFactory.create(ComputerPlayerFactory.MCTS, 100, 0));
+    }
+
+    @Test
+    void testTheFactoryValidatesTheLaunchersOptions() {
+        for (String name : ComputerPlayerFactory.getNames()) {
+            assertDoesNotThrow(() -> ComputerPlayerFactory.validateName(name));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ComputerPlayerFactory.validateName("MCTS"));
+        assertEquals(1, ComputerPlayerFactory.parseThinkingTime("1"));
+        assertEquals(ComputerPlayerFactory.MAX_THINKING_TIME_MILLIS,
+                ComputerPlayerFactory.parseThinkingTime(String.valueOf(ComputerPlayerFactory.MAX_THINKING_TIME_MILLIS)));
+        for (String value : new String[]{"0", "-5", "60001", "1.5", "text", ""}) {
+            assertThrows(IllegalArgumentException.class, () -> ComputerPlayerFactory.parseThinkingTime(value));
+        }
+    }
+
+    @Test
+    void testTheFactoryLimitsTheSearchThreads() {
+        MctsComputerPlayer computerPlayer = (MctsComputerPlayer) ComputerPlayerFactory.create(ComputerPlayerFactory.MCTS, 10, 1);
+        computerPlayer.dispose();
+        assertEquals(1, computerPlayer.getNumberOfThreads());
+        assertEquals(3, ComputerPlayerFactory.getNumberOfThreads(ComputerPlayerFactory.MCTS, 3));
+        assertEquals(1, ComputerPlayerFactory.getNumberOfThreads(ComputerPlayerFactory.ALPHA_BETA, 3));
+    }
+}
@@ -0,0 +1,151 @@
+package game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.ai.OpeningBook;
+import it.units.sdm.project.game.ai.OpeningBookBuilder;
+import it.units.sdm.project.game.ai.OpeningBookComputerPlayer;
+import it.units.sdm.project.game.ai.OpeningBookMove;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTests {
+
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    @Test
+    void testTheBookIsWrittenAndMemoryMapped(@TempDir Path directory) throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(5, 4);
+        builder.addSelfPlayGames(new FirstLegalComputerPlayer(), 50, 2, 42);
+        assertEquals(50, builder.getNumberOfGames());
+        assertTrue(builder.getNumberOfEntries() > 1);
+        Path path = directory.resolve("freedom-5x5.book");
+        builder.write(path);
+        OpeningBook openingBook = OpeningBook.load(path);
+        assertEquals(5, openingBook.getBoardSize());
+        assertEquals(builder.getNumberOfEntries(), openingBook.getNumberOfEntries());
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(5), whitePlayer, blackPlayer, Stone::new);
+        List<OpeningBookMove> firstMoves = openingBook.getMoves(engine);
+        assertEquals(50, firstMoves.stream().mapToInt(OpeningBookMove::getNumberOfGames).sum());
+        for (OpeningBookMove move : firstMoves) {
+            assertNotNull(move.getPosition());
+            assertTrue(engine.isPositionLegal(move.getPosition()));
+            assertTrue(move.getScore() >= 0 && move.getScore() <= 1);
+        }
+    }
+
+    @Test
+    void testSymmetricPositionsShareTheirEntries(@TempDir Path directory) throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(4, 2);
+        builder.addGame(playGame(Position.fromCoordinates(0, 0), Position.fromCoordinates(1, 1)));
+        builder.addGame(playGame(Position.fromCoordinates(3, 3), Position.fromCoordinates(2, 2)));
+        assertEquals(2, builder.getNumberOfEntries());
+        Path path = directory.resolve("freedom-4x4.book");
+        builder.write(path);
+        OpeningBook openingBook = OpeningBook.load(path);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        List<OpeningBookMove> firstMoves = openingBook.getMoves(engine);
+        assertEquals(1, firstMoves.size());
+        assertEquals(2, firstMoves.get(0).getNumberOfGames());
+        engine.nextMove(Position.fromCoordinates(0, 3));
+        List<OpeningBookMove> secondMoves = openingBook.getMoves(engine);
+        assertEquals(1, secondMoves.size());
+        assertEquals(Position.fromCoordinates(1, 2), secondMoves.get(0).getPosition());
+    }
+
+    @Test
+    void testThePlayerFollowsTheBookAndThenSearches(@TempDir Path directory) throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(4, 2);
+        builder.addGame(playGame(Position.fromCoordinates(0, 0), Position.fromCoordinates(1, 1)));
+        Path path = directory.resolve("freedom-4x4.book");
+        builder.write(path);
+        Position searchedPosition = Position.fromCoordinates(2, 2);
+        OpeningBookComputerPlayer computerPlayer = new OpeningBookComputerPlayer(OpeningBook.load(path),
+                new FixedComputerPlayer(searchedPosition), 1);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        engine.nextMove(Position.fromCoordinates(3, 0));
+        assertEquals(Position.fromCoordinates(2, 1), computerPlayer.chooseMove(engine));
+        assertTrue(computerPlayer.isLastMoveFromBook());
+        engine.nextMove(Position.fromCoordinates(2, 1));
+        assertEquals(searchedPosition, computerPlayer.chooseMove(engine));
+        assertFalse(computerPlayer.isLastMoveFromBook());
+    }
+
+    @Test
+    void testRarelyPlayedMovesAreLeftToTheSearch(@TempDir Path directory) throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(4, 1);
+        builder.addGame(playGame(Position.fromCoordinates(0, 0), Position.fromCoordinates(1, 1)));
+        Path path = directory.resolve("freedom-4x4.book");
+        builder.write(path);
+        Position searchedPosition = Position.fromCoordinates(1, 2);
+        OpeningBookComputerPlayer computerPlayer = new OpeningBookComputerPlayer(OpeningBook.load(path),
+                new FixedComputerPlayer(searchedPosition));
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        assertEquals(searchedPosition, computerPlayer.chooseMove(engine));
+        assertFalse(computerPlayer.isLastMoveFromBook());
+    }
+
+    @Test
+    void testOnlyFinishedGamesCanBeAdded() {
+        OpeningBookBuilder builder = new OpeningBookBuilder(4, 2);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        assertThrows(IllegalArgumentException.class, () -> builder.addGame(engine));
+        assertThrows(IllegalArgumentException.class, () -> new OpeningBookBuilder(4, 0));
+    }
+
+    @Test
+    void testInvalidFilesAreRejected(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("invalid.book");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> OpeningBook.load(path));
+        assertThrows(IOException.class, () -> OpeningBook.load(directory.resolve("missing.book")));
+    }
+
+    // Plays the given moves and then the first legal positions, until the game is over
+    private FreedomEngine<Stone> playGame(Position... openingPositions) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        for (Position position : openingPositions) {
+            engine.nextMove(position);
+        }
+        while (engine.getGameStatus() != GAME_OVER) {
+            engine.nextMove(engine.getLegalPositions().first());
+        }
+        return engine;
+    }
+
+    private static class FirstLegalComputerPlayer implements ComputerPlayer {
+        @Override
+        public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) {
+            return engine.getLegalPositions().first();
+        }
+    }
+
+    private static class FixedComputerPlayer implements ComputerPlayer {
+        private final Position position;
+
+        private FixedComputerPlayer(Position position) {
+            this.position = position;
+        }
+
+        @Override
+        public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package game.ai;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.BitBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomMoveGenerator;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.ai.PerfectComputerPlayer;
+import it.units.sdm.project.game.ai.PerfectPlaySolver;
+import it.units.sdm.project.game.ai.SolutionTable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static utility.FreedomRandomMovesUtils.playRandomMove;
+import static utility.FreedomRandomMovesUtils.playRandomMoves;
+
+class PerfectComputerPlayerTests {
+
+    private static SolutionTable solutionTable;
+    private final Player whitePlayer = new Player(Color.WHITE, "white");
+    private final Player blackPlayer = new Player(Color.BLACK, "black");
+
+    @BeforeAll
+    static void solve4x4Board() {
+        solutionTable = new PerfectPlaySolver(4).solve();
+    }
+
+    @Test
+    void testThe4x4GameIsATie() {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        assertEquals(4, solutionTable.getBoardSize());
+        assertTrue(solutionTable.getNumberOfPositions() > 0);
+        assertEquals(0, solutionTable.getValue(engine));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5})
+    void testTheTableHoldsTheGameTheoreticValue(long seed) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(seed);
+        playRandomMoves(engine, random, playedEngine -> playedEngine.getNumberOfMoves() >= 5);
+        while (engine.getGameStatus() != GAME_OVER) {
+            assertEquals(solve(engine), solutionTable.getValue(engine));
+            playRandomMove(engine, random);
+        }
+        assertEquals(SolutionTable.UNKNOWN_VALUE, solutionTable.getValue(engine));
+    }
+
+    @Test
+    void testEveryPositionOfA3x3BoardIsSolved() {
+        SolutionTable smallSolutionTable = new PerfectPlaySolver(3).solve();
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(3), whitePlayer, blackPlayer, Stone::new);
+        for (long seed = 0; seed < 20; seed++) {
+            engine.reset();
+            Random random = new Random(seed);
+            while (engine.getGameStatus() != GAME_OVER) {
+                assertEquals(solve(engine), smallSolutionTable.getValue(engine));
+                playRandomMove(engine, random);
+            }
+        }
+    }
+
+    @Test
+    void testPerfectPlayersKeepTheValueOfTheGame() {
+        PerfectComputerPlayer computerPlayer = new PerfectComputerPlayer(solutionTable, new FailingComputerPlayer());
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        while (engine.getGameStatus() != GAME_OVER) {
+            Position chosenPosition = computerPlayer.chooseMove(engine);
+            assertEquals(0, computerPlayer.getLastValue());
+            if (chosenPosition == null) {
+                engine.passLastMove();
+            } else {
+                engine.nextMove(chosenPosition);
+            }
+        }
+        assertNull(engine.getStatusObserver().getCurrentWinner());
+        assertThrows(IllegalStateException.class, () -> computerPlayer.chooseMove(engine));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3})
+    void testThePerfectPlayerNeverLosesAgainstARandomPlayer(long seed) {
+        PerfectComputerPlayer computerPlayer = new PerfectComputerPlayer(solutionTable, new FailingComputerPlayer());
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(seed);
+        playRandomMove(engine, random);
+        while (engine.getGameStatus() != GAME_OVER) {
+            if (engine.getNextPlayer() == blackPlayer) {
+                Position chosenPosition = computerPlayer.chooseMove(engine);
+                assertTrue(computerPlayer.getLastValue() >= 0);
+                if (chosenPosition == null) {
+                    engine.passLastMove();
+                } else {
+                    engine.nextMove(chosenPosition);
+                }
+            } else {
+                playRandomMove(engine, random);
+            }
+        }
+        assertNotEquals(Color.WHITE, engine.getStatusObserver().getCurrentWinner());
+    }
+
+    @Test
+    void testTheFallbackPlayerChoosesOnOtherBoardSizes() {
+        ComputerPlayer fallbackPlayer = new FixedComputerPlayer(Position.fromCoordinates(2, 2));
+        PerfectComputerPlayer computerPlayer = new PerfectComputerPlayer(solutionTable, fallbackPlayer);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(5), whitePlayer, blackPlayer, Stone::new);
+        assertEquals(Position.fromCoordinates(2, 2), computerPlayer.chooseMove(engine));
+        assertEquals(SolutionTable.UNKNOWN_VALUE, computerPlayer.getLastValue());
+        assertEquals(SolutionTable.UNKNOWN_VALUE, solutionTable.getValue(engine));
+    }
+
+    @Test
+    void testTheTableIsWrittenAndMemoryMapped(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("freedom-4x4.solution");
+        solutionTable.write(path);
+        SolutionTable loadedSolutionTable = SolutionTable.load(path);
+        assertEquals(solutionTable.getBoardSize(), loadedSolutionTable.getBoardSize());
+        assertEquals(solutionTable.getNumberOfPositions(), loadedSolutionTable.getNumberOfPositions());
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            engine.reset();
+            int numberOfMoves = 1 + random.nextInt(14);
+            playRandomMoves(engine, random, playedEngine -> playedEngine.getNumberOfMoves() >= numberOfMoves);
+            assertEquals(solutionTable.getValue(engine), loadedSolutionTable.getValue(engine));
+        }
+    }
+
+    @Test
+    void testInvalidFilesAreRejected(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("invalid.solution");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> SolutionTable.load(path));
+        assertThrows(IOException.class, () -> SolutionTable.load(directory.resolve("missing.solution")));
+    }
+
+    @Test
+    void testTablesWithoutEmptySlotsAreRejected(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("full.solution");
+        solutionTable.write(path);
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int numberOfSlots = 1 << buffer.getInt(16);
+        Files.write(path, buffer.putLong(24, numberOfSlots).array());
+        assertThrows(IOException.class, () -> SolutionTable.load(path));
+    }
+
+    @Test
+    @Timeout(10)
+    void testLookupsOfACorruptedFullTableEnd(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("corrupted.solution");
+        solutionTable.write(path);
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        for (int offset = 32; offset < buffer.capacity(); offset += Long.BYTES) {
+            buffer.putLong(offset, -1L >>> 8);
+        }
+        Files.write(path, buffer.array());
+        SolutionTable corruptedSolutionTable = SolutionTable.load(path);
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new BitBoard(4), whitePlayer, blackPlayer, Stone::new);
+        engine.nextMove(Position.fromCoordinates(1, 1));
+        assertEquals(SolutionTable.UNKNOWN_VALUE, corruptedSolutionTable.getValue(engine));
+    }
+
+    @Test
+    void testLargeBoardsCantBeSolved() {
+        assertThrows(IllegalArgumentException.class, () -> new PerfectPlaySolver(PerfectPlaySolver.MAX_BOARD_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new PerfectPlaySolver(SolutionTable.MAX_BOARD_SIZE + 1));
+    }
+
+    // Plain minimax on the engine: the final points difference for the next player, with perfect play
+    private static int solve(FreedomEngine<Stone> engine) {
+        Color nextColor = engine.getNextPlayer().getColor();
+        if (engine.getGameStatus() == GAME_OVER) return getPointsDifference(engine, nextColor);
+        int bestValue = Integer.MIN_VALUE;
+        int[] moves = new int[engine.getMoveGenerator().getMaxNumberOfMoves()];
+        int numberOfMoves = engine.generateLegalMoves(moves);
+        for (int i = 0; i < numberOfMoves; i++) {
+            int value;
+            if (moves[i] == FreedomMoveGenerator.PASS) {
+                engine.passLastMove();
+                value = getPointsDifference(engine, nextColor);
+            } else {
+                engine.nextMove(engine.getMoveGenerator().toPosition(moves[i]));
+                value = -solve(engine);
+            }
+            engine.undo();
+            bestValue = Math.max(bestValue, value);
+        }
+        return bestValue;
+    }
+
+    private static int getPointsDifference(FreedomEngine<Stone> engine, Color color) {
+        FreedomPointsCounter pointsCounter = new FreedomPointsCounter(engine.getBoard());
+        Color opponentColor = color == Color.WHITE ? Color.BLACK : Color.WHITE;
+        return pointsCounter.getPlayerScore(color) - pointsCounter.getPlayerScore(opponentColor);
+    }
+
+    private static class FailingComputerPlayer implements ComputerPlayer {
+        @Override
+        public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) {
+            return fail("The fallback player should not be used");
+        }
+    }
+
+    private static class FixedComputerPlayer implements ComputerPlayer {
+        private final Position position;
+
+        private FixedComputerPlayer(Position position) {
+            this.position = position;
+        }
+
+        @Override
+        public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) {
+            return position;
+        }
+    }
+}
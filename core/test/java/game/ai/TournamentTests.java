@@ -0,0 +1,140 @@
+package game.ai;
+
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.ai.Tournament;
+import it.units.sdm.project.game.ai.TournamentGameResult;
+import it.units.sdm.project.game.ai.TournamentStandings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTests {
+
+    @Test
+    void testEveryGameIsPlayedAndReportedOnce() {
+        Tournament tournament = new Tournament(FirstLegalComputerPlayer::new, LastLegalComputerPlayer::new, new int[]{4, 5}, 2, 42);
+        List<TournamentGameResult> results = Collections.synchronizedList(new ArrayList<>());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        TournamentStandings standings = tournament.play(40, pool, results::add);
+        pool.shutdown();
+        assertEquals(40, results.size());
+        assertEquals(40, standings.getNumberOfGames());
+        Set<Integer> gameIndices = new HashSet<>();
+        int numberOfWins = 0;
+        for (TournamentGameResult result : results) {
+            gameIndices.add(result.getGameIndex());
+            assertEquals(result.getGameIndex() % 2 == 0, result.isFirstPlayerWhite());
+            assertEquals(result.getGameIndex() % 4 < 2 ? 4 : 5, result.getBoardSize());
+            if (result.getFirstPlayerHalfPoints() == 2) numberOfWins++;
+        }
+        assertEquals(40, gameIndices.size());
+        assertEquals(numberOfWins, standings.getNumberOfWins());
+    }
+
+    @Test
+    void testEqualPlayersGetTheSameResultsWithSwappedColours() {
+        Tournament tournament = new Tournament(FirstLegalComputerPlayer::new, FirstLegalComputerPlayer::new, new int[]{6}, 3, 7);
+        for (int gameIndex = 0; gameIndex < 10; gameIndex += 2) {
+            TournamentGameResult firstGame = tournament.playGame(gameIndex);
+            TournamentGameResult secondGame = tournament.playGame(gameIndex + 1);
+            assertEquals(firstGame.getFirstPlayerScore(), secondGame.getSecondPlayerScore());
+            assertEquals(firstGame.getSecondPlayerScore(), secondGame.getFirstPlayerScore());
+            assertEquals(firstGame.getNumberOfMoves(), secondGame.getNumberOfMoves());
+        }
+    }
+
+    @Test
+    void testTheComputerPlayersOfEachThreadAreReusedAndDisposed() {
+        AtomicInteger numberOfPlayers = new AtomicInteger();
+        AtomicInteger numberOfDisposedPlayers = new AtomicInteger();
+        Tournament tournament = new Tournament(
+                () -> new DisposableComputerPlayer(numberOfPlayers, numberOfDisposedPlayers),
+                () -> new DisposableComputerPlayer(numberOfPlayers, numberOfDisposedPlayers), new int[]{4}, 0, 0);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        tournament.play(10, pool, result -> {
+        });
+        pool.shutdown();
+        assertTrue(numberOfPlayers.get() <= 4);
+        assertEquals(0, numberOfPlayers.get() % 2);
+        assertEquals(numberOfPlayers.get(), numberOfDisposedPlayers.get());
+    }
+
+    @Test
+    void testEachGamePlayedAloneHasItsOwnComputerPlayers() {
+        AtomicInteger numberOfPlayers = new AtomicInteger();
+        AtomicInteger numberOfDisposedPlayers = new AtomicInteger();
+        Tournament tournament = new Tournament(
+                () -> new DisposableComputerPlayer(numberOfPlayers, numberOfDisposedPlayers),
+                () -> new DisposableComputerPlayer(numberOfPlayers, numberOfDisposedPlayers), new int[]{4}, 0, 0);
+        tournament.playGame(0);
+        tournament.playGame(1);
+        assertEquals(4, numberOfPlayers.get());
+        assertEquals(4, numberOfDisposedPlayers.get());
+    }
+
+    @Test
+    void testTheEloDifferenceFollowsTheScore() {
+        Tournament tournament = new Tournament(FirstLegalComputerPlayer::new, LastLegalComputerPlayer::new, new int[]{4}, 0, 0);
+        TournamentStandings standings = tournament.play(0, ForkJoinPool.commonPool(), result -> {
+        });
+        assertEquals(0, standings.getNumberOfGames());
+        assertEquals(0.5, standings.getScore());
+        assertEquals(0, standings.getEloDifference());
+        standings = tournament.play(8, ForkJoinPool.commonPool(), result -> {
+        });
+        double score = standings.getScore();
+        if (score > 0.5) assertTrue(standings.getEloDifference() > 0);
+        if (score < 0.5) assertTrue(standings.getEloDifference() < 0);
+        if (score == 1) assertEquals(Double.POSITIVE_INFINITY, standings.getEloDifference());
+    }
+
+    @Test
+    void testInvalidTournamentsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(FirstLegalComputerPlayer::new, FirstLegalComputerPlayer::new, new int[0], 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(FirstLegalComputerPlayer::new, FirstLegalComputerPlayer::new, new int[]{1}, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(FirstLegalComputerPlayer::new, FirstLegalComputerPlayer::new, new int[]{4}, -1, 0));
+    }
+
+    private static class FirstLegalComputerPlayer implements ComputerPlayer {
+        @Override
+        public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) {
+            return engine.getLegalPositions().first();
+        }
+    }
+
+    private static class LastLegalComputerPlayer implements ComputerPlayer {
+        @Override
+        public @Nullable Position chooseMove(@NotNull FreedomEngine<?> engine) {
+            return engine.getLegalPositions().last();
+        }
+    }
+
+    private static class DisposableComputerPlayer extends FirstLegalComputerPlayer {
+        private final AtomicInteger numberOfDisposedPlayers;
+
+        private DisposableComputerPlayer(AtomicInteger numberOfPlayers, AtomicInteger numberOfDisposedPlayers) {
+            this.numberOfDisposedPlayers = numberOfDisposedPlayers;
+            numberOfPlayers.incrementAndGet();
+        }
+
+        @Override
+        public void dispose() {
+            numberOfDisposedPlayers.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package game.jfr;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.GameProbe;
+import it.units.sdm.project.game.GameProbes;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.jfr.JfrGameProbe;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrGameProbeTests {
+
+    private final FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(4),
+            new Player(Color.WHITE, "white"), new Player(Color.BLACK, "black"), Stone::new);
+
+    @AfterEach
+    void uninstallProbe() {
+        GameProbes.install(GameProbe.DISABLED);
+    }
+
+    @Test
+    void testTheEventsAreRecorded(@TempDir Path directory) throws IOException {
+        JfrGameProbe.install();
+        Path recordingPath = directory.resolve("freedom.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("freedom.MoveApplied");
+            recording.enable("freedom.StatusComputed");
+            recording.enable("freedom.ScoreComputed");
+            recording.start();
+            engine.nextMove(Position.fromCoordinates(0, 0));
+            engine.nextMove(Position.fromCoordinates(1, 1));
+            new FreedomPointsCounter(engine.getBoard()).getScore();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().startsWith("freedom."))
+                .collect(Collectors.toList());
+        assertEquals(2, countEvents(events, "freedom.MoveApplied"));
+        assertEquals(2, countEvents(events, "freedom.StatusComputed"));
+        assertEquals(1, countEvents(events, "freedom.ScoreComputed"));
+        RecordedEvent scoreEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals("freedom.ScoreComputed"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(4, scoreEvent.getInt("boardSize"));
+        assertEquals(2 / 16f, scoreEvent.getFloat("fillLevel"));
+        assertTrue(scoreEvent.getLong("operationDuration") >= 0);
+    }
+
+    @Test
+    void testNothingIsRecordedWhenTheEventsAreDisabled(@TempDir Path directory) throws IOException {
+        JfrGameProbe.install();
+        Path recordingPath = directory.resolve("freedom.jfr");
+        try (Recording recording = new Recording()) {
+            recording.disable("freedom.MoveApplied");
+            recording.disable("freedom.StatusComputed");
+            recording.start();
+            engine.nextMove(Position.fromCoordinates(0, 0));
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+        assertTrue(RecordingFile.readAllEvents(recordingPath).stream()
+                .noneMatch(event -> event.getEventType().getName().startsWith("freedom.")));
+    }
+
+    private static long countEvents(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+}
@@ -0,0 +1,105 @@
+package game.metrics;
+
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.board.ArrayBoard;
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.board.Stone;
+import it.units.sdm.project.exceptions.InvalidPositionException;
+import it.units.sdm.project.game.FreedomEngine;
+import it.units.sdm.project.game.FreedomPointsCounter;
+import it.units.sdm.project.game.GameProbe;
+import it.units.sdm.project.game.GameProbes;
+import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.metrics.BoardSizeMetricsSnapshot;
+import it.units.sdm.project.game.metrics.EngineMetrics;
+import it.units.sdm.project.game.metrics.EngineMetricsSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.util.Objects;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.GAME_OVER;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineMetricsTests {
+
+    private final EngineMetrics metrics = new EngineMetrics();
+
+    @BeforeEach
+    void installMetrics() {
+        GameProbes.install(metrics);
+    }
+
+    @AfterEach
+    void uninstallMetrics() {
+        GameProbes.install(GameProbe.DISABLED);
+    }
+
+    @Test
+    void testNoMetricsAreCollectedBeforeTheFirstGame() {
+        EngineMetricsSnapshot snapshot = metrics.snapshot();
+        assertTrue(snapshot.getBoardSizeMetrics().isEmpty());
+        assertNull(snapshot.getBoardSizeMetrics(4));
+        assertEquals(0, snapshot.getNumberOfMovesApplied());
+    }
+
+    @Test
+    void testAWholeGameIsCounted() {
+        FreedomEngine<Stone> engine = playWholeGame(4);
+        assertThrows(InvalidPositionException.class, () -> engine.nextMove(Position.fromCoordinates(0, 0)));
+        new FreedomPointsCounter(engine.getBoard()).getScore();
+        BoardSizeMetricsSnapshot snapshot = Objects.requireNonNull(metrics.snapshot().getBoardSizeMetrics(4));
+        assertEquals(engine.getNumberOfMoves(), snapshot.getNumberOfMovesApplied());
+        assertEquals(1, snapshot.getNumberOfMovesRejected());
+        assertEquals(1, snapshot.getNumberOfGamesFinished());
+        assertEquals(engine.getNumberOfMoves(), snapshot.getMoveApplication().getCount());
+        // The status is also evaluated once when the engine is created
+        assertEquals(engine.getNumberOfMoves() + 1, snapshot.getStatusEvaluation().getCount());
+        assertEquals(1, snapshot.getScoring().getCount());
+        assertTrue(snapshot.getMoveApplication().getP99Nanoseconds() >= snapshot.getMoveApplication().getP50Nanoseconds());
+    }
+
+    @Test
+    void testTheMetricsAreSeparatedByBoardSize() {
+        FreedomEngine<Stone> smallGame = playWholeGame(4);
+        FreedomEngine<Stone> largeGame = playWholeGame(6);
+        EngineMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.getBoardSizeMetrics().size());
+        assertEquals(4, snapshot.getBoardSizeMetrics().get(0).getBoardSize());
+        assertEquals(6, snapshot.getBoardSizeMetrics().get(1).getBoardSize());
+        assertEquals(smallGame.getNumberOfMoves() + largeGame.getNumberOfMoves(), snapshot.getNumberOfMovesApplied());
+        assertEquals(2, snapshot.getNumberOfGamesFinished());
+    }
+
+    @Test
+    void testTheMetricsAreExposedThroughJmx() throws JMException {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.register(server);
+        FreedomEngine<Stone> engine = playWholeGame(4);
+        ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+        assertEquals((long) engine.getNumberOfMoves(), server.getAttribute(name, "NumberOfMovesApplied"));
+        assertEquals(1L, server.getAttribute(name, "NumberOfGamesFinished"));
+        CompositeData[] boardSizeMetrics = (CompositeData[]) server.getAttribute(name, "BoardSizeMetrics");
+        assertEquals(1, boardSizeMetrics.length);
+        assertEquals(4, boardSizeMetrics[0].get("boardSize"));
+        CompositeData moveApplication = (CompositeData) boardSizeMetrics[0].get("moveApplication");
+        assertEquals((long) engine.getNumberOfMoves(), moveApplication.get("count"));
+        assertTrue((long) moveApplication.get("p99Nanoseconds") > 0);
+        assertThrows(JMException.class, () -> new EngineMetrics().register(server));
+    }
+
+    private static FreedomEngine<Stone> playWholeGame(int boardSize) {
+        FreedomEngine<Stone> engine = new FreedomEngine<>(new ArrayBoard<>(boardSize),
+                new Player(Color.WHITE, "white"), new Player(Color.BLACK, "black"), Stone::new);
+        while (engine.getGameStatus() != GAME_OVER) {
+            engine.nextMove(engine.getLegalPositions().first());
+        }
+        return engine;
+    }
+}
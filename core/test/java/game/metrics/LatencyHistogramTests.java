@@ -0,0 +1,77 @@
+package game.metrics;
+
+import it.units.sdm.project.game.metrics.LatencyHistogram;
+import it.units.sdm.project.game.metrics.LatencyHistogramSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTests {
+
+    @Test
+    void testAnEmptyHistogramHasNoLatencies() {
+        LatencyHistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMeanNanoseconds());
+        assertEquals(0, snapshot.getP50Nanoseconds());
+        assertEquals(0, snapshot.getP99Nanoseconds());
+        assertEquals(0, snapshot.getMaxNanoseconds());
+    }
+
+    @Test
+    void testSmallLatenciesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int nanoseconds = 1; nanoseconds <= 20; nanoseconds++) {
+            histogram.record(nanoseconds);
+        }
+        LatencyHistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(20, snapshot.getCount());
+        assertEquals(10.5, snapshot.getMeanNanoseconds());
+        assertEquals(10, snapshot.getP50Nanoseconds());
+        assertEquals(20, snapshot.getP99Nanoseconds());
+        assertEquals(20, snapshot.getMaxNanoseconds());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1, 50, 90, 99, 99.9, 100})
+    void testPercentilesAreWithinTheBucketError(double percentile) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] latencies = new Random(42).longs(10_000, 1, 100_000_000).sorted().toArray();
+        for (long latency : latencies) {
+            histogram.record(latency);
+        }
+        long exactPercentile = latencies[(int) Math.ceil(percentile / 100 * latencies.length) - 1];
+        long percentileNanoseconds = histogram.snapshot().getPercentileNanoseconds(percentile);
+        assertTrue(percentileNanoseconds >= exactPercentile);
+        assertTrue(percentileNanoseconds <= exactPercentile + exactPercentile / 16);
+    }
+
+    @Test
+    void testExtremeLatenciesAreRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getPercentileNanoseconds(50));
+        assertEquals(Long.MAX_VALUE, snapshot.getP99Nanoseconds());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, 100.5, Double.NaN})
+    void testInvalidPercentilesAreRejected(double percentile) {
+        LatencyHistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileNanoseconds(percentile));
+    }
+
+    @Test
+    void testConcurrentRecordsAreAllCounted() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(histogram::record);
+        assertEquals(100_000, histogram.snapshot().getCount());
+    }
+}
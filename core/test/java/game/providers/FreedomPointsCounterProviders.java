@@ -86,7 +86,29 @@ public class FreedomPointsCounterProviders {
                                 + " 2 -  -  -  -  -  -  W  B\n"
                                 + " 1 -  -  -  -  -  -  -  -\n"
                                 + "   A  B  C  D  E  F  G  H",
-                        8, 1, 2)
+                        8, 1, 2),
+                Arguments.of(
+                        " 8 -  -  -  -  -  -  -  -\n"
+                                + " 7 -  -  -  -  -  -  -  -\n"
+                                + " 6 -  -  -  -  -  -  -  -\n"
+                                + " 5 B  -  -  -  W  -  -  -\n"
+                                + " 4 -  B  -  W  -  -  -  -\n"
+                                + " 3 -  -  W  -  -  -  -  -\n"
+                                + " 2 -  W  -  B  -  -  -  -\n"
+                                + " 1 W  -  -  -  B  -  -  -\n"
+                                + "   A  B  C  D  E  F  G  H",
+                        8, 0, 0),
+                Arguments.of(
+                        " 8 -  -  -  -  -  -  -  -\n"
+                                + " 7 -  -  -  -  -  -  -  -\n"
+                                + " 6 -  -  -  -  -  -  -  -\n"
+                                + " 5 -  -  -  -  W  -  -  -\n"
+                                + " 4 -  -  -  W  B  -  -  -\n"
+                                + " 3 -  -  W  -  -  B  -  -\n"
+                                + " 2 -  W  -  -  -  -  B  -\n"
+                                + " 1 -  -  -  -  -  -  -  B\n"
+                                + "   A  B  C  D  E  F  G  H",
+                        8, 1, 1)
         );
     }
 }
@@ -0,0 +1,63 @@
+package utility;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class AllocationMeter {
+    private static final int NUMBER_OF_WARMUP_CALLS = 20_000;
+    private static final int NUMBER_OF_MEASURED_CALLS = 100_000;
+
+    /**
+     * Measures the average number of bytes allocated by the current thread for each call of an operation.
+     * The operation is called many times before the measurement, so that one-off allocations like class
+     * initialization and lambda linkage are excluded, and the allocations of the measurement itself are
+     * subtracted by measuring an empty operation the same way.
+     * The test is skipped if the JVM can't measure the allocations of a thread.
+     * @param operation The operation to be measured
+     * @return The average number of bytes allocated by each call, rounded down
+     */
+    public static long measureAllocatedBytesPerCall(@NotNull Runnable operation) {
+        com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        long emptyOperationBytes = measureAllocatedBytes(threadMXBean, () -> {
+        });
+        long operationBytes = measureAllocatedBytes(threadMXBean, operation);
+        return Math.max(0, operationBytes - emptyOperationBytes) / NUMBER_OF_MEASURED_CALLS;
+    }
+
+    /**
+     * Asserts that an operation doesn't allocate more than its budget on each call, on average.
+     * @param operationName The name of the operation, shown if the assertion fails
+     * @param budgetBytesPerCall The maximum number of bytes each call can allocate
+     * @param operation The operation to be measured
+     */
+    public static void assertAllocationBudget(@NotNull String operationName, long budgetBytesPerCall, @NotNull Runnable operation) {
+        long allocatedBytesPerCall = measureAllocatedBytesPerCall(operation);
+        assertTrue(allocatedBytesPerCall <= budgetBytesPerCall, () -> operationName + " allocated "
+                + allocatedBytesPerCall + " bytes per call, but its budget is " + budgetBytesPerCall + " bytes");
+    }
+
+    private static @NotNull com.sun.management.ThreadMXBean getThreadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "The JVM can't measure the allocated bytes");
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "The JVM can't measure the allocated bytes");
+        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+
+    private static long measureAllocatedBytes(@NotNull com.sun.management.ThreadMXBean threadMXBean, @NotNull Runnable operation) {
+        for (int i = 0; i < NUMBER_OF_WARMUP_CALLS; i++) {
+            operation.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < NUMBER_OF_MEASURED_CALLS; i++) {
+            operation.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+    }
+}
@@ -0,0 +1,45 @@
+package utility;
+
+import it.units.sdm.project.board.Position;
+import it.units.sdm.project.game.FreedomEngine;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.GAME_OVER;
+
+public class FreedomRandomMovesUtils {
+    /**
+     * This method plays a legal {@link it.units.sdm.project.game.Move} chosen at random among the legal
+     * {@link Position}s of the {@link FreedomEngine}, sorted by the {@link Position} ordering, so that the same
+     * {@link Random} seed always plays the same game.
+     * @param engine The {@link FreedomEngine} the {@link it.units.sdm.project.game.Move} is played on, whose game
+     *               must not be over
+     * @param random The {@link Random} choosing the {@link Position}
+     * @return The played {@link Position}
+     */
+    public static @NotNull Position playRandomMove(@NotNull FreedomEngine<?> engine, @NotNull Random random) {
+        List<Position> legalPositions = new ArrayList<>(engine.getLegalPositions());
+        Position position = legalPositions.get(random.nextInt(legalPositions.size()));
+        engine.nextMove(position);
+        return position;
+    }
+
+    /**
+     * This method plays random legal {@link it.units.sdm.project.game.Move}s, as chosen by
+     * {@link FreedomRandomMovesUtils#playRandomMove(FreedomEngine, Random)}, until the stop condition holds
+     * or the game is over. The stop condition is checked before each {@link it.units.sdm.project.game.Move}.
+     * @param engine The {@link FreedomEngine} the {@link it.units.sdm.project.game.Move}s are played on
+     * @param random The {@link Random} choosing the {@link Position}s
+     * @param stopCondition The condition on the {@link FreedomEngine} stopping the game
+     */
+    public static void playRandomMoves(@NotNull FreedomEngine<?> engine, @NotNull Random random,
+                                       @NotNull Predicate<FreedomEngine<?>> stopCondition) {
+        while (engine.getGameStatus() != GAME_OVER && !stopCondition.test(engine)) {
+            playRandomMove(engine, random);
+        }
+    }
+}
@@ -2,14 +2,67 @@ package it.units.sdm.project;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.graphics.Color;
+import it.units.sdm.project.game.GameProbes;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
 import it.units.sdm.project.game.gui.FreedomGame;
+import it.units.sdm.project.game.jfr.JfrGameProbe;
+import it.units.sdm.project.game.metrics.EngineMetrics;
 
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 public class DesktopLauncher {
+	private static final long DEFAULT_THINKING_TIME_MILLIS = 1000;
+	private static final String USAGE = "Usage: DesktopLauncher [--white-ai <name>] [--black-ai <name>] [--think-ms <time>]\n"
+			+ "  --white-ai, --black-ai  Computer player controlling that colour, one of " + ComputerPlayerFactory.getNames() + "\n"
+			+ "  --think-ms              Computer player thinking time per move, between 1 and " + ComputerPlayerFactory.MAX_THINKING_TIME_MILLIS
+			+ " milliseconds (default " + DEFAULT_THINKING_TIME_MILLIS + ")";
+
+	// Accepts the same computer player options as the terminal launcher, e.g. --black-ai mcts --think-ms 500
 	public static void main (String[] arg) {
+		String whiteComputerPlayerName = null;
+		String blackComputerPlayerName = null;
+		long thinkingTimeMillis = DEFAULT_THINKING_TIME_MILLIS;
+		try {
+			for (int i = 0; i < arg.length; i += 2) {
+				if (arg[i].equals("--help")) {
+					System.out.println(USAGE);
+					return;
+				}
+				if (i + 1 == arg.length) {
+					throw new IllegalArgumentException("Option " + arg[i] + " needs a value");
+				}
+				switch (arg[i]) {
+					case "--white-ai":
+						ComputerPlayerFactory.validateName(arg[i + 1]);
+						whiteComputerPlayerName = arg[i + 1];
+						break;
+					case "--black-ai":
+						ComputerPlayerFactory.validateName(arg[i + 1]);
+						blackComputerPlayerName = arg[i + 1];
+						break;
+					case "--think-ms":
+						thinkingTimeMillis = ComputerPlayerFactory.parseThinkingTime(arg[i + 1]);
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown option: " + arg[i]);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage());
+			System.out.println(USAGE);
+			return;
+		}
+		GameProbes.install(GameProbes.combine(EngineMetrics.registerPlatformMBean(), new JfrGameProbe()));
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 		config.setForegroundFPS(60);
 		config.setTitle("SDM");
-		new Lwjgl3Application(new FreedomGame(), config);
+		FreedomGame game = new FreedomGame();
+		if (whiteComputerPlayerName != null) {
+			game.setComputerPlayer(Color.WHITE, ComputerPlayerFactory.create(whiteComputerPlayerName, thinkingTimeMillis));
+		}
+		if (blackComputerPlayerName != null) {
+			game.setComputerPlayer(Color.BLACK, ComputerPlayerFactory.create(blackComputerPlayerName, thinkingTimeMillis));
+		}
+		new Lwjgl3Application(game, config);
 	}
 }
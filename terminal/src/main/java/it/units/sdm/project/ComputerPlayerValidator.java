@@ -0,0 +1,25 @@
+package it.units.sdm.project;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class is used to validate the name of the {@link it.units.sdm.project.game.ComputerPlayer} controlling
+ * a {@link it.units.sdm.project.game.Player} in the terminal version of the {@link FreedomGame},
+ * which is given as a command line argument.
+ * The validation is done by implementing the {@link IParameterValidator} interface,
+ * which is part of the <a href="https://jcommander.org/">JCommander</a> project.
+ */
+public class ComputerPlayerValidator implements IParameterValidator {
+
+    @Override
+    public void validate(@NotNull String name, @NotNull String value) throws ParameterException {
+        try {
+            ComputerPlayerFactory.validateName(value);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException("Parameter " + name + " should be one of " + ComputerPlayerFactory.getNames());
+        }
+    }
+}
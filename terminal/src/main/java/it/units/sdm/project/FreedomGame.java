@@ -6,14 +6,10 @@ import it.units.sdm.project.board.Piece;
 import it.units.sdm.project.board.Stone;
 import it.units.sdm.project.exceptions.InvalidPositionException;
 import it.units.sdm.project.game.*;
-import it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus;
 import it.units.sdm.project.board.Board;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.LinkedList;
-import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
@@ -21,23 +17,18 @@ import static it.units.sdm.project.game.FreedomBoardStatusObserver.GameStatus.*;
 /**
  * This class represents a terminal-based implementation of the Freedom {@link BoardGame}.
  * Therefore, by default, user input is expected from {@code System.in} while the output gets printed on {@code System.out}.
+ * The game rules are enforced by a {@link FreedomEngine}, while this class only handles the input and the output.
  */
 public class FreedomGame implements BoardGame<Piece> {
 
     @NotNull
-    private final Player whitePlayer;
-    @NotNull
-    private final Player blackPlayer;
-    @NotNull
-    private final Board<Piece> board;
-    @NotNull
-    private GameStatus gameStatus;
-    @NotNull
-    private final LinkedList<Move> playersMovesHistory = new LinkedList<>();
+    private final FreedomEngine<Piece> engine;
     @NotNull
     private final TerminalInputReader userInput = new TerminalInputReader();
-    @NotNull
-    private final FreedomBoardStatusObserver statusObserver;
+    @Nullable
+    private ComputerPlayer whiteComputerPlayer;
+    @Nullable
+    private ComputerPlayer blackComputerPlayer;
 
     /**
      * Creates a new terminal based {@link FreedomGame}
@@ -46,11 +37,23 @@ public class FreedomGame implements BoardGame<Piece> {
      * @param blackPlayer The second {@link Player}
      */
     public FreedomGame(@NotNull Board<Piece> board, @NotNull Player whitePlayer, @NotNull Player blackPlayer) {
-        this.whitePlayer = whitePlayer;
-        this.blackPlayer = blackPlayer;
-        this.board = board;
-        statusObserver = new FreedomBoardStatusObserver(board);
-        gameStatus = statusObserver.getCurrentGameStatus(getLastMove());
+        engine = new FreedomEngine<>(board, whitePlayer, blackPlayer, Stone::new);
+    }
+
+    /**
+     * Lets a {@link ComputerPlayer} choose the {@link Move}s of the {@link Player} of the chosen {@link Color}
+     * @param color The {@link Color} of the {@link Player}, it can be either {@link Color#WHITE} or {@link Color#BLACK}
+     * @param computerPlayer The {@link ComputerPlayer}, or {@code null} to read the {@link Move}s from the user input
+     * @throws IllegalArgumentException In case the {@link Color} is neither {@link Color#WHITE} nor {@link Color#BLACK}
+     */
+    public void setComputerPlayer(@NotNull Color color, @Nullable ComputerPlayer computerPlayer) throws IllegalArgumentException {
+        if (color == Color.WHITE) {
+            whiteComputerPlayer = computerPlayer;
+        } else if (color == Color.BLACK) {
+            blackComputerPlayer = computerPlayer;
+        } else {
+            throw new IllegalArgumentException("The color can be either white or black");
+        }
     }
 
     /**
@@ -61,12 +64,11 @@ public class FreedomGame implements BoardGame<Piece> {
     public void start() {
         System.out.println("Welcome to Freedom!");
         System.out.println("Game starting up, clearing board...\n");
-        board.clearBoard();
-        gameStatus = statusObserver.getCurrentGameStatus(getLastMove());
-        while (gameStatus != GAME_OVER) {
+        engine.reset();
+        while (engine.getGameStatus() != GAME_OVER) {
             playTurn();
         }
-        System.out.println(board);
+        System.out.println(getBoard());
         System.out.println();
         System.out.println("The game is over!");
         displayTheWinner();
@@ -74,9 +76,14 @@ public class FreedomGame implements BoardGame<Piece> {
     }
 
     private void playTurn() {
+        ComputerPlayer computerPlayer = getNextComputerPlayer();
+        if (computerPlayer != null) {
+            playComputerTurn(computerPlayer);
+            return;
+        }
         printPromptForPlayerFeedback(getNextPlayer());
-        if (gameStatus == LAST_MOVE && userInput.isLastMoveAPass()) {
-            gameStatus = GAME_OVER;
+        if (engine.getGameStatus() == LAST_MOVE && userInput.isLastMoveAPass()) {
+            engine.passLastMove();
         } else {
             Position chosenPosition = getPositionFromUser();
             nextMove(chosenPosition);
@@ -84,11 +91,31 @@ public class FreedomGame implements BoardGame<Piece> {
         System.out.println();
     }
 
+    private void playComputerTurn(@NotNull ComputerPlayer computerPlayer) {
+        System.out.println(getBoard());
+        System.out.println();
+        System.out.println(getNextPlayer().getUsername() + " is thinking...");
+        Position chosenPosition = computerPlayer.chooseMove(engine);
+        if (chosenPosition == null) {
+            System.out.println(getNextPlayer().getUsername() + " passes the last move");
+            engine.passLastMove();
+        } else {
+            System.out.println(getNextPlayer().getUsername() + " plays " + chosenPosition);
+            nextMove(chosenPosition);
+        }
+        System.out.println();
+    }
+
+    private @Nullable ComputerPlayer getNextComputerPlayer() {
+        if (getNextPlayer().getColor() == Color.WHITE) return whiteComputerPlayer;
+        return blackComputerPlayer;
+    }
+
     private void printPromptForPlayerFeedback(@NotNull Player player) {
-        System.out.println(board);
+        System.out.println(getBoard());
         System.out.println();
         System.out.println(player.getUsername() + ", it's your turn!");
-        if(gameStatus == LAST_MOVE) {
+        if(engine.getGameStatus() == LAST_MOVE) {
             System.out.println("You can decide to either play or pass");
             System.out.print("Do you want to pass? (Yes/No): ");
         }
@@ -98,20 +125,16 @@ public class FreedomGame implements BoardGame<Piece> {
     private Position getPositionFromUser() {
         while (true) {
             displayValidPositions();
-            System.out.print("Move " + (playersMovesHistory.size() + 1) + ": ");
+            System.out.print("Move " + (engine.getNumberOfMoves() + 1) + ": ");
             Position chosenPosition = userInput.getPosition();
-            try {
-                if (isChosenPositionValid(chosenPosition)) {
-                    return chosenPosition;
-                }
-            } catch (InvalidPositionException exception) {
-                System.out.println("The specified cell is outside of the board range!");
+            if (isChosenPositionValid(chosenPosition)) {
+                return chosenPosition;
             }
         }
     }
 
     private void displayValidPositions() {
-        switch (gameStatus) {
+        switch (engine.getGameStatus()) {
             case FREEDOM:
                 System.out.println("Pick any empty cell!");
                 break;
@@ -120,36 +143,27 @@ public class FreedomGame implements BoardGame<Piece> {
                 break;
             default:
                 System.out.print("Yuo can pick one of the following positions: ");
-                Position lastPosition = Objects.requireNonNull(getLastMove(),
-                        "There should be at least one move stored already when in NO_FREEDOM state").getPosition();
-                String formattedAdjacentPositions = board.getAdjacentPositions(lastPosition).stream()
-                        .sorted()
+                String formattedLegalPositions = engine.getLegalPositions().stream()
                         .map(Position::toString)
                         .collect(Collectors.joining(", "));
-                System.out.println(formattedAdjacentPositions);
+                System.out.println(formattedLegalPositions);
         }
     }
 
-
-    private boolean isChosenPositionValid(Position chosenPosition) throws InvalidPositionException {
-        if (board.isCellOccupied(chosenPosition)) {
+    private boolean isChosenPositionValid(@NotNull Position chosenPosition) {
+        if (engine.isPositionLegal(chosenPosition)) return true;
+        if (!getBoard().contains(chosenPosition.getRow(), chosenPosition.getColumn())) {
+            System.out.println("The specified cell is outside of the board range!");
+        } else if (getBoard().isCellOccupied(chosenPosition)) {
             System.out.println("The picked cell is already occupied!");
-            return false;
-        }
-        if (gameStatus == NO_FREEDOM) {
-            Position lastPosition = Objects.requireNonNull(getLastMove(),
-                    "There should be at least one move stored already when in NO_FREEDOM state").getPosition();
-            Set<Position> adjacentPositions = board.getAdjacentPositions(lastPosition);
-            if (!adjacentPositions.contains(chosenPosition)) {
-                System.out.println("The specified cell is not adjacent to the last occupied one!");
-                return false;
-            }
+        } else {
+            System.out.println("The specified cell is not adjacent to the last occupied one!");
         }
-        return true;
+        return false;
     }
 
     private void displayTheWinner() {
-        Color winnerColor = statusObserver.getCurrentWinner();
+        Color winnerColor = engine.getStatusObserver().getCurrentWinner();
         if (winnerColor == null) {
             System.out.println("Tie!");
         } else {
@@ -158,44 +172,43 @@ public class FreedomGame implements BoardGame<Piece> {
     }
     private @NotNull Player getPlayerFromColor(@NotNull Color playerColor) throws IllegalArgumentException {
         if(playerColor == Color.WHITE) {
-            return whitePlayer;
+            return getWhitePlayer();
         } else if (playerColor == Color.BLACK) {
-            return blackPlayer;
+            return getBlackPlayer();
         }
         throw new IllegalArgumentException("The color can be either white or black");
     }
 
     @Override
     public @NotNull Board<Piece> getBoard() {
-        return board;
+        return engine.getBoard();
     }
 
     @Override
     public @NotNull Player getWhitePlayer() {
-        return whitePlayer;
+        return engine.getWhitePlayer();
     }
 
     @Override
     public @NotNull Player getBlackPlayer() {
-        return blackPlayer;
+        return engine.getBlackPlayer();
     }
 
     @Override
     public @Nullable Move getLastMove() {
-        if (playersMovesHistory.isEmpty()) return null;
-        return playersMovesHistory.getLast();
+        return engine.getLastMove();
     }
 
     @Override
-    public void nextMove(@NotNull Position position) {
-        board.putPiece(new Stone(getNextPlayer().getColor()), position);
-        playersMovesHistory.add(new Move(getNextPlayer(), position));
-        gameStatus = statusObserver.getCurrentGameStatus(getLastMove());
+    public void nextMove(@NotNull Position position) throws InvalidPositionException {
+        engine.nextMove(position);
     }
 
     @Override
     public void reset() {
-        board.clearBoard();
+        engine.reset();
         userInput.close();
+        if (whiteComputerPlayer != null) whiteComputerPlayer.dispose();
+        if (blackComputerPlayer != null) blackComputerPlayer.dispose();
     }
 }
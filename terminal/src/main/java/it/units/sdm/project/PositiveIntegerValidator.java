@@ -0,0 +1,25 @@
+package it.units.sdm.project;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class is used to validate the counts given as command line arguments in the terminal version of the
+ * {@link FreedomGame}, like the number of games of a tournament, which must be positive integers.
+ * The validation is done by implementing the {@link IParameterValidator} interface,
+ * which is part of the <a href="https://jcommander.org/">JCommander</a> project.
+ */
+public class PositiveIntegerValidator implements IParameterValidator {
+
+    @Override
+    public void validate(@NotNull String name, @NotNull String value) throws ParameterException {
+        try {
+            if (Integer.parseInt(value) <= 0) {
+                throw new ParameterException("Parameter " + name + " should be a positive integer");
+            }
+        } catch (NumberFormatException e) {
+            throw new ParameterException("Parameter " + name + " needs to be a positive integer");
+        }
+    }
+}
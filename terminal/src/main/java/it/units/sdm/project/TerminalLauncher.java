@@ -4,15 +4,33 @@ import com.badlogic.gdx.graphics.Color;
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
 import com.beust.jcommander.ParameterException;
+import com.beust.jcommander.converters.PathConverter;
+import it.units.sdm.project.board.ArrayBoard;
 import it.units.sdm.project.board.Board;
-import it.units.sdm.project.board.MapBoard;
 import it.units.sdm.project.board.Piece;
+import it.units.sdm.project.game.ComputerPlayer;
+import it.units.sdm.project.game.GameProbes;
 import it.units.sdm.project.game.Player;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
+import it.units.sdm.project.game.ai.OpeningBook;
+import it.units.sdm.project.game.ai.OpeningBookBuilder;
+import it.units.sdm.project.game.ai.OpeningBookComputerPlayer;
+import it.units.sdm.project.game.ai.PerfectComputerPlayer;
+import it.units.sdm.project.game.ai.PerfectPlaySolver;
+import it.units.sdm.project.game.ai.SolutionTable;
+import it.units.sdm.project.game.jfr.JfrGameProbe;
+import it.units.sdm.project.game.metrics.EngineMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * This class holds the terminal-based {@link FreedomGame}'s entry point.
  */
 public class TerminalLauncher {
+    private static final String TOURNAMENT_COMMAND = "tournament";
     private static final String ASCII_LOGO = " ________                                  __                       \n" +
             "|        \\                                |  \\                      \n" +
             "| ▓▓▓▓▓▓▓▓ ______   ______   ______   ____| ▓▓ ______  ______ ____  \n" +
@@ -37,28 +55,141 @@ public class TerminalLauncher {
     @Parameter(names = {"--black-username"}, description = "Black player username", validateWith = NameSizeValidator.class)
     private String blackPlayerUsername = "player_two";
 
+    @Parameter(names = {"--white-ai"}, description = "Computer player controlling the white player", validateWith = ComputerPlayerValidator.class)
+    private String whiteComputerPlayerName;
+
+    @Parameter(names = {"--black-ai"}, description = "Computer player controlling the black player", validateWith = ComputerPlayerValidator.class)
+    private String blackComputerPlayerName;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--think-ms"}, description = "Computer player thinking time per move, in milliseconds", validateWith = ThinkingTimeValidator.class)
+    private int thinkingTimeMillis = 1000;
+
+    @Parameter(names = {"--solution-table"}, description = "Solution table file looked up by the computer players before searching", converter = PathConverter.class)
+    private Path solutionTablePath;
+
+    @Parameter(names = {"--solve"}, description = "Solves the board of the chosen size, writes the solution table to the file and exits", converter = PathConverter.class)
+    private Path solveOutputPath;
+
+    @Parameter(names = {"--opening-book"}, description = "Opening book file consulted by the computer players before searching", converter = PathConverter.class)
+    private Path openingBookPath;
+
+    @Parameter(names = {"--build-opening-book"}, description = "Builds an opening book for the chosen size from self-play games, writes it to the file and exits", converter = PathConverter.class)
+    private Path openingBookOutputPath;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--book-games"}, description = "Number of self-play games used to build the opening book", validateWith = PositiveIntegerValidator.class)
+    private int openingBookGames = 100;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--book-moves"}, description = "Number of moves of each self-play game added to the opening book, half of which are random", validateWith = PositiveIntegerValidator.class)
+    private int openingBookMoves = 6;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--book-player"}, description = "Computer player playing the self-play games of the opening book", validateWith = ComputerPlayerValidator.class)
+    private String openingBookPlayerName = ComputerPlayerFactory.ALPHA_BETA;
+
     /**
      * The terminal-based {@link FreedomGame}'s entry point
      * @param args Command-line-supplied arguments
      */
     public static void main(String[] args) {
+        GameProbes.install(GameProbes.combine(EngineMetrics.registerPlatformMBean(), new JfrGameProbe()));
         TerminalLauncher launcher = new TerminalLauncher();
+        TournamentCommand tournamentCommand = new TournamentCommand();
+        JCommander commander = JCommander.newBuilder()
+                .addObject(launcher)
+                .addCommand(TOURNAMENT_COMMAND, tournamentCommand)
+                .build();
         try {
-            JCommander.newBuilder()
-                    .addObject(launcher)
-                    .build()
-                    .parse(args);
+            commander.parse(args);
         } catch (ParameterException e) {
             System.out.println(e.getMessage());
             e.usage();
             return;
         }
+        if (TOURNAMENT_COMMAND.equals(commander.getParsedCommand())) {
+            tournamentCommand.run();
+            return;
+        }
+        if (launcher.solveOutputPath != null) {
+            launcher.solve(launcher.solveOutputPath);
+            return;
+        }
+        if (launcher.openingBookOutputPath != null) {
+            launcher.buildOpeningBook(launcher.openingBookOutputPath);
+            return;
+        }
+        SolutionTable solutionTable = null;
+        if (launcher.solutionTablePath != null) {
+            try {
+                solutionTable = SolutionTable.load(launcher.solutionTablePath);
+            } catch (IOException e) {
+                System.out.println("Can't load the solution table: " + e.getMessage());
+                return;
+            }
+        }
+        OpeningBook openingBook = null;
+        if (launcher.openingBookPath != null) {
+            try {
+                openingBook = OpeningBook.load(launcher.openingBookPath);
+            } catch (IOException e) {
+                System.out.println("Can't load the opening book: " + e.getMessage());
+                return;
+            }
+        }
 
-        Board<Piece> board = new MapBoard<>(launcher.boardSize);
+        Board<Piece> board = new ArrayBoard<>(launcher.boardSize);
         Player whitePlayer = new Player(Color.WHITE, launcher.whitePlayerUsername);
         Player blackPlayer = new Player(Color.BLACK, launcher.blackPlayerUsername);
         FreedomGame freedomGame = new FreedomGame(board, whitePlayer, blackPlayer);
+        freedomGame.setComputerPlayer(Color.WHITE, launcher.createComputerPlayer(launcher.whiteComputerPlayerName, solutionTable, openingBook));
+        freedomGame.setComputerPlayer(Color.BLACK, launcher.createComputerPlayer(launcher.blackComputerPlayerName, solutionTable, openingBook));
         System.out.print(ASCII_LOGO);
         freedomGame.start();
     }
+
+    private @Nullable ComputerPlayer createComputerPlayer(@Nullable String computerPlayerName, @Nullable SolutionTable solutionTable,
+                                                          @Nullable OpeningBook openingBook) {
+        if (computerPlayerName == null) return null;
+        ComputerPlayer computerPlayer = ComputerPlayerFactory.create(computerPlayerName, thinkingTimeMillis);
+        if (openingBook != null) computerPlayer = new OpeningBookComputerPlayer(openingBook, computerPlayer);
+        if (solutionTable == null) return computerPlayer;
+        return new PerfectComputerPlayer(solutionTable, computerPlayer);
+    }
+
+    private void solve(@NotNull Path outputPath) {
+        if (boardSize > PerfectPlaySolver.MAX_BOARD_SIZE) {
+            System.out.println("Only boards up to " + PerfectPlaySolver.MAX_BOARD_SIZE + "x" + PerfectPlaySolver.MAX_BOARD_SIZE + " can be solved");
+            return;
+        }
+        System.out.println("Solving the " + boardSize + "x" + boardSize + " board...");
+        long startTime = System.currentTimeMillis();
+        PerfectPlaySolver solver = new PerfectPlaySolver(boardSize);
+        try {
+            SolutionTable solutionTable = solver.solve();
+            solutionTable.write(outputPath);
+            System.out.println("Solved " + solutionTable.getNumberOfPositions() + " positions in "
+                    + (System.currentTimeMillis() - startTime) + " ms, written to " + outputPath);
+        } catch (IllegalStateException | IOException e) {
+            System.out.println("Can't solve the board: " + e.getMessage());
+        }
+    }
+
+    private void buildOpeningBook(@NotNull Path outputPath) {
+        System.out.println("Playing " + openingBookGames + " games on the " + boardSize + "x" + boardSize + " board...");
+        long startTime = System.currentTimeMillis();
+        ComputerPlayer computerPlayer = ComputerPlayerFactory.create(openingBookPlayerName, thinkingTimeMillis);
+        try {
+            OpeningBookBuilder builder = new OpeningBookBuilder(boardSize, openingBookMoves);
+            builder.addSelfPlayGames(computerPlayer, openingBookGames, openingBookMoves / 2, startTime);
+            builder.write(outputPath);
+            System.out.println("Collected " + builder.getNumberOfEntries() + " moves from " + builder.getNumberOfGames()
+                    + " games in " + (System.currentTimeMillis() - startTime) + " ms, written to " + outputPath);
+        } catch (IllegalArgumentException | IOException e) {
+            System.out.println("Can't build the opening book: " + e.getMessage());
+        } finally {
+            computerPlayer.dispose();
+        }
+    }
 }
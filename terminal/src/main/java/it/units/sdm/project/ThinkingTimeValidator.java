@@ -0,0 +1,26 @@
+package it.units.sdm.project;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class is used to validate the time a {@link it.units.sdm.project.game.ComputerPlayer} can spend choosing
+ * each move in the terminal version of the {@link FreedomGame}, which is given as a command line argument in milliseconds.
+ * The range is checked by {@link ComputerPlayerFactory#parseThinkingTime(String)}, like in the desktop launcher.
+ * The validation is done by implementing the {@link IParameterValidator} interface,
+ * which is part of the <a href="https://jcommander.org/">JCommander</a> project.
+ */
+public class ThinkingTimeValidator implements IParameterValidator {
+
+    @Override
+    public void validate(@NotNull String name, @NotNull String value) throws ParameterException {
+        try {
+            ComputerPlayerFactory.parseThinkingTime(value);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException("Parameter " + name + " needs to be an integer between 1 and "
+                    + ComputerPlayerFactory.MAX_THINKING_TIME_MILLIS);
+        }
+    }
+}
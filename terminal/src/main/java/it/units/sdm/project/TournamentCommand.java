@@ -0,0 +1,159 @@
+package it.units.sdm.project;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import com.beust.jcommander.converters.PathConverter;
+import it.units.sdm.project.game.ai.ComputerPlayerFactory;
+import it.units.sdm.project.game.ai.Tournament;
+import it.units.sdm.project.game.ai.TournamentGameResult;
+import it.units.sdm.project.game.ai.TournamentStandings;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * This class holds the options of the {@code tournament} command of the {@link TerminalLauncher}, which plays many
+ * games between two {@link it.units.sdm.project.game.ComputerPlayer}s and reports the results. The result of each
+ * game is written as a comma-separated line as soon as the game finishes, and the standings are printed periodically
+ * and at the end. Since the computer players think for a wall-clock time, the games played in parallel times the
+ * search threads of each computer player can't exceed the available processors, so that every game gets its own
+ * processors and the results don't depend on the load.
+ */
+@Parameters(commandDescription = "Plays a tournament between two computer players")
+public class TournamentCommand {
+    private static final int PROGRESS_INTERVAL = 100;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--first-ai"}, description = "First computer player", validateWith = ComputerPlayerValidator.class)
+    private String firstComputerPlayerName = ComputerPlayerFactory.ALPHA_BETA;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--second-ai"}, description = "Second computer player", validateWith = ComputerPlayerValidator.class)
+    private String secondComputerPlayerName = ComputerPlayerFactory.MCTS;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--first-think-ms"}, description = "First computer player thinking time per move, in milliseconds", validateWith = ThinkingTimeValidator.class)
+    private int firstThinkingTimeMillis = 100;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--second-think-ms"}, description = "Second computer player thinking time per move, in milliseconds", validateWith = ThinkingTimeValidator.class)
+    private int secondThinkingTimeMillis = 100;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--games"}, description = "Number of games", validateWith = PositiveIntegerValidator.class)
+    private int numberOfGames = 100;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--sizes"}, description = "Comma-separated board sizes, played in rotation")
+    private List<Integer> boardSizes = Arrays.asList(8);
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--random-moves"}, description = "Number of random moves starting each pair of games")
+    private int numberOfRandomMoves = 2;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--threads"}, description = "Number of games played in parallel", validateWith = PositiveIntegerValidator.class)
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--player-threads"}, description = "Number of search threads of each multi-threaded computer player", validateWith = PositiveIntegerValidator.class)
+    private int playerParallelism = 1;
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @Parameter(names = {"--seed"}, description = "Seed of the random moves")
+    private long seed = 0;
+
+    @Parameter(names = {"--results"}, description = "File the result of each game is written to, as comma-separated values", converter = PathConverter.class)
+    private Path resultsPath;
+
+    /**
+     * Plays the tournament, writing the results to the results file, or to the standard output if there's none
+     */
+    public void run() {
+        Tournament tournament;
+        try {
+            // The players take turns, so each game keeps busy the threads of one player at a time
+            int searchThreadsPerGame = Math.max(
+                    ComputerPlayerFactory.getNumberOfThreads(firstComputerPlayerName, playerParallelism),
+                    ComputerPlayerFactory.getNumberOfThreads(secondComputerPlayerName, playerParallelism));
+            int availableProcessors = Runtime.getRuntime().availableProcessors();
+            if ((long) parallelism * searchThreadsPerGame > availableProcessors) {
+                throw new IllegalArgumentException("--threads " + parallelism + " times " + searchThreadsPerGame
+                        + " search threads per game exceeds the " + availableProcessors + " available processors");
+            }
+            tournament = new Tournament(
+                    () -> ComputerPlayerFactory.create(firstComputerPlayerName, firstThinkingTimeMillis, playerParallelism),
+                    () -> ComputerPlayerFactory.create(secondComputerPlayerName, secondThinkingTimeMillis, playerParallelism),
+                    boardSizes.stream().mapToInt(Integer::intValue).toArray(), numberOfRandomMoves, seed);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Can't play the tournament: " + e.getMessage());
+            return;
+        }
+        System.out.println("Playing " + numberOfGames + " games of " + firstComputerPlayerName + " against "
+                + secondComputerPlayerName + " on " + parallelism + " threads...");
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long startTime = System.currentTimeMillis();
+        try (PrintWriter resultsWriter = openResultsWriter()) {
+            resultsWriter.println(TournamentGameResult.CSV_HEADER);
+            TournamentStandings standings = tournament.play(numberOfGames, pool, new ResultsListener(resultsWriter));
+            // PrintWriter swallows the I/O errors, which would silently lose some of the results
+            if (resultsWriter.checkError()) {
+                System.out.println("Can't write the results" + (resultsPath == null ? "" : " to " + resultsPath)
+                        + ", some of them are lost");
+            }
+            System.out.println(firstComputerPlayerName + " against " + secondComputerPlayerName + ": " + standings
+                    + " in " + (System.currentTimeMillis() - startTime) + " ms");
+        } catch (IOException e) {
+            System.out.println("Can't write the results: " + e.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private @NotNull PrintWriter openResultsWriter() throws IOException {
+        if (resultsPath == null) {
+            return new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
+                @Override
+                public void close() {
+                    flush();
+                }
+            };
+        }
+        return new PrintWriter(Files.newBufferedWriter(resultsPath, StandardCharsets.UTF_8));
+    }
+
+    private class ResultsListener implements Consumer<TournamentGameResult> {
+        @NotNull
+        private final PrintWriter resultsWriter;
+        private int numberOfFinishedGames;
+        private int numberOfFirstPlayerHalfPoints;
+
+        private ResultsListener(@NotNull PrintWriter resultsWriter) {
+            this.resultsWriter = resultsWriter;
+        }
+
+        @Override
+        public synchronized void accept(@NotNull TournamentGameResult result) {
+            resultsWriter.println(result.toCsvLine());
+            numberOfFinishedGames++;
+            numberOfFirstPlayerHalfPoints += result.getFirstPlayerHalfPoints();
+            if (numberOfFinishedGames % PROGRESS_INTERVAL == 0) {
+                resultsWriter.flush();
+                if (resultsPath != null) {
+                    System.out.println(numberOfFinishedGames + "/" + numberOfGames + " games, score of "
+                            + firstComputerPlayerName + " " + numberOfFirstPlayerHalfPoints / (2.0 * numberOfFinishedGames));
+                }
+            }
+        }
+    }
+}
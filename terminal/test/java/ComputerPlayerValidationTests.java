@@ -0,0 +1,25 @@
+import com.beust.jcommander.ParameterException;
+import it.units.sdm.project.ComputerPlayerValidator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ComputerPlayerValidationTests {
+    private final ComputerPlayerValidator validator = new ComputerPlayerValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"mcts", "alphabeta"})
+    void testComputerPlayerValidationWithCorrectValues(String inputValue) {
+        assertDoesNotThrow(() -> validator.validate("White computer player", inputValue));
+    }
+
+    @ParameterizedTest
+    @EmptySource
+    @ValueSource(strings = {"MCTS", "random"})
+    void testComputerPlayerValidationWithIncorrectValues(String inputValue) {
+        assertThrows(ParameterException.class, () -> validator.validate("White computer player", inputValue));
+    }
+}
@@ -0,0 +1,42 @@
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import it.units.sdm.project.PositiveIntegerValidator;
+import it.units.sdm.project.TerminalLauncher;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PositiveIntegerValidationTests {
+    private final PositiveIntegerValidator validator = new PositiveIntegerValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "16", "100000"})
+    void testPositiveIntegerValidationWithCorrectValues(String inputValue) {
+        assertDoesNotThrow(() -> validator.validate("Games", inputValue));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"0", "-5", "1.5", "text"})
+    void testPositiveIntegerValidationWithIncorrectValues(String inputValue) {
+        assertThrows(ParameterException.class, () -> validator.validate("Games", inputValue));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"--book-games, 0", "--book-games, -5", "--book-moves, 0", "--book-moves, -5"})
+    void testOpeningBookOptionsRejectNonPositiveValues(String option, String inputValue) {
+        JCommander commander = JCommander.newBuilder().addObject(new TerminalLauncher()).build();
+        assertThrows(ParameterException.class, () -> commander.parse(option, inputValue));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"--book-games, 1", "--book-games, 200", "--book-moves, 1", "--book-moves, 8"})
+    void testOpeningBookOptionsAcceptPositiveValues(String option, String inputValue) {
+        JCommander commander = JCommander.newBuilder().addObject(new TerminalLauncher()).build();
+        assertDoesNotThrow(() -> commander.parse(option, inputValue));
+    }
+}
@@ -0,0 +1,25 @@
+import com.beust.jcommander.ParameterException;
+import it.units.sdm.project.ThinkingTimeValidator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThinkingTimeValidationTests {
+    private final ThinkingTimeValidator validator = new ThinkingTimeValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "500", "60000"})
+    void testThinkingTimeValidationWithCorrectValues(String inputValue) {
+        assertDoesNotThrow(() -> validator.validate("Thinking time", inputValue));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"0", "-5", "60001", "text"})
+    void testThinkingTimeValidationWithIncorrectValues(String inputValue) {
+        assertThrows(ParameterException.class, () -> validator.validate("Thinking time", inputValue));
+    }
+}